@@ -0,0 +1,157 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryClinicConnectSystemStorage;
+import seedu.address.storage.CachedClinicConnectSystemStorage;
+import seedu.address.storage.ClinicConnectSystemFileConverter;
+import seedu.address.storage.ClinicConnectSystemStorage;
+import seedu.address.storage.JournaledClinicConnectSystemStorage;
+import seedu.address.storage.JsonClinicConnectSystemStorage;
+import seedu.address.storage.SegmentedClinicConnectSystemStorage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up the config, the user prefs and the storage of the app from their files, for both the GUI started by
+ * {@link MainApp} and the headless {@link BatchApp}.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields.
+        //The file is left untouched if it is unchanged.
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields.
+        //The file is left untouched if it is unchanged.
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns the {@code ClinicConnectSystemStorage} for the data file format chosen in {@code userPrefs}.
+     * {@link #convertClinicConnectSystemFile(ReadOnlyUserPrefs)} should be called before its data file is read.
+     */
+    public static ClinicConnectSystemStorage initClinicConnectSystemStorage(ReadOnlyUserPrefs userPrefs) {
+        ClinicConnectSystemStorage snapshotStorage = createSnapshotStorages(userPrefs).get(getChosenFormat(userPrefs));
+        return userPrefs.isClinicConnectSystemJournaled()
+                ? new JournaledClinicConnectSystemStorage(snapshotStorage)
+                : snapshotStorage;
+    }
+
+    /**
+     * Converts the data file in another format into the data file format chosen in {@code userPrefs}, if it was
+     * modified after the data file in that format, e.g. because the user edited the data before switching back to
+     * that format. This reads and writes a whole data file, so it is done on the thread that loads the data.
+     */
+    public static void convertClinicConnectSystemFile(ReadOnlyUserPrefs userPrefs) {
+        List<ClinicConnectSystemStorage> snapshotStorages = createSnapshotStorages(userPrefs);
+        ClinicConnectSystemStorage chosenStorage = snapshotStorages.remove(getChosenFormat(userPrefs));
+        ClinicConnectSystemFileConverter.convertIfNewer(snapshotStorages, chosenStorage);
+    }
+
+    /**
+     * Returns the storages of the data file in each format, in the order json, binary and segmented.
+     */
+    private static List<ClinicConnectSystemStorage> createSnapshotStorages(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getClinicConnectSystemFilePath();
+        // The json file is parsed again only when it has changed since the last start
+        ClinicConnectSystemStorage jsonStorage = new CachedClinicConnectSystemStorage(
+                new JsonClinicConnectSystemStorage(jsonFilePath, userPrefs.isClinicConnectSystemFilePrettyPrinted()));
+        ClinicConnectSystemStorage binaryStorage =
+                new BinaryClinicConnectSystemStorage(BinaryClinicConnectSystemStorage.getBinaryFilePath(jsonFilePath));
+        ClinicConnectSystemStorage segmentedStorage = new SegmentedClinicConnectSystemStorage(
+                SegmentedClinicConnectSystemStorage.getManifestFilePath(jsonFilePath));
+        return new ArrayList<>(List.of(jsonStorage, binaryStorage, segmentedStorage));
+    }
+
+    /**
+     * Returns the index in {@link #createSnapshotStorages(ReadOnlyUserPrefs)} of the format chosen in
+     * {@code userPrefs}.
+     */
+    private static int getChosenFormat(ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.isClinicConnectSystemSegmented()) {
+            return 2;
+        } else if (userPrefs.isClinicConnectSystemFileBinary()) {
+            return 1;
+        } else {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.commandresult.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
+import seedu.address.storage.ClinicConnectSystemStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands without the GUI, e.g. to import the patients and appointments of a partner clinic.
+ * Each line of the script is executed as a command through {@link Logic#execute(String)}, without starting the
+ * JavaFX toolkit. Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped.
+ * The changes are saved once the script has run, instead of after every command, and also after every given
+ * number of commands if a save interval is given.
+ */
+public class BatchApp {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_LINE_FAILED = "Line %d: %s";
+    public static final String MESSAGE_SUMMARY = "Executed %d command(s), %d failed.";
+    public static final String MESSAGE_DATA_NOT_LOADED = "Data file at %s could not be loaded. No commands were run.";
+    public static final String MESSAGE_SCRIPT_NOT_READ = "Script %s could not be read: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    private final VersionedModel model;
+    private final Storage storage;
+    private final Logic logic;
+    private final int saveInterval;
+    private final PrintStream out;
+    private final List<String> saveErrors = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * Creates a {@code BatchApp} that runs commands on {@code model}, saves the changes into {@code storage} after
+     * every {@code saveInterval} commands, or only at the end if it is 0, and reports failures to {@code out}.
+     */
+    public BatchApp(VersionedModel model, Storage storage, int saveInterval, PrintStream out) {
+        this.model = model;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+        this.out = out;
+        logic = new LogicManager(model, storage);
+        logic.setSaveDeferred(true);
+        logic.setSaveFailureHandler(saveErrors::add);
+    }
+
+    /**
+     * Sets up the storage and the model as the GUI does, with the parameters in {@code args}, then runs the
+     * script given in them.
+     * Unlike the GUI, a missing data file is started empty instead of with sample data, and a data file that
+     * cannot be loaded stops the script from running, so that it is not overwritten.
+     *
+     * @return the exit status of the app, which is 0 if every command was executed and the data was saved.
+     */
+    public static int run(String[] args, PrintStream out) {
+        BatchParameters parameters = BatchParameters.parse(args);
+        Config config = AppInitializer.initConfig(parameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        AppInitializer.convertClinicConnectSystemFile(userPrefs);
+        ClinicConnectSystemStorage clinicConnectSystemStorage =
+                AppInitializer.initClinicConnectSystemStorage(userPrefs);
+        Storage storage = new StorageManager(clinicConnectSystemStorage, userPrefsStorage);
+
+        Optional<ReadOnlyClinicConnectSystem> data;
+        try {
+            data = storage.readClinicConnectSystem();
+        } catch (DataLoadingException e) {
+            out.println(String.format(MESSAGE_DATA_NOT_LOADED, storage.getClinicConnectSystemFilePath()));
+            return 1;
+        }
+        VersionedModel model = new ModelManager(data.orElseGet(ClinicConnectSystem::new), userPrefs);
+        // The data is already in the data file, so only the changes made by the script need to be saved
+        model.takeClinicConnectSystemChanges();
+
+        String scriptName = parameters.getScriptPath() == null ? "standard input"
+                : parameters.getScriptPath().toString();
+        try (BufferedReader script = parameters.getScriptPath() == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(parameters.getScriptPath(), StandardCharsets.UTF_8)) {
+            return new BatchApp(model, storage, parameters.getSaveInterval(), out).run(script) ? 0 : 1;
+        } catch (IOException ioe) {
+            out.println(String.format(MESSAGE_SCRIPT_NOT_READ, scriptName, ioe.getMessage()));
+            return 1;
+        }
+    }
+
+    /**
+     * Executes each command in {@code script} until its end, or until a command asks the app to exit, then saves
+     * the changes. Commands that fail are reported with their line number, and the rest of the script still runs.
+     *
+     * @return true if every command was executed and the changes were saved.
+     * @throws IOException if the script could not be read. The changes made so far are saved first.
+     */
+    public boolean run(BufferedReader script) throws IOException {
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failedCount = 0;
+        try {
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.strip();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    failedCount++;
+                    out.println(String.format(MESSAGE_LINE_FAILED, lineNumber, e.getMessage()));
+                }
+                if (saveInterval > 0 && commandCount % saveInterval == 0) {
+                    logic.saveChanges();
+                }
+            }
+        } finally {
+            save();
+            out.println(String.format(MESSAGE_SUMMARY, commandCount, failedCount));
+        }
+        return failedCount == 0 && saveErrors.isEmpty();
+    }
+
+    /**
+     * Saves the changes that have not been saved yet, and waits until they are in the data file.
+     */
+    private void save() {
+        logic.saveChanges();
+        try {
+            logic.flushChanges();
+            storage.checkpointClinicConnectSystem(model.getClinicConnectSystem());
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+            saveErrors.add(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+        for (String saveError : saveErrors) {
+            out.println(saveError);
+        }
+    }
+}
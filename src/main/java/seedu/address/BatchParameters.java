@@ -0,0 +1,158 @@
+package seedu.address;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the parsed command-line parameters given to the application to run a script of commands without
+ * the GUI, e.g. {@code --batch script.txt --save-every=500}.
+ */
+public class BatchParameters {
+
+    public static final String BATCH_OPTION = "--batch";
+    public static final String SAVE_EVERY_OPTION = "--save-every";
+    public static final String CONFIG_OPTION = "--config";
+
+    /** Script given to {@value #BATCH_OPTION} to read the commands from the standard input instead of a file. */
+    public static final String STANDARD_INPUT_SCRIPT = "-";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchParameters.class);
+
+    private Path scriptPath;
+    private Path configPath;
+    private int saveInterval;
+
+    /**
+     * Returns the script to run, or null if the commands are read from the standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public Path getConfigPath() {
+        return configPath;
+    }
+
+    public void setConfigPath(Path configPath) {
+        this.configPath = configPath;
+    }
+
+    /**
+     * Returns the number of commands after which the changes are saved, or 0 if they are only saved at the end.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Returns true if {@code args} ask for a script of commands to be run without the GUI.
+     */
+    public static boolean isBatch(String[] args) {
+        return Arrays.stream(args).anyMatch(arg -> arg.equals(BATCH_OPTION) || arg.startsWith(BATCH_OPTION + "="));
+    }
+
+    /**
+     * Parses the command-line arguments {@code args}, each option being given either as {@code --option=value}
+     * or as {@code --option value}. Invalid values are logged and replaced with their defaults.
+     */
+    public static BatchParameters parse(String[] args) {
+        BatchParameters batchParameters = new BatchParameters();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            String option = arg;
+            String value = null;
+            int separatorIndex = option.indexOf('=');
+            if (separatorIndex >= 0) {
+                value = option.substring(separatorIndex + 1);
+                option = option.substring(0, separatorIndex);
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                value = args[++i];
+            }
+
+            switch (option) {
+            case BATCH_OPTION:
+                batchParameters.setScriptPath(parseScriptPath(value));
+                break;
+            case SAVE_EVERY_OPTION:
+                batchParameters.setSaveInterval(parseSaveInterval(value));
+                break;
+            case CONFIG_OPTION:
+                batchParameters.setConfigPath(parseConfigPath(value));
+                break;
+            default:
+                logger.warning("Unknown batch parameter " + arg + " is ignored.");
+                break;
+            }
+        }
+        return batchParameters;
+    }
+
+    private static Path parseScriptPath(String value) {
+        if (value == null || value.isEmpty() || value.equals(STANDARD_INPUT_SCRIPT)) {
+            return null;
+        }
+        return Paths.get(value);
+    }
+
+    private static int parseSaveInterval(String value) {
+        if (value != null && value.matches("\\d{1,9}")) {
+            return Integer.parseInt(value);
+        }
+        logger.warning("Invalid save interval " + value + ". Saving only once the script has run.");
+        return 0;
+    }
+
+    private static Path parseConfigPath(String value) {
+        if (value == null || !FileUtil.isValidPath(value)) {
+            logger.warning("Invalid config path " + value + ". Using default config path.");
+            return null;
+        }
+        return Paths.get(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchParameters)) {
+            return false;
+        }
+
+        BatchParameters otherBatchParameters = (BatchParameters) other;
+        return Objects.equals(scriptPath, otherBatchParameters.scriptPath)
+                && Objects.equals(configPath, otherBatchParameters.configPath)
+                && saveInterval == otherBatchParameters.saveInterval;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scriptPath, configPath, saveInterval);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("configPath", configPath)
+                .add("saveInterval", saveInterval)
+                .toString();
+    }
+}
@@ -25,6 +25,10 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (BatchParameters.isBatch(args)) {
+            // Scripts are run without the GUI, so JavaFX is never started
+            System.exit(BatchApp.run(args, System.out));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
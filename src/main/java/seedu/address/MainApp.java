@@ -3,33 +3,36 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWorker;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.ClinicConnectSystem;
-import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.ClinicConnectSystemStorage;
-import seedu.address.storage.JsonClinicConnectSystemStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
+import seedu.address.ui.UiPreloader;
 
 /**
  * Runs the application.
@@ -42,38 +45,85 @@ public class MainApp extends Application {
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandWorker commandWorker;
     protected Storage storage;
-    protected Model model;
+    protected VersionedModel model;
     protected Config config;
 
+    private final StartupTimer startupTimer = new StartupTimer();
+    private CompletableFuture<Void> uiPreloaded;
+    private CompletableFuture<Void> dataLoaded;
+    private Integer apiPort;
+    private ApiServer apiServer;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing ClinicConnectSystem ]===========================");
         super.init();
 
+        // Preloading the UI does not need any of the files read below, so it is done alongside reading them
+        uiPreloaded = runPhaseInBackground("Preload UI", "ClinicConnectSystem-ui-preloader", UiPreloader::preload);
+
+        StartupTimer.Phase phase = startupTimer.startPhase("Read config");
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        apiPort = appParameters.getApiPort();
         initLogging(config);
+        phase.end();
 
+        phase = startupTimer.startPhase("Read preferences");
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        phase.end();
+
+        phase = startupTimer.startPhase("Open data storage");
         ClinicConnectSystemStorage clinicConnectSystemStorage =
-                new JsonClinicConnectSystemStorage(userPrefs.getClinicConnectSystemFilePath());
+                AppInitializer.initClinicConnectSystemStorage(userPrefs);
         storage = new StorageManager(clinicConnectSystemStorage, userPrefsStorage);
+        phase.end();
+
+        // The data file is converted if needed and loaded alongside showing the window, so that a large data file
+        // does not delay it
+        model = new ModelManager(new ClinicConnectSystem(), userPrefs);
 
-        model = initModelManager(storage, userPrefs);
+        logic = new LogicManager(model, storage, false);
 
-        logic = new LogicManager(model, storage);
+        // The model is only used on the command worker, so that commands do not hold up the JavaFX application thread
+        commandWorker = new CommandWorker(logic, Platform::runLater);
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, commandWorker);
+
+        dataLoaded = runPhaseInBackground("Load data file", "ClinicConnectSystem-loader", () -> {
+            AppInitializer.convertClinicConnectSystemFile(userPrefs);
+            ReadOnlyClinicConnectSystem initialData = initClinicConnectSystem(storage);
+            commandWorker.execute(() -> logic.setLoadedClinicConnectSystem(initialData));
+        });
+    }
+
+    /**
+     * Runs {@code task} as the startup phase {@code phaseName}, on a new daemon thread named {@code threadName}.
+     */
+    private CompletableFuture<Void> runPhaseInBackground(String phaseName, String threadName, Runnable task) {
+        return CompletableFuture.runAsync(() -> {
+            StartupTimer.Phase phase = startupTimer.startPhase(phaseName);
+            try {
+                task.run();
+            } finally {
+                phase.end();
+            }
+        }, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        });
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyClinicConnectSystem initClinicConnectSystem(Storage storage) {
         logger.info("Using data file : " + storage.getClinicConnectSystemFilePath());
 
         Optional<ReadOnlyClinicConnectSystem> clinicConnectSystemOptional;
@@ -85,12 +135,26 @@ public class MainApp extends Application {
                         + " populated with a sample ClinicConnectSystem.");
             }
             initialData = clinicConnectSystemOptional.orElseGet(SampleDataUtil::getSampleClinicConnectSystem);
+            if (!clinicConnectSystemOptional.isPresent()) {
+                saveInitialData(storage, initialData);
+            }
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getClinicConnectSystemFilePath() + " could not be loaded."
                     + " Will be starting with an empty ClinicConnectSystem.");
             initialData = new ClinicConnectSystem();
         }
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Saves {@code initialData} as the new data file, as commands only save the data file once they change the data.
+     */
+    private void saveInitialData(Storage storage, ReadOnlyClinicConnectSystem initialData) {
+        try {
+            storage.saveClinicConnectSystem(initialData);
+        } catch (IOException e) {
+            logger.warning("Failed to save data file : " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -98,89 +162,87 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+        return AppInitializer.initConfig(configFilePath);
+    }
 
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
+     */
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        return AppInitializer.initPrefs(storage);
+    }
 
-        logger.info("Using config file : " + configFilePathUsed);
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting ClinicConnectSystem " + MainApp.VERSION);
+        StartupTimer.Phase phase = startupTimer.startPhase("Show main window");
+        ui.start(primaryStage);
+        phase.end();
 
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
+        if (apiPort != null) {
+            startApiServer(apiPort);
         }
 
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        CompletableFuture.allOf(uiPreloaded, dataLoaded).whenComplete((unused, error) -> {
+            if (error != null) {
+                logger.severe("Startup did not complete: " + StringUtil.getDetails(error));
+            }
+            logger.info(startupTimer.getBreakdown());
+        });
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Starts serving the HTTP API on {@code port}, with the commands it executes run on the command worker, like
+     * those entered in the GUI.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
+    private void startApiServer(int port) {
         try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
+            apiServer = new ApiServer(logic, commandWorker, port, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+            apiServer.start();
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning("Failed to serve the HTTP API on port " + port + " : " + StringUtil.getDetails(e));
         }
-
-        return initializedPrefs;
-    }
-
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting ClinicConnectSystem " + MainApp.VERSION);
-        ui.start(primaryStage);
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ClinicConnectSystem ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        // The data is saved on the command worker after the commands already submitted, as only the worker
+        // changes the model
+        commandWorker.execute(this::saveClinicConnectSystem);
+        if (!commandWorker.shutdown()) {
+            logger.severe("The data file may not have been saved, as commands were still running on exit");
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
     }
+
+    /**
+     * Saves the changes not yet saved to the data file, and compacts it. Runs on the command worker.
+     */
+    private void saveClinicConnectSystem() {
+        if (!logic.isClinicConnectSystemLoaded()) {
+            // The model does not hold the data file yet, so it must not be saved over it
+            return;
+        }
+        try {
+            logic.flushChanges();
+            storage.checkpointClinicConnectSystem(model.getClinicConnectSystem());
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
+    }
 }
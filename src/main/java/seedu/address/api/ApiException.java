@@ -0,0 +1,22 @@
+package seedu.address.api;
+
+/**
+ * Represents an error in handling a request to the HTTP API, which is reported to the client with its HTTP status
+ * code and message.
+ */
+public class ApiException extends Exception {
+
+    private final int statusCode;
+
+    /**
+     * Constructs a new {@code ApiException} with the HTTP {@code statusCode} and the detail {@code message}.
+     */
+    public ApiException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
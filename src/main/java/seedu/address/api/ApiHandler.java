@@ -0,0 +1,267 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ClinicConnectSystemSnapshot;
+
+/**
+ * Handles the requests to one resource of the HTTP API, and responds to them in JSON.
+ * Requests that only read are handled on the threads of the server, from the latest snapshot of the address book.
+ * Requests that make changes call {@code Logic} through the logic executor, which runs one task at a time on the
+ * thread that owns the model, e.g. the thread of the command worker.
+ */
+abstract class ApiHandler implements HttpHandler {
+
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_CREATED = 201;
+    public static final int STATUS_BAD_REQUEST = 400;
+    public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_PAYLOAD_TOO_LARGE = 413;
+    public static final int STATUS_UNPROCESSABLE = 422;
+    public static final int STATUS_INTERNAL_ERROR = 500;
+    public static final int STATUS_UNAVAILABLE = 503;
+    public static final int STATUS_TIMED_OUT = 504;
+
+    public static final String MESSAGE_NOT_FOUND = "There is no resource at %s.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%s is not allowed on %s.";
+    public static final String MESSAGE_BODY_TOO_LARGE = "The request body is larger than %d bytes.";
+    public static final String MESSAGE_INVALID_JSON = "The request body is not valid JSON: %s";
+    public static final String MESSAGE_TIMED_OUT = "The request could not be handled in time. Please try again.";
+    public static final String MESSAGE_OUTCOME_UNKNOWN = "The request is still being handled, so whether it "
+            + "succeeded is not known yet. Please check its outcome before trying again.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled due to an internal error.";
+
+    /** Longest time a request waits for {@code Logic} before it is given up. */
+    static final long LOGIC_TIMEOUT_SECONDS = 30;
+
+    static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiHandler.class);
+
+    private final Logic logic;
+    private final Executor logicExecutor;
+
+    /**
+     * Creates an {@code ApiHandler} that calls {@code logic} through {@code logicExecutor}.
+     */
+    ApiHandler(Logic logic, Executor logicExecutor) {
+        requireNonNull(logic);
+        requireNonNull(logicExecutor);
+        this.logic = logic;
+        this.logicExecutor = logicExecutor;
+    }
+
+    /**
+     * A task that calls {@code Logic} on the logic executor.
+     */
+    @FunctionalInterface
+    interface LogicTask<T> {
+        T run(Logic logic) throws CommandException, ParseException, ApiException;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            handleRequest(exchange);
+        } catch (ApiException ae) {
+            sendJson(exchange, ae.getStatusCode(), Map.of("error", ae.getMessage()));
+        } catch (RuntimeException re) {
+            logger.severe("Failed to handle " + exchange.getRequestMethod() + " " + exchange.getRequestURI()
+                    + ": " + StringUtil.getDetails(re));
+            sendJson(exchange, STATUS_INTERNAL_ERROR, Map.of("error", MESSAGE_INTERNAL_ERROR));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Handles the request in {@code exchange} and sends the response to it.
+     *
+     * @throws ApiException if the request cannot be handled, which is then responded to with its status code.
+     */
+    protected abstract void handleRequest(HttpExchange exchange) throws IOException, ApiException;
+
+    /**
+     * Returns the latest snapshot of the address book, without waiting for the logic executor.
+     *
+     * @throws ApiException if the data is still loading.
+     */
+    protected ClinicConnectSystemSnapshot readSnapshot() throws ApiException {
+        if (!logic.isClinicConnectSystemLoaded()) {
+            throw new ApiException(STATUS_UNAVAILABLE, LogicManager.MESSAGE_STILL_LOADING);
+        }
+        return logic.getClinicConnectSystemSnapshot();
+    }
+
+    /**
+     * Runs {@code task} on the logic executor and returns its result.
+     * The task should convert what it reads from the model into objects for the response, as the model may
+     * change as soon as the task has returned.
+     *
+     * @throws ApiException if the data is still loading, the task fails or the task does not finish in time.
+     */
+    protected <T> T callLogic(LogicTask<T> task) throws ApiException {
+        return callLogic(task, TimeUnit.SECONDS.toMillis(LOGIC_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Runs {@code task} on the logic executor and returns its result, waiting at most {@code timeoutMillis}.
+     * If the task has not started by then, it is cancelled and will not run, so the request can safely be tried
+     * again. If it has started, it is left to finish and the request is answered as having an unknown outcome.
+     */
+    <T> T callLogic(LogicTask<T> task, long timeoutMillis) throws ApiException {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        // Set by whichever comes first: the task starting, or the request giving it up
+        AtomicBoolean isClaimed = new AtomicBoolean();
+        try {
+            logicExecutor.execute(() -> {
+                if (!isClaimed.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    if (!logic.isClinicConnectSystemLoaded()) {
+                        throw new ApiException(STATUS_UNAVAILABLE, LogicManager.MESSAGE_STILL_LOADING);
+                    }
+                    result.complete(task.run(logic));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException | IllegalStateException e) {
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_TIMED_OUT);
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof ApiException) {
+                throw (ApiException) cause;
+            } else if (cause instanceof ParseException) {
+                throw new ApiException(STATUS_BAD_REQUEST, cause.getMessage());
+            } else if (cause instanceof CommandException) {
+                throw new ApiException(STATUS_UNPROCESSABLE, cause.getMessage());
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException te) {
+            throw giveUp(isClaimed);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw giveUp(isClaimed);
+        }
+    }
+
+    /**
+     * Gives up waiting for a task, cancelling it if it has not been claimed by the logic executor yet.
+     * Returns the {@code ApiException} to respond with.
+     */
+    private static ApiException giveUp(AtomicBoolean isClaimed) {
+        if (isClaimed.compareAndSet(false, true)) {
+            return new ApiException(STATUS_UNAVAILABLE, MESSAGE_TIMED_OUT);
+        }
+        logger.warning("A request to the logic executor timed out while it was being handled");
+        return new ApiException(STATUS_TIMED_OUT, MESSAGE_OUTCOME_UNKNOWN);
+    }
+
+    /**
+     * Returns an {@code ApiException} with status 405 as {@code exchange} uses a method the resource does not allow.
+     */
+    protected static ApiException methodNotAllowed(HttpExchange exchange, String allowedMethods) {
+        exchange.getResponseHeaders().set("Allow", allowedMethods);
+        return new ApiException(STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                exchange.getRequestMethod(), exchange.getRequestURI().getPath()));
+    }
+
+    /**
+     * Returns an {@code ApiException} with status 404 as there is nothing at the path requested by {@code exchange}.
+     */
+    protected static ApiException notFound(HttpExchange exchange) {
+        return new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND,
+                exchange.getRequestURI().getPath()));
+    }
+
+    /**
+     * Returns the parameters in the query of the URI requested by {@code exchange}. If a parameter is given more
+     * than once, the last value is used.
+     */
+    protected static Map<String, String> getQueryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separatorIndex = parameter.indexOf('=');
+            String name = separatorIndex >= 0 ? parameter.substring(0, separatorIndex) : parameter;
+            String value = separatorIndex >= 0 ? parameter.substring(separatorIndex + 1) : "";
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Reads the JSON body of the request in {@code exchange} into an instance of {@code bodyClass}.
+     *
+     * @throws ApiException if the body is too large or is not valid JSON for {@code bodyClass}.
+     */
+    protected static <T> T readJsonBody(HttpExchange exchange, Class<T> bodyClass) throws IOException, ApiException {
+        byte[] body;
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            body = requestBody.readNBytes(MAX_BODY_BYTES + 1);
+        }
+        if (body.length > MAX_BODY_BYTES) {
+            throw new ApiException(STATUS_PAYLOAD_TOO_LARGE, String.format(MESSAGE_BODY_TOO_LARGE, MAX_BODY_BYTES));
+        }
+
+        try {
+            T value = JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8), bodyClass);
+            if (value == null) {
+                throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_JSON, "it is empty"));
+            }
+            return value;
+        } catch (IOException ioe) {
+            throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_JSON,
+                    ioe.getMessage().lines().findFirst().orElse("")));
+        }
+    }
+
+    /**
+     * Sends {@code body}, converted to JSON, as the response to {@code exchange} with the status {@code statusCode}.
+     */
+    protected static void sendJson(HttpExchange exchange, int statusCode, Object body) throws IOException {
+        byte[] json = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, json.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(json);
+        }
+    }
+}
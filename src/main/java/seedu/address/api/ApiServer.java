@@ -0,0 +1,158 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+
+/**
+ * Serves the local HTTP API, through which other systems of the clinic, e.g. kiosks and reminder services, look up
+ * patients, find appointments and book them, without going through the GUI.
+ * The server only listens on the loopback address, so it cannot be reached from other machines.
+ * Requests are handled concurrently by at most a given number of threads, which are virtual threads on a JDK that
+ * has them, while the calls to {@code Logic} are all run one at a time by the given logic executor.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 16;
+
+    /** Seconds that the server waits for the requests being handled when it is stopped. */
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final HttpServer server;
+    private final BoundedExecutor requestExecutor;
+    private final boolean isUsingVirtualThreads;
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, or on any free port if it is 0, which
+     * calls {@code logic} only through {@code logicExecutor}, and handles at most {@code maxConcurrentRequests}
+     * requests at a time. The server is only started by {@link #start()}.
+     *
+     * @param logicExecutor the executor that runs tasks on the thread that owns the model, one at a time, e.g.
+     *     the {@code CommandWorker} that also runs the commands entered by the user.
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor logicExecutor, int port, int maxConcurrentRequests) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(logicExecutor);
+        assert maxConcurrentRequests > 0;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PatientHandler.PATH, new PatientHandler(logic, logicExecutor));
+        server.createContext(AppointmentHandler.PATH, new AppointmentHandler(logic, logicExecutor));
+        ExecutorService threadsExecutor = createVirtualThreadsExecutor();
+        isUsingVirtualThreads = threadsExecutor != null;
+        if (!isUsingVirtualThreads) {
+            threadsExecutor = createPlatformThreadsExecutor();
+        }
+        requestExecutor = new BoundedExecutor(threadsExecutor, maxConcurrentRequests);
+        server.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the HTTP API at http://" + server.getAddress().getHostString() + ":" + getPort()
+                + " with " + (isUsingVirtualThreads ? "virtual" : "platform") + " threads.");
+    }
+
+    /**
+     * Stops serving requests, waiting briefly for the requests being handled to finish.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        requestExecutor.shutdown();
+        logger.info("Stopped serving the HTTP API.");
+    }
+
+    /**
+     * Returns the port that the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns true if each request is handled on a new virtual thread, which is the case on a JDK that has them.
+     */
+    public boolean isUsingVirtualThreads() {
+        return isUsingVirtualThreads;
+    }
+
+    private static ExecutorService createPlatformThreadsExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ClinicConnectSystem-api-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns an executor that runs each task on a new virtual thread, or null if this JDK does not have them.
+     * The executor is looked up reflectively, as the app is built for a JDK without virtual threads.
+     */
+    private static ExecutorService createVirtualThreadsExecutor() {
+        try {
+            Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            // Not available, or only available as a preview feature that is not enabled
+            return null;
+        }
+    }
+
+    /**
+     * Runs tasks on another executor, with at most a given number of them running at a time.
+     * While that many tasks are running, submitting another task waits until one of them finishes, so that the
+     * server stops accepting connections instead of queueing them without bound.
+     */
+    private static class BoundedExecutor implements Executor {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        BoundedExecutor(ExecutorService delegate, int maxConcurrentTasks) {
+            this.delegate = delegate;
+            permits = new Semaphore(maxConcurrentTasks);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            permits.acquireUninterruptibly();
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException ree) {
+                permits.release();
+                throw ree;
+            }
+        }
+
+        void shutdown() {
+            delegate.shutdown();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.api;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BookApptCommand;
+import seedu.address.logic.commands.commandresult.CommandResult;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.healthservice.HealthService;
+
+/**
+ * Handles the requests to {@code /api/appointments}.
+ * {@code GET /api/appointments?end=YYYY-MM-DD[&start=YYYY-MM-DD][&service=HEALTH SERVICE]} responds with the
+ * appointments found as the {@code filter} command finds them, without changing the appointments shown in the app.
+ * {@code GET /api/appointments?service=HEALTH SERVICE&limit=N[&start=YYYY-MM-DD][&end=YYYY-MM-DD]} responds with
+ * the first {@code N} appointments for the health service from the start date (or from now) up to the end date
+ * (or with no end), visiting only the appointments returned.
+ * {@code POST /api/appointments} with a JSON body {@code {"nric": ..., "dateTime": "YYYY-MM-DD HH:MM",
+ * "healthService": ...}} books the appointment as the {@code bookappt} command does.
+ */
+class AppointmentHandler extends ApiHandler {
+
+    public static final String PATH = "/api/appointments";
+
+    public static final String START_DATE_PARAMETER = "start";
+    public static final String END_DATE_PARAMETER = "end";
+    public static final String HEALTH_SERVICE_PARAMETER = "service";
+    public static final String LIMIT_PARAMETER = "limit";
+
+    public static final String MESSAGE_MISSING_END_DATE = "The " + END_DATE_PARAMETER
+            + " query parameter is required to find appointments.";
+    public static final String MESSAGE_MISSING_HEALTH_SERVICE = "The " + HEALTH_SERVICE_PARAMETER
+            + " query parameter is required to find upcoming appointments.";
+    public static final String MESSAGE_INVALID_LIMIT = "The " + LIMIT_PARAMETER
+            + " query parameter should be a positive integer.";
+
+    AppointmentHandler(Logic logic, Executor logicExecutor) {
+        super(logic, logicExecutor);
+    }
+
+    @Override
+    protected void handleRequest(HttpExchange exchange) throws IOException, ApiException {
+        if (!exchange.getRequestURI().getPath().equals(PATH)) {
+            throw notFound(exchange);
+        }
+
+        switch (exchange.getRequestMethod()) {
+        case "GET":
+            findAppts(exchange);
+            break;
+        case "POST":
+            bookAppt(exchange);
+            break;
+        default:
+            throw methodNotAllowed(exchange, "GET, POST");
+        }
+    }
+
+    private void findAppts(HttpExchange exchange) throws IOException, ApiException {
+        Map<String, String> parameters = getQueryParameters(exchange);
+        List<FilteredAppointment> found;
+        try {
+            if (parameters.containsKey(LIMIT_PARAMETER)) {
+                found = findUpcomingAppts(parameters);
+            } else {
+                found = readSnapshot().filterAppts(parseDateFilter(parameters));
+            }
+        } catch (ParseException pe) {
+            throw new ApiException(STATUS_BAD_REQUEST, pe.getMessage());
+        }
+
+        List<JsonApiAppointment> appointments = found.stream()
+                .map(JsonApiAppointment::new)
+                .collect(Collectors.toList());
+        sendJson(exchange, STATUS_OK, appointments);
+    }
+
+    /**
+     * Returns the first appointments for the health service in the query {@code parameters}, up to their limit,
+     * from their start date, or from now if there is none, up to their end date, inclusive, if there is one.
+     */
+    private List<FilteredAppointment> findUpcomingAppts(Map<String, String> parameters)
+            throws ParseException, ApiException {
+        int limit = parseLimit(parameters.get(LIMIT_PARAMETER));
+
+        String serviceString = parameters.get(HEALTH_SERVICE_PARAMETER);
+        if (serviceString == null) {
+            throw new ParseException(MESSAGE_MISSING_HEALTH_SERVICE);
+        }
+        HealthService service = ParserUtil.parseHealthService(serviceString);
+
+        String startDateString = parameters.get(START_DATE_PARAMETER);
+        String endDateString = parameters.get(END_DATE_PARAMETER);
+        LocalDate endDate = endDateString == null ? null : ParserUtil.parseDate(endDateString);
+        LocalDateTime from;
+        if (startDateString == null) {
+            from = LocalDateTime.now();
+        } else {
+            LocalDate startDate = endDate == null
+                    ? ParserUtil.parseDate(startDateString)
+                    : ParserUtil.parseStartDateAndCheck(startDateString, endDate);
+            from = startDate.atStartOfDay();
+        }
+        LocalDateTime to = endDate == null ? null : endDate.plusDays(1).atStartOfDay();
+
+        return readSnapshot().getUpcomingAppts(service, from, to, limit);
+    }
+
+    /**
+     * Parses {@code limitString} into the positive number of appointments to find.
+     */
+    static int parseLimit(String limitString) throws ParseException {
+        int limit;
+        try {
+            limit = Integer.parseInt(limitString.trim());
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT, nfe);
+        }
+        if (limit <= 0) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return limit;
+    }
+
+    private void bookAppt(HttpExchange exchange) throws IOException, ApiException {
+        BookApptCommand command;
+        try {
+            command = readJsonBody(exchange, JsonApiBookingRequest.class).toCommand();
+        } catch (ParseException pe) {
+            throw new ApiException(STATUS_BAD_REQUEST, pe.getMessage());
+        }
+
+        CommandResult commandResult = callLogic(logic -> logic.execute(command));
+        sendJson(exchange, STATUS_CREATED, Map.of("message", commandResult.getFeedbackToUser()));
+    }
+
+    /**
+     * Parses the query {@code parameters} into the filter of the appointments to find, validating them as the
+     * {@code filter} command validates its arguments.
+     */
+    static AppointmentDateFilter parseDateFilter(Map<String, String> parameters) throws ParseException {
+        String endDateString = parameters.get(END_DATE_PARAMETER);
+        if (endDateString == null) {
+            throw new ParseException(MESSAGE_MISSING_END_DATE);
+        }
+
+        LocalDate endDate;
+        LocalDate startDate = null;
+        HealthService service = null;
+
+        String startDateString = parameters.get(START_DATE_PARAMETER);
+        if (startDateString != null) {
+            endDate = ParserUtil.parseDate(endDateString);
+            startDate = ParserUtil.parseStartDateAndCheck(startDateString, endDate);
+        } else {
+            // if start date not present, end date should not be before today's date
+            endDate = ParserUtil.parseEndDateAndCheck(endDateString);
+        }
+
+        String serviceString = parameters.get(HEALTH_SERVICE_PARAMETER);
+        if (serviceString != null) {
+            service = ParserUtil.parseHealthService(serviceString);
+        }
+        return new AppointmentDateFilter(startDate, endDate, service);
+    }
+}
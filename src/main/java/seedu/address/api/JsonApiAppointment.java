@@ -0,0 +1,25 @@
+package seedu.address.api;
+
+import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.patient.Appt;
+
+/**
+ * Jackson-friendly version of {@link FilteredAppointment}, as returned by the HTTP API.
+ */
+class JsonApiAppointment {
+
+    private final String nric;
+    private final String name;
+    private final String dateTime;
+    private final String healthService;
+
+    /**
+     * Converts a given {@code FilteredAppointment} into this class for Jackson use.
+     */
+    public JsonApiAppointment(FilteredAppointment source) {
+        nric = source.getPatient().getNric().toString();
+        name = source.getPatient().getName().toString();
+        dateTime = source.getAppt().getDateTime().format(Appt.STRICT_FORMATTER);
+        healthService = source.getAppt().getHealthService().toString();
+    }
+}
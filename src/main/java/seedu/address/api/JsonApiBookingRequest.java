@@ -0,0 +1,50 @@
+package seedu.address.api;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.logic.commands.BookApptCommand;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Jackson-friendly version of a request to the HTTP API to book an appointment.
+ */
+class JsonApiBookingRequest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "The %s field of the appointment is missing.";
+
+    private final String nric;
+    private final String dateTime;
+    private final String healthService;
+
+    /**
+     * Constructs a {@code JsonApiBookingRequest} with the given appointment details.
+     */
+    @JsonCreator
+    public JsonApiBookingRequest(@JsonProperty("nric") String nric, @JsonProperty("dateTime") String dateTime,
+            @JsonProperty("healthService") String healthService) {
+        this.nric = nric;
+        this.dateTime = dateTime;
+        this.healthService = healthService;
+    }
+
+    /**
+     * Converts this request into the command that books its appointment, validating the fields as the
+     * {@code bookappt} command does.
+     *
+     * @throws ParseException if a field is missing or invalid.
+     */
+    public BookApptCommand toCommand() throws ParseException {
+        if (nric == null) {
+            throw new ParseException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "nric"));
+        }
+        if (dateTime == null) {
+            throw new ParseException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "dateTime"));
+        }
+        if (healthService == null) {
+            throw new ParseException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "healthService"));
+        }
+        return new BookApptCommand(ParserUtil.parseNric(nric), ParserUtil.parseSingleAppt(dateTime, healthService));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.api;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.patient.Nric;
+import seedu.address.storage.JsonAdaptedPatient;
+
+/**
+ * Handles {@code GET /api/patients/NRIC}, which responds with the details of the patient with the NRIC, in the
+ * same form as the patient is saved in the data file.
+ */
+class PatientHandler extends ApiHandler {
+
+    public static final String PATH = "/api/patients/";
+
+    public static final String MESSAGE_PATIENT_NOT_FOUND = "There is no patient with NRIC %s.";
+
+    PatientHandler(Logic logic, Executor logicExecutor) {
+        super(logic, logicExecutor);
+    }
+
+    @Override
+    protected void handleRequest(HttpExchange exchange) throws IOException, ApiException {
+        String nricString = exchange.getRequestURI().getPath().substring(PATH.length());
+        if (nricString.isEmpty() || nricString.contains("/")) {
+            throw notFound(exchange);
+        }
+        if (!exchange.getRequestMethod().equals("GET")) {
+            throw methodNotAllowed(exchange, "GET");
+        }
+
+        Nric nric;
+        try {
+            nric = ParserUtil.parseNric(nricString);
+        } catch (ParseException pe) {
+            throw new ApiException(STATUS_BAD_REQUEST, pe.getMessage());
+        }
+
+        JsonAdaptedPatient patient = readSnapshot().findPatient(nric)
+                .map(JsonAdaptedPatient::new)
+                .orElse(null);
+        if (patient == null) {
+            throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_PATIENT_NOT_FOUND, nric));
+        }
+        sendJson(exchange, STATUS_OK, patient);
+    }
+}
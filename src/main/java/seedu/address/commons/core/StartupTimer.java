@@ -0,0 +1,88 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long each phase of starting the app takes, so that a breakdown can be logged.
+ * Phases may run concurrently on different threads, so each phase is reported with both its own duration and
+ * the time since the start at which it ended.
+ */
+public class StartupTimer {
+
+    private final long startNanos;
+    private final List<String> endedPhases = new ArrayList<>();
+
+    /**
+     * Creates a {@code StartupTimer} that measures times from now.
+     */
+    public StartupTimer() {
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts timing the phase named {@code name}, which is added to the breakdown once it is ended.
+     */
+    public Phase startPhase(String name) {
+        requireNonNull(name);
+        return new Phase(name, System.nanoTime());
+    }
+
+    /**
+     * Returns the number of milliseconds since this timer was created.
+     */
+    public long getElapsedMillis() {
+        return toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns the breakdown of the phases ended so far, in the order they ended.
+     */
+    public synchronized String getBreakdown() {
+        StringBuilder breakdown = new StringBuilder("Startup timing breakdown (phases may overlap):");
+        for (String phase : endedPhases) {
+            breakdown.append(System.lineSeparator()).append("  ").append(phase);
+        }
+        return breakdown.toString();
+    }
+
+    private synchronized void end(Phase phase, long endNanos) {
+        endedPhases.add(String.format("%s: %d ms (ended at %d ms)", phase.name,
+                toMillis(endNanos - phase.startNanos), toMillis(endNanos - startNanos)));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * A phase of starting the app that is being timed.
+     */
+    public class Phase {
+        private final String name;
+        private final long startNanos;
+        private boolean isEnded;
+
+        private Phase(String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Ends this phase, adding it to the breakdown. Ending a phase again has no effect.
+         */
+        public void end() {
+            long endNanos = System.nanoTime();
+            synchronized (StartupTimer.this) {
+                if (isEnded) {
+                    return;
+                }
+                isEnded = true;
+                StartupTimer.this.end(this, endNanos);
+            }
+        }
+    }
+}
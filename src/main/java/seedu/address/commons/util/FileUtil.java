@@ -1,18 +1,51 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
 
+    private static final Logger logger = LogsCenter.getLogger(FileUtil.class);
+
+    /**
+     * Writes the content of a file into an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Reads the content of a file into a value of type {@code T}.
+     */
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        T read(Path file) throws DataLoadingException;
+    }
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -75,9 +108,122 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as in {@link #writeToFileAtomically(Path, ContentWriter)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFileAtomically(file, outputStream -> outputStream.write(bytes));
+    }
+
+    /**
+     * Returns the path of the temporary file that {@code file} is written to before it is replaced.
+     */
+    public static Path getTempFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the file that the previous version of {@code file} is kept in.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes the content written by {@code writer} to {@code file}, creating its missing parent directories.
+     * The content is first written to a temporary file next to {@code file}, forced to the disk, and only then
+     * moved over {@code file} in a single step, so that {@code file} is never left partly written,
+     * even if the app is killed or the computer loses power while writing.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = getTempFilePath(file);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel)) {
+                @Override
+                public void close() throws IOException {
+                    // The channel is only closed once the content has been forced to the disk
+                    flush();
+                }
+            };
+            writer.write(outputStream);
+            outputStream.flush();
+            channel.force(true);
+        } catch (IOException ioe) {
+            Files.deleteIfExists(tempFile);
+            throw ioe;
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, ContentWriter)}, but keeps the previous version of
+     * {@code file}, if there is one, as the backup file of {@code file}.
+     *
+     * @see #getBackupFilePath(Path)
+     */
+    public static void writeToFileAtomicallyWithBackup(Path file, ContentWriter writer) throws IOException {
+        if (isFileExists(file)) {
+            Path backupFile = getBackupFilePath(file);
+            Files.deleteIfExists(backupFile);
+            try {
+                Files.createLink(backupFile, file);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(file, backupFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        writeToFileAtomically(file, writer);
+    }
+
+    /**
+     * Reads {@code file} with {@code reader}. If {@code file} is missing or cannot be read, the previous version of
+     * {@code file} kept by {@link #writeToFileAtomicallyWithBackup(Path, ContentWriter)} is read instead.
+     *
+     * @return an empty {@code Optional} if neither {@code file} nor its previous version exists.
+     * @throws DataLoadingException if neither {@code file} nor its previous version could be read.
+     */
+    public static <T> Optional<T> readFileWithBackup(Path file, ContentReader<T> reader)
+            throws DataLoadingException {
+        Path backupFile = getBackupFilePath(file);
+        if (!Files.exists(file)) {
+            if (!Files.exists(backupFile)) {
+                return Optional.empty();
+            }
+            logger.warning("File " + file + " not found. Reading the previous version " + backupFile);
+            return Optional.of(reader.read(backupFile));
+        }
+
+        try {
+            return Optional.of(reader.read(file));
+        } catch (DataLoadingException e) {
+            if (!Files.exists(backupFile)) {
+                throw e;
+            }
+            logger.warning("Reading the previous version " + backupFile + " of " + file + " instead.");
+            return Optional.of(reader.read(backupFile));
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it is not lost on a crash.
+     * This is not possible on every platform, in which case nothing is done.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // Directories cannot be opened on some platforms, e.g. Windows, where the move is already durable
+        }
     }
 
 }
@@ -3,6 +3,8 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -39,6 +44,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /** Writes values into generators without flushing after each one, so that output is written in whole buffers. */
+    private static ObjectMapper streamingObjectMapper = objectMapper.copy()
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -91,6 +100,25 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the Json object to the specified file as in {@link #saveJsonFile(Object, Path)}, unless the file
+     * already holds exactly that Json object, so that an unchanged file is not rewritten.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @return true if the file was written.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        String json = toJsonString(jsonFile);
+        if (Files.exists(filePath) && json.equals(FileUtil.readFromFile(filePath))) {
+            return false;
+        }
+        FileUtil.writeToFile(filePath, json);
+        return true;
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -101,6 +129,35 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a {@code JsonParser} that reads JSON data incrementally from {@code inputStream}.
+     * Values read through the parser, e.g. with {@link JsonParser#readValueAs(Class)}, are converted
+     * with the same settings as {@link #fromJsonString(String, Class)}.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Returns a {@code JsonGenerator} that writes JSON data incrementally to {@code outputStream} in UTF-8.
+     * Values written through the generator, e.g. with {@link JsonGenerator#writeObject(Object)}, are converted
+     * with the same settings as {@link #toJsonString(Object)}, and are buffered by the generator until it is
+     * flushed or closed.
+     *
+     * @param isPrettyPrinted whether the output is indented like {@link #toJsonString(Object)}, or written
+     *     without any whitespace.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        requireNonNull(outputStream);
+        JsonGenerator generator = streamingObjectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        if (isPrettyPrinted) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -0,0 +1,380 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * An immutable hash map, e.g. of patients by NRIC.
+ * Changing the map returns a new map that shares all but O(log n) of its nodes with this one, so older versions
+ * of the map can be kept, e.g. in snapshots, without copying them. The map is a hash array mapped trie, which
+ * branches 32 ways on each 5 bits of the hashes of its keys, so it is rarely more than a few levels deep.
+ * Keys and values must not be null.
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.empty(), 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentHashMap(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain it.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        return root.get(key, hash(key), 0);
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@code defaultValue} if the map does not contain it.
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, or this map if it already does so.
+     */
+    public PersistentHashMap<K, V> put(K key, V value) {
+        requireAllNonNull(key, value);
+        boolean[] isAdded = new boolean[1];
+        Node<K, V> newRoot = root.put(new Entry<>(key, value, hash(key)), 0, isAdded);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, isAdded[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not contain it.
+     */
+    public PersistentHashMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = root.remove(key, hash(key), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return size == 1 ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Returns the values of the map, in no particular order.
+     */
+    public Stream<V> values() {
+        List<V> values = new ArrayList<>(size);
+        root.forEachValue(values::add);
+        return values.stream();
+    }
+
+    @Override
+    public String toString() {
+        List<String> entries = new ArrayList<>(size);
+        root.forEachEntry(entry -> entries.add(entry.key + "=" + entry.value));
+        return "{" + String.join(", ", entries) + "}";
+    }
+
+    /**
+     * Spreads the higher bits of the hash code of {@code key} into the lower bits, which pick the first branches.
+     */
+    private static int hash(Object key) {
+        int hashCode = key.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static int branchOf(int hash, int shift) {
+        return (hash >>> shift) & LEVEL_MASK;
+    }
+
+    /**
+     * Returns a node holding {@code first} and {@code second}, each of which is an {@code Entry} or a
+     * {@code Node}, that are in the same branch at the level above {@code shift}.
+     */
+    private static <K, V> Node<K, V> merge(Object first, int firstHash, Object second, int secondHash, int shift) {
+        if (firstHash == secondHash && first instanceof Entry && second instanceof Entry) {
+            return new CollisionNode<>(firstHash, List.of(asEntry(first), asEntry(second)));
+        }
+
+        int firstBranch = branchOf(firstHash, shift);
+        int secondBranch = branchOf(secondHash, shift);
+        if (firstBranch == secondBranch) {
+            return new BitmapNode<>(1 << firstBranch,
+                    new Object[] {merge(first, firstHash, second, secondHash, shift + BITS_PER_LEVEL)});
+        }
+        return new BitmapNode<>((1 << firstBranch) | (1 << secondBranch),
+                firstBranch < secondBranch ? new Object[] {first, second} : new Object[] {second, first});
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Entry<K, V> asEntry(Object slot) {
+        return (Entry<K, V>) slot;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> asNode(Object slot) {
+        return (Node<K, V>) slot;
+    }
+
+    /**
+     * A key and its value, which is never changed once created.
+     */
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+        private final int hash;
+
+        Entry(K key, V value, int hash) {
+            this.key = key;
+            this.value = value;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * A node of the trie, which is never changed once created, so that it can be shared between maps.
+     * Changes return this node if they change nothing, and null if they leave the node empty.
+     */
+    private interface Node<K, V> {
+        V get(K key, int hash, int shift);
+
+        Node<K, V> put(Entry<K, V> entry, int shift, boolean[] isAdded);
+
+        Node<K, V> remove(K key, int hash, int shift);
+
+        /**
+         * Returns the only entry in this node, or null if it has more than one entry or any child nodes.
+         */
+        Entry<K, V> getSingleEntry();
+
+        void forEachEntry(Consumer<Entry<K, V>> action);
+
+        default void forEachValue(Consumer<? super V> action) {
+            forEachEntry(entry -> action.accept(entry.value));
+        }
+    }
+
+    /**
+     * A node that branches on the hashes of its keys. Only the branches that are present take up a slot, which
+     * holds either an {@code Entry} or a child {@code Node}.
+     */
+    private static final class BitmapNode<K, V> implements Node<K, V> {
+        private static final BitmapNode<?, ?> EMPTY = new BitmapNode<>(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K, V> BitmapNode<K, V> empty() {
+            return (BitmapNode<K, V>) EMPTY;
+        }
+
+        private int slotOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public V get(K key, int hash, int shift) {
+            int bit = 1 << branchOf(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[slotOf(bit)];
+            if (slot instanceof Entry) {
+                Entry<K, V> entry = asEntry(slot);
+                return entry.key.equals(key) ? entry.value : null;
+            }
+            return PersistentHashMap.<K, V>asNode(slot).get(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        @Override
+        public Node<K, V> put(Entry<K, V> entry, int shift, boolean[] isAdded) {
+            int bit = 1 << branchOf(entry.hash, shift);
+            int index = slotOf(bit);
+            if ((bitmap & bit) == 0) {
+                isAdded[0] = true;
+                Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new BitmapNode<>(bitmap | bit, newSlots);
+            }
+
+            Object slot = slots[index];
+            if (slot instanceof Entry) {
+                Entry<K, V> existingEntry = asEntry(slot);
+                if (existingEntry.key.equals(entry.key)) {
+                    return existingEntry.value == entry.value ? this : withSlot(index, entry);
+                }
+                isAdded[0] = true;
+                return withSlot(index, merge(existingEntry, existingEntry.hash, entry, entry.hash,
+                        shift + BITS_PER_LEVEL));
+            }
+
+            Node<K, V> child = asNode(slot);
+            Node<K, V> newChild = child.put(entry, shift + BITS_PER_LEVEL, isAdded);
+            return newChild == child ? this : withSlot(index, newChild);
+        }
+
+        @Override
+        public Node<K, V> remove(K key, int hash, int shift) {
+            int bit = 1 << branchOf(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = slotOf(bit);
+            Object slot = slots[index];
+            if (slot instanceof Entry) {
+                return PersistentHashMap.<K, V>asEntry(slot).key.equals(key) ? withoutSlot(index, bit) : this;
+            }
+
+            Node<K, V> child = asNode(slot);
+            Node<K, V> newChild = child.remove(key, hash, shift + BITS_PER_LEVEL);
+            if (newChild == child) {
+                return this;
+            } else if (newChild == null) {
+                return withoutSlot(index, bit);
+            }
+            // A child left with a single entry is replaced by the entry, so that the trie stays shallow
+            Entry<K, V> singleEntry = newChild.getSingleEntry();
+            return withSlot(index, singleEntry == null ? newChild : singleEntry);
+        }
+
+        private BitmapNode<K, V> withSlot(int index, Object slot) {
+            Object[] newSlots = slots.clone();
+            newSlots[index] = slot;
+            return new BitmapNode<>(bitmap, newSlots);
+        }
+
+        private BitmapNode<K, V> withoutSlot(int index, int bit) {
+            if (slots.length == 1) {
+                return null;
+            }
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+            return new BitmapNode<>(bitmap & ~bit, newSlots);
+        }
+
+        @Override
+        public Entry<K, V> getSingleEntry() {
+            return slots.length == 1 && slots[0] instanceof Entry ? asEntry(slots[0]) : null;
+        }
+
+        @Override
+        public void forEachEntry(Consumer<Entry<K, V>> action) {
+            for (Object slot : slots) {
+                if (slot instanceof Entry) {
+                    action.accept(asEntry(slot));
+                } else {
+                    PersistentHashMap.<K, V>asNode(slot).forEachEntry(action);
+                }
+            }
+        }
+    }
+
+    /**
+     * A node holding the entries of different keys with the same hash, which cannot be told apart by branching.
+     */
+    private static final class CollisionNode<K, V> implements Node<K, V> {
+        private final int hash;
+        private final List<Entry<K, V>> entries;
+
+        CollisionNode(int hash, List<Entry<K, V>> entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private int indexOf(K key) {
+            for (int i = 0; i < entries.size(); i++) {
+                if (entries.get(i).key.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public V get(K key, int hash, int shift) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            return index < 0 ? null : entries.get(index).value;
+        }
+
+        @Override
+        public Node<K, V> put(Entry<K, V> entry, int shift, boolean[] isAdded) {
+            if (entry.hash != hash) {
+                isAdded[0] = true;
+                return merge(this, hash, entry, entry.hash, shift);
+            }
+
+            List<Entry<K, V>> newEntries = new ArrayList<>(entries);
+            int index = indexOf(entry.key);
+            if (index < 0) {
+                isAdded[0] = true;
+                newEntries.add(entry);
+            } else if (entries.get(index).value == entry.value) {
+                return this;
+            } else {
+                newEntries.set(index, entry);
+            }
+            return new CollisionNode<>(hash, List.copyOf(newEntries));
+        }
+
+        @Override
+        public Node<K, V> remove(K key, int hash, int shift) {
+            int index = hash == this.hash ? indexOf(key) : -1;
+            if (index < 0) {
+                return this;
+            } else if (entries.size() == 1) {
+                return null;
+            }
+            List<Entry<K, V>> newEntries = new ArrayList<>(entries);
+            newEntries.remove(index);
+            return new CollisionNode<>(hash, List.copyOf(newEntries));
+        }
+
+        @Override
+        public Entry<K, V> getSingleEntry() {
+            return entries.size() == 1 ? entries.get(0) : null;
+        }
+
+        @Override
+        public void forEachEntry(Consumer<Entry<K, V>> action) {
+            entries.forEach(action);
+        }
+    }
+}
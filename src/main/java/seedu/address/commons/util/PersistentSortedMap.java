@@ -0,0 +1,404 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable map whose keys are kept in their natural order, e.g. appointments by date and time.
+ * Changing the map returns a new map that shares all but O(log n) of its nodes with this one, so older versions
+ * of the map can be kept, e.g. in snapshots, without copying them. The map is a balanced (AVL) binary tree.
+ * Keys and values must not be null.
+ */
+public final class PersistentSortedMap<K extends Comparable<? super K>, V> {
+
+    private static final PersistentSortedMap<?, ?> EMPTY = new PersistentSortedMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentSortedMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> empty() {
+        return (PersistentSortedMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns a map of {@code keys} to {@code values} at the same positions, built in O(n).
+     * {@code keys} must be in strictly increasing order.
+     */
+    public static <K extends Comparable<? super K>, V> PersistentSortedMap<K, V> ofSorted(List<K> keys,
+            List<V> values) {
+        requireAllNonNull(keys, values);
+        if (keys.size() != values.size()) {
+            throw new IllegalArgumentException("There must be as many keys as values.");
+        }
+        for (int i = 1; i < keys.size(); i++) {
+            if (keys.get(i - 1).compareTo(keys.get(i)) >= 0) {
+                throw new IllegalArgumentException("The keys must be in strictly increasing order.");
+            }
+        }
+        return keys.isEmpty() ? empty() : new PersistentSortedMap<>(build(keys, values, 0, keys.size()));
+    }
+
+    public int size() {
+        return Node.size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain it.
+     */
+    public V get(K key) {
+        requireNonNull(key);
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@code defaultValue} if the map does not contain it.
+     */
+    public V getOrDefault(K key, V defaultValue) {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, or this map if it already does so.
+     */
+    public PersistentSortedMap<K, V> put(K key, V value) {
+        requireAllNonNull(key, value);
+        Node<K, V> newRoot = put(root, key, value);
+        return newRoot == root ? this : new PersistentSortedMap<>(newRoot);
+    }
+
+    /**
+     * Returns a map without {@code key}, or this map if it does not contain it.
+     */
+    public PersistentSortedMap<K, V> remove(K key) {
+        requireNonNull(key);
+        Node<K, V> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentSortedMap<>(newRoot);
+    }
+
+    /**
+     * Returns the value of the greatest key strictly less than {@code key}, or null if there is none.
+     */
+    public V lowerValue(K key) {
+        requireNonNull(key);
+        Node<K, V> lower = null;
+        Node<K, V> node = root;
+        while (node != null) {
+            if (node.key.compareTo(key) < 0) {
+                lower = node;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return lower == null ? null : lower.value;
+    }
+
+    /**
+     * Returns the value of the least key strictly greater than {@code key}, or null if there is none.
+     */
+    public V higherValue(K key) {
+        requireNonNull(key);
+        Node<K, V> higher = null;
+        Node<K, V> node = root;
+        while (node != null) {
+            if (node.key.compareTo(key) > 0) {
+                higher = node;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return higher == null ? null : higher.value;
+    }
+
+    /**
+     * Returns the number of keys less than {@code key}, i.e. its position in the map, or -1 if the map does not
+     * contain it.
+     */
+    public int indexOf(K key) {
+        requireNonNull(key);
+        int index = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return index + Node.size(node.left);
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                index += Node.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the key at {@code index} in the order of the keys.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not less than the size of the map, or is negative.
+     */
+    public K keyAt(int index) {
+        return nodeAt(index).key;
+    }
+
+    /**
+     * Returns the value of the key at {@code index} in the order of the keys.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not less than the size of the map, or is negative.
+     */
+    public V valueAt(int index) {
+        return nodeAt(index).value;
+    }
+
+    private Node<K, V> nodeAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int remaining = index;
+        Node<K, V> node = root;
+        while (remaining != Node.size(node.left)) {
+            if (remaining < Node.size(node.left)) {
+                node = node.left;
+            } else {
+                remaining -= Node.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Returns the values of the map in the order of their keys.
+     */
+    public Stream<V> values() {
+        return StreamSupport.stream(Spliterators.spliterator(new ValueIterator<>(root, null, null), size(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Returns the values of the keys from {@code fromKey}, inclusive, to {@code toKey}, exclusive, in the order
+     * of their keys. Only the keys in that range are visited. Either bound may be null, for no bound.
+     */
+    public Stream<V> values(K fromKey, K toKey) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new ValueIterator<>(root, fromKey, toKey),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (Iterator<Node<K, V>> nodes = new NodeIterator<>(root, null, null); nodes.hasNext();) {
+            Node<K, V> node = nodes.next();
+            builder.append(node.key).append('=').append(node.value).append(nodes.hasNext() ? ", " : "");
+        }
+        return builder.append('}').toString();
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> build(List<K> keys, List<V> values,
+            int start, int end) {
+        if (start >= end) {
+            return null;
+        }
+        int middle = (start + end) >>> 1;
+        return new Node<>(keys.get(middle), requireNonNull(values.get(middle)), build(keys, values, start, middle),
+                build(keys, values, middle + 1, end));
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> put(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> left = put(node.left, key, value);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> right = put(node.right, key, value);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        return node.value == value ? node : new Node<>(key, value, node.left, node.right);
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> remove(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<K, V> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <K extends Comparable<? super K>, V> Node<K, V> removeFirst(Node<K, V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Returns a node of {@code key} and {@code value} over {@code left} and {@code right}, rotated so that the
+     * heights of its two subtrees differ by at most one.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> balance(K key, V value, Node<K, V> left,
+            Node<K, V> right) {
+        int leftHeight = Node.height(left);
+        int rightHeight = Node.height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<K, V> middle = left.right;
+            return new Node<>(middle.key, middle.value, new Node<>(left.key, left.value, left.left, middle.left),
+                    new Node<>(key, value, middle.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<K, V> middle = right.left;
+            return new Node<>(middle.key, middle.value, new Node<>(key, value, left, middle.left),
+                    new Node<>(right.key, right.value, middle.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    /**
+     * A node of the tree, which is never changed once created, so that it can be shared between maps.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int height;
+        private final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+        }
+
+        static int height(Node<?, ?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        static int size(Node<?, ?> node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+
+    /**
+     * Iterates over the nodes with keys from {@code fromKey}, inclusive, to {@code toKey}, exclusive, in order.
+     */
+    private static class NodeIterator<K extends Comparable<? super K>, V> implements Iterator<Node<K, V>> {
+        private final Deque<Node<K, V>> path = new ArrayDeque<>();
+        private final K toKey;
+
+        NodeIterator(Node<K, V> root, K fromKey, K toKey) {
+            this.toKey = toKey;
+            Node<K, V> node = root;
+            while (node != null) {
+                if (fromKey != null && node.key.compareTo(fromKey) < 0) {
+                    node = node.right;
+                } else {
+                    path.push(node);
+                    node = node.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty() && (toKey == null || path.peek().key.compareTo(toKey) < 0);
+        }
+
+        @Override
+        public Node<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<K, V> next = path.pop();
+            for (Node<K, V> node = next.right; node != null; node = node.left) {
+                path.push(node);
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Iterates over the values of the nodes visited by a {@link NodeIterator}.
+     */
+    private static class ValueIterator<K extends Comparable<? super K>, V> implements Iterator<V> {
+        private final NodeIterator<K, V> nodes;
+
+        ValueIterator(Node<K, V> root, K fromKey, K toKey) {
+            nodes = new NodeIterator<>(root, fromKey, toKey);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nodes.hasNext();
+        }
+
+        @Override
+        public V next() {
+            return nodes.next().value;
+        }
+    }
+}
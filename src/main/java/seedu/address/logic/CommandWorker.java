@@ -0,0 +1,219 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.commandresult.CommandResult;
+import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Runs the commands entered by the user, and any other tasks that call the Logic component, e.g. those of the
+ * HTTP API, one at a time and in the order they were submitted, on a single worker thread. Parsing, executing and
+ * saving a command therefore do not hold up the UI thread, which keeps rendering while the command runs.
+ * As the model is only changed on the worker thread, the UI does not show the model's lists, which it must not read
+ * while they change, but copies of them that are updated through the UI executor once each task has finished.
+ */
+public class CommandWorker implements Executor {
+
+    /** The number of seconds that {@link #shutdown()} waits for the tasks already submitted to finish. */
+    public static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandWorker.class);
+
+    private final Logic logic;
+    private final ExecutorService workerExecutor;
+    private final Executor uiExecutor;
+
+    // Used on the UI thread only
+    private final ObservableList<Patient> patientList = FXCollections.observableArrayList();
+    private final ObservableList<Patient> unmodifiablePatientList =
+            FXCollections.unmodifiableObservableList(patientList);
+    private TreeSet<FilteredAppointment> filteredAppts = new TreeSet<>();
+
+    // Used on the worker thread only
+    private final List<Patient> publishedPatients = new ArrayList<>();
+    private boolean hasPublished;
+    private long publishedVersion;
+    private Predicate<? super Patient> publishedPredicate;
+
+    /**
+     * Creates a {@code CommandWorker} that calls {@code logic} on a new worker thread, and updates the UI through
+     * {@code uiExecutor}, e.g. {@code Platform::runLater} for the JavaFX application thread.
+     */
+    public CommandWorker(Logic logic, Executor uiExecutor) {
+        this(logic, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ClinicConnectSystem-commands");
+            thread.setDaemon(true);
+            return thread;
+        }), uiExecutor);
+    }
+
+    /**
+     * Creates a {@code CommandWorker} that calls {@code logic} through {@code workerExecutor}, which must run one
+     * task at a time in the order they were submitted, and updates the UI through {@code uiExecutor}.
+     */
+    CommandWorker(Logic logic, ExecutorService workerExecutor, Executor uiExecutor) {
+        requireNonNull(logic);
+        requireNonNull(workerExecutor);
+        requireNonNull(uiExecutor);
+        this.logic = logic;
+        this.workerExecutor = workerExecutor;
+        this.uiExecutor = uiExecutor;
+        workerExecutor.execute(this::publishPatientList);
+    }
+
+    /**
+     * Executes {@code commandText} on the worker thread, after the tasks submitted before it, and returns the
+     * result of the command. The result is given on the UI thread, once the patient list, and the filtered
+     * appointments if the command shows them, have been updated.
+     * The returned future fails with the {@code CommandException} or {@code ParseException} of the command.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        workerExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                TreeSet<FilteredAppointment> newFilteredAppts = commandResult.isShowFilteredAppts()
+                        ? new TreeSet<>(logic.getFilteredAppts())
+                        : null;
+                publishPatientList();
+                uiExecutor.execute(() -> {
+                    if (newFilteredAppts != null) {
+                        filteredAppts = newFilteredAppts;
+                    }
+                    result.complete(commandResult);
+                });
+            } catch (Exception e) {
+                publishPatientList();
+                uiExecutor.execute(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Runs {@code task}, which calls the Logic component, on the worker thread after the tasks submitted before it,
+     * and then updates the patient list on the UI thread if the task changed it.
+     *
+     * @throws java.util.concurrent.RejectedExecutionException if the worker has been shut down.
+     */
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+        workerExecutor.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException re) {
+                logger.severe("Task on the command worker failed: " + StringUtil.getDetails(re));
+            } finally {
+                publishPatientList();
+            }
+        });
+    }
+
+    /**
+     * Gives the changes to the filtered patient list since the last copy to the UI thread. Nothing is compared
+     * unless the ClinicConnectSystem or the filter has changed since then, and only the range of patients between
+     * the unchanged patients at both ends of the list is given to the UI thread, so that the UI only redraws them.
+     */
+    private void publishPatientList() {
+        long version = logic.getClinicConnectSystemVersion();
+        Predicate<? super Patient> predicate = logic.getFilteredPatientListPredicate();
+        if (hasPublished && version == publishedVersion && predicate == publishedPredicate) {
+            return;
+        }
+        hasPublished = true;
+        publishedVersion = version;
+        publishedPredicate = predicate;
+
+        // Patients are immutable, so an unchanged patient is still the same object
+        List<Patient> patients = logic.getFilteredPatientList();
+        int start = 0;
+        int oldEnd = publishedPatients.size();
+        int newEnd = patients.size();
+        while (start < oldEnd && start < newEnd && patients.get(start) == publishedPatients.get(start)) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && patients.get(newEnd - 1) == publishedPatients.get(oldEnd - 1)) {
+            oldEnd--;
+            newEnd--;
+        }
+        if (start == oldEnd && start == newEnd) {
+            return;
+        }
+
+        List<Patient> replacement = List.copyOf(patients.subList(start, newEnd));
+        publishedPatients.subList(start, oldEnd).clear();
+        publishedPatients.addAll(start, replacement);
+        int from = start;
+        int to = oldEnd;
+        uiExecutor.execute(() -> replaceRange(patientList, from, to, replacement));
+    }
+
+    /**
+     * Replaces the patients from index {@code from} to {@code to} (exclusive) of {@code list} with
+     * {@code replacement}, setting patients in place where possible so that the list reports the smallest change.
+     */
+    private static void replaceRange(ObservableList<Patient> list, int from, int to, List<Patient> replacement) {
+        int replacedCount = Math.min(to - from, replacement.size());
+        for (int i = 0; i < replacedCount; i++) {
+            list.set(from + i, replacement.get(i));
+        }
+        if (to - from > replacedCount) {
+            list.remove(from + replacedCount, to);
+        } else if (replacement.size() > replacedCount) {
+            list.addAll(from + replacedCount, replacement.subList(replacedCount, replacement.size()));
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered patient list, which is updated on the UI thread after each task
+     * that changes the filtered patient list. It should only be used on the UI thread.
+     */
+    public ObservableList<Patient> getPatientList() {
+        return unmodifiablePatientList;
+    }
+
+    /**
+     * Returns a copy of the filtered appointments as of the last command that showed them. It should only be used
+     * on the UI thread.
+     */
+    public TreeSet<FilteredAppointment> getFilteredAppts() {
+        return filteredAppts;
+    }
+
+    /**
+     * Stops accepting tasks, and waits for the tasks already submitted to finish, so that the model holds the
+     * changes of every command once this returns.
+     *
+     * @return true if every task finished, or false if some were still running or waiting when this gave up.
+     */
+    public boolean shutdown() {
+        workerExecutor.shutdown();
+        try {
+            if (workerExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return true;
+            }
+            logger.warning("Commands were still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds.");
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
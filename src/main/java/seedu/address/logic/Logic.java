@@ -1,13 +1,18 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.commandresult.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ClinicConnectSystemSnapshot;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
 import seedu.address.model.filteredappointment.FilteredAppointment;
 import seedu.address.model.patient.Patient;
@@ -25,6 +30,56 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes {@code command}, which has already been parsed, e.g. from a request to the HTTP API, in the same
+     * way as a command entered by the user, and returns the result.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Returns true once the data has been loaded from the data file, after which commands can be executed.
+     */
+    boolean isClinicConnectSystemLoaded();
+
+    /**
+     * Replaces the data with {@code clinicConnectSystem}, which has just been loaded from the data file, and lets
+     * commands be executed from then on.
+     * The data is not saved again, as it is already in the data file.
+     */
+    void setLoadedClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem);
+
+    /**
+     * Sets the handler that is run once the data has been loaded from the data file.
+     */
+    void setClinicConnectSystemLoadedHandler(Runnable clinicConnectSystemLoadedHandler);
+
+    /**
+     * Sets whether saving the changes made by commands is deferred. While it is, commands do not save their
+     * changes, which are only saved by {@link #saveChanges()}, e.g. once a whole script of commands has run.
+     */
+    void setSaveDeferred(boolean isSaveDeferred);
+
+    /**
+     * Saves the changes made since the last save, if there are any, as commands do when saving is not deferred.
+     */
+    void saveChanges();
+
+    /**
+     * Waits for the changes being saved in the background to be written. If saving any of them failed, or some
+     * changes have not been saved yet, the whole address book is then saved, so that no changes are lost when the
+     * app stops.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    void flushChanges() throws IOException;
+
+    /**
+     * Sets the handler that is given the error message when saving the changes made by a command fails.
+     * Changes are saved after the command has returned, so the handler may be called from another thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the ClinicConnectSystem.
      *
@@ -35,6 +90,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of patients */
     ObservableList<Patient> getFilteredPatientList();
 
+    /**
+     * Returns the version of the ClinicConnectSystem, which changes whenever it is changed.
+     *
+     * @see seedu.address.model.Model#getClinicConnectSystemVersion()
+     */
+    long getClinicConnectSystemVersion();
+
+    /**
+     * Returns the predicate that the filtered list of patients is filtered by, or null if it shows every patient.
+     *
+     * @see seedu.address.model.Model#getFilteredPatientListPredicate()
+     */
+    Predicate<? super Patient> getFilteredPatientListPredicate();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -51,4 +120,13 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     TreeSet<FilteredAppointment> getFilteredAppts();
+
+    /**
+     * Returns the latest snapshot of the address book, which holds the changes of every command that has finished
+     * and had its changes saved. Unlike the other methods, this can be called from any thread, e.g. to serve
+     * requests to the HTTP API, without waiting for the command being executed.
+     *
+     * @see seedu.address.model.Model#getClinicConnectSystemSnapshot()
+     */
+    ClinicConnectSystemSnapshot getClinicConnectSystemSnapshot();
 }
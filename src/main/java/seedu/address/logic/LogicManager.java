@@ -1,9 +1,14 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.TreeSet;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,8 +19,9 @@ import seedu.address.logic.commands.commandresult.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ClinicConnectSystemParser;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.Model;
+import seedu.address.model.ClinicConnectSystemSnapshot;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.VersionedModel;
 import seedu.address.model.filteredappointment.FilteredAppointment;
 import seedu.address.model.patient.Patient;
 import seedu.address.storage.Storage;
@@ -29,40 +35,170 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_STILL_LOADING =
+            "The patient data is still loading. Please try again in a moment.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
-    private final Model model;
+    private final VersionedModel model;
     private final Storage storage;
     private final ClinicConnectSystemParser clinicConnectSystemParser;
+    private long savedVersion;
+    private volatile boolean hasFailedSave;
+    private volatile Consumer<String> saveFailureHandler = logger::warning;
+    private volatile boolean isClinicConnectSystemLoaded;
+    private boolean isSaveDeferred;
+    private Runnable clinicConnectSystemLoadedHandler = () -> {};
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code VersionedModel} and {@code Storage}.
+     */
+    public LogicManager(VersionedModel model, Storage storage) {
+        this(model, storage, true);
+    }
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code VersionedModel} and {@code Storage}.
+     * If {@code isClinicConnectSystemLoaded} is false, the data is still being loaded from the data file, and
+     * commands are rejected until it is given to {@link #setLoadedClinicConnectSystem(ReadOnlyClinicConnectSystem)}.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(VersionedModel model, Storage storage, boolean isClinicConnectSystemLoaded) {
         this.model = model;
         this.storage = storage;
+        this.isClinicConnectSystemLoaded = isClinicConnectSystemLoaded;
         clinicConnectSystemParser = new ClinicConnectSystemParser();
+        savedVersion = model.getClinicConnectSystemVersion();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        if (!isClinicConnectSystemLoaded) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
 
-        CommandResult commandResult;
         Command command = clinicConnectSystemParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeParsed(command);
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        requireNonNull(command);
+        logger.info("----------------[API COMMAND][" + command + "]");
+        if (!isClinicConnectSystemLoaded) {
+            throw new CommandException(MESSAGE_STILL_LOADING);
+        }
 
+        return executeParsed(command);
+    }
+
+    /**
+     * Executes {@code command}, and commits the changes it made as one step that can be undone, so that a batch
+     * of commands is undone as a whole.
+     */
+    private CommandResult executeParsed(Command command) throws CommandException {
+        CommandResult commandResult;
         try {
-            storage.saveClinicConnectSystem(model.getClinicConnectSystem());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            commandResult = command.execute(model);
+        } finally {
+            model.commitClinicConnectSystem();
+        }
+
+        if (!isSaveDeferred) {
+            saveIfChanged();
         }
 
         return commandResult;
     }
 
+    /**
+     * Saves the changes made to the address book since it was last saved, if there are any.
+     * Commands that do not change the address book therefore do not write to the storage.
+     * The changes are saved in the background, so that the command does not wait for the disk. If the save fails,
+     * the save failure handler is told, and the whole address book is saved again after the next command.
+     */
+    private void saveIfChanged() {
+        long version = model.getClinicConnectSystemVersion();
+        if (version == savedVersion && !hasFailedSave) {
+            return;
+        }
+
+        hasFailedSave = false;
+        storage.saveClinicConnectSystemAsync(model.publishClinicConnectSystemSnapshot(),
+                model.takeClinicConnectSystemChanges())
+                .whenComplete((unused, error) -> {
+                    if (error != null) {
+                        hasFailedSave = true;
+                        saveFailureHandler.accept(getSaveErrorMessage(error));
+                    }
+                });
+        savedVersion = version;
+    }
+
+    @Override
+    public void setSaveDeferred(boolean isSaveDeferred) {
+        this.isSaveDeferred = isSaveDeferred;
+    }
+
+    @Override
+    public void saveChanges() {
+        saveIfChanged();
+    }
+
+    @Override
+    public void flushChanges() throws IOException {
+        storage.flushClinicConnectSystemSaves();
+        long version = model.getClinicConnectSystemVersion();
+        if (version == savedVersion && !hasFailedSave) {
+            return;
+        }
+
+        logger.info("Saving the whole data file, as some changes have not been saved.");
+        storage.saveClinicConnectSystem(model.getClinicConnectSystem());
+        model.takeClinicConnectSystemChanges();
+        model.publishClinicConnectSystemSnapshot();
+        savedVersion = version;
+        hasFailedSave = false;
+    }
+
+    private static String getSaveErrorMessage(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, cause.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, cause.getMessage());
+    }
+
+    @Override
+    public boolean isClinicConnectSystemLoaded() {
+        return isClinicConnectSystemLoaded;
+    }
+
+    @Override
+    public void setLoadedClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
+        model.setClinicConnectSystem(clinicConnectSystem);
+        model.takeClinicConnectSystemChanges();
+        model.clearClinicConnectSystemHistory();
+        model.publishClinicConnectSystemSnapshot();
+        savedVersion = model.getClinicConnectSystemVersion();
+        isClinicConnectSystemLoaded = true;
+        logger.info("Loaded " + clinicConnectSystem.getPatientList().size() + " patient(s) from the data file.");
+        clinicConnectSystemLoadedHandler.run();
+    }
+
+    @Override
+    public void setClinicConnectSystemLoadedHandler(Runnable clinicConnectSystemLoadedHandler) {
+        requireNonNull(clinicConnectSystemLoadedHandler);
+        this.clinicConnectSystemLoadedHandler = clinicConnectSystemLoadedHandler;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
     @Override
     public ReadOnlyClinicConnectSystem getClinicConnectSystem() {
         return model.getClinicConnectSystem();
@@ -73,6 +209,16 @@ public class LogicManager implements Logic {
         return model.getFilteredPatientList();
     }
 
+    @Override
+    public long getClinicConnectSystemVersion() {
+        return model.getClinicConnectSystemVersion();
+    }
+
+    @Override
+    public Predicate<? super Patient> getFilteredPatientListPredicate() {
+        return model.getFilteredPatientListPredicate();
+    }
+
     @Override
     public Path getClinicConnectSystemFilePath() {
         return model.getClinicConnectSystemFilePath();
@@ -92,4 +238,9 @@ public class LogicManager implements Logic {
     public TreeSet<FilteredAppointment> getFilteredAppts() {
         return model.getFilteredAppts();
     }
+
+    @Override
+    public ClinicConnectSystemSnapshot getClinicConnectSystemSnapshot() {
+        return model.getClinicConnectSystemSnapshot();
+    }
 }
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.commandresult.BatchCommandResult;
+import seedu.address.logic.commands.commandresult.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.Model;
+import seedu.address.model.VersionedModel;
+
+/**
+ * Executes a batch of commands as one, so that either all of them change the address book or none of them do.
+ * The changes of the whole batch are then saved once, instead of once for every command.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMAND_SEPARATOR = ";;";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + " usage: batch [COMMAND] " + COMMAND_SEPARATOR + " [COMMAND] " + COMMAND_SEPARATOR + " ...\n"
+            + "The commands can also be entered without \"" + COMMAND_WORD + "\", separated by \""
+            + COMMAND_SEPARATOR + "\"";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of the batch failed, "
+            + "so none of the changes of the batch were made.\n%2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a {@code BatchCommand} that executes {@code commands} in order.
+     */
+    public BatchCommand(List<Command> commands) {
+        requireNonNull(commands);
+        assert !commands.isEmpty();
+        this.commands = List.copyOf(commands);
+    }
+
+    /**
+     * Executes the commands of this batch in order. If one of them fails, the address book is rolled back to what
+     * it was before the batch, and the rest of the commands are not executed.
+     *
+     * @throws CommandException if one of the commands fails.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        VersionedModel versionedModel = requireVersionedModel(model);
+        ClinicConnectSystem.Savepoint savepoint = versionedModel.createClinicConnectSystemSavepoint();
+        CommandResult[] results = new CommandResult[commands.size()];
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                results[i] = commands.get(i).execute(model);
+            } catch (CommandException ce) {
+                logger.info("Rolling back batch after command " + (i + 1) + " failed: " + ce.getMessage());
+                versionedModel.rollBackClinicConnectSystem(savepoint);
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, i + 1, ce.getMessage()), ce);
+            } catch (RuntimeException re) {
+                versionedModel.rollBackClinicConnectSystem(savepoint);
+                throw re;
+            }
+        }
+
+        String feedback = Arrays.stream(results)
+                .map(CommandResult::getFeedbackToUser)
+                .collect(Collectors.joining("\n"));
+        return new BatchCommandResult(feedback, results[results.length - 1]);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return commands.equals(otherBatchCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
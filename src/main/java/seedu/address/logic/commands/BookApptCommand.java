@@ -4,10 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.commandresult.CommandResult;
 import seedu.address.logic.commands.commandresult.ShowPatientInfoCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -59,13 +59,9 @@ public class BookApptCommand extends Command {
         requireNonNull(model);
         assert model != null : "Model cannot be null";
         logger.info("Executing BookApptCommand");
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        // Find the patient with the given name
-        // Source adapted from ChatGPT
-        Optional<Patient> optionalPatient = lastShownList.stream()
-            .filter(patient -> patient.getNric().equals(nric))
-            .findFirst();
+        // Find the patient with the given nric
+        Optional<Patient> optionalPatient = model.findPatient(nric)
+            .filter(model::isInFilteredPatientList);
 
         if (optionalPatient.isEmpty()) {
             logger.warning(MESSAGE_PATIENT_NOT_FOUND);
@@ -75,8 +71,7 @@ public class BookApptCommand extends Command {
         Patient patient = optionalPatient.get();
 
         // Check for duplicate appointments
-        boolean hasDuplicate = patient.getImmutableApptList().stream()
-            .anyMatch(appt -> appt.equals(this.appt));
+        boolean hasDuplicate = patient.findAppt(this.appt.getDateTime()).isPresent();
 
         if (hasDuplicate) {
             logger.warning("Duplicate appointment found");
@@ -90,10 +85,10 @@ public class BookApptCommand extends Command {
         }
 
         // Add the appointment to the patient's list of appointments
-        patient.addAppt(this.appt);
+        Patient updatedPatient = model.addAppt(patient, this.appt);
         logger.info("Appointment added successfully for patient: " + patient.getName());
 
-        return new ShowPatientInfoCommandResult(generateSuccessMessage(patient), patient, true);
+        return new ShowPatientInfoCommandResult(generateSuccessMessage(updatedPatient), updatedPatient, true);
     }
 
     /**
@@ -118,6 +113,14 @@ public class BookApptCommand extends Command {
                 && appt.equals(e.appt);
     }
 
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nric", nric)
+                .add("appt", appt)
+                .toString();
+    }
+
     /**
      * Generates a command execution success message based on whether the remark is added or deleted.
      */
@@ -1,8 +1,10 @@
 package seedu.address.logic.commands;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.commandresult.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.VersionedModel;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -18,4 +20,16 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns {@code model} as a {@code VersionedModel}, for commands that undo, redo or roll back changes.
+     *
+     * @throws CommandException if {@code model} does not keep the versions of the address book.
+     */
+    protected static VersionedModel requireVersionedModel(Model model) throws CommandException {
+        if (!(model instanceof VersionedModel)) {
+            throw new CommandException(Messages.MESSAGE_HISTORY_NOT_KEPT);
+        }
+        return (VersionedModel) model;
+    }
+
 }
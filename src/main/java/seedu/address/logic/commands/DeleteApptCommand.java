@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -58,12 +57,8 @@ public class DeleteApptCommand extends Command {
         requireNonNull(model);
         logger.info("Executing DeleteApptCommand");
 
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        // Source adapted from ChatGPT
-        Patient patientToDeleteAppt = lastShownList.stream()
-                .filter(patient -> patient.getNric().equals(nric))
-                .findFirst()
+        Patient patientToDeleteAppt = model.findPatient(nric)
+                .filter(model::isInFilteredPatientList)
                 .orElseThrow(() -> new CommandException(String.format(Messages.MESSAGE_INVALID_PATIENT_NRIC,
                     nric)));
         if (patientToDeleteAppt == null) {
@@ -71,21 +66,18 @@ public class DeleteApptCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PATIENT_NRIC);
         }
 
-        // Source adapted from ChatGPT
-        Appt apptToDelete = patientToDeleteAppt.getImmutableApptList().stream()
-                .filter(appt -> appt.getDateTime().equals(apptDateTime))
-                .findFirst()
+        Appt apptToDelete = patientToDeleteAppt.findAppt(apptDateTime)
                 .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_APPT_DATETIME));
         if (apptToDelete == null) {
             logger.warning("Appointment not found");
             throw new CommandException(Messages.MESSAGE_INVALID_APPT_DATETIME);
         }
 
-        patientToDeleteAppt.deleteAppt(apptToDelete);
+        Patient updatedPatient = model.deleteAppt(patientToDeleteAppt, apptToDelete);
         logger.info("Appointment deleted successfully");
 
         return new ShowPatientInfoCommandResult(String.format(MESSAGE_DELETE_APPT_SUCCESS, apptToDelete),
-                patientToDeleteAppt, true);
+                updatedPatient, true);
     }
 
     /**
@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -40,10 +39,8 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-        Patient patientToDelete = lastShownList.stream()
-                .filter(patient -> patient.getNric().equals(targetNric))
-                .findFirst()
+        Patient patientToDelete = model.findPatient(targetNric)
+                .filter(model::isInFilteredPatientList)
                 .orElse(null);
         if (patientToDelete == null) {
             logger.warning("Patient with NRIC " + targetNric + " not found");
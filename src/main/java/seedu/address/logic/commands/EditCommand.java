@@ -69,11 +69,8 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
-        Patient patientToEdit = lastShownList.stream()
-                .filter(patient -> patient.getNric().equals(nric))
-                .findFirst()
+        Patient patientToEdit = model.findPatient(nric)
+                .filter(model::isInFilteredPatientList)
                 .orElse(null);
 
         if (patientToEdit == null) {
@@ -122,58 +119,58 @@ public class EditCommand extends Command {
     }
 
     /**
-     * Updates the allergies of a patient based on the given {@code EditPersonDescriptor}.
+     * Returns the allergies of a patient updated based on the given {@code EditPersonDescriptor}.
+     * The allergies of {@code patientToEdit} are not changed, as the patient may be shared with snapshots of the
+     * address book.
      */
     public static AllergyList getUpdatedAllergyList(Patient patientToEdit, EditPatientDescriptor editPatientDescriptor)
             throws CommandException {
         Optional<AllergyList> allergiesToAdd = editPatientDescriptor.getAllergiesToAdd();
         Optional<AllergyList> allergiesToRemove = editPatientDescriptor.getAllergiesToRemove();
-        if (allergiesToAdd.isEmpty() && allergiesToRemove.isEmpty()) {
-            return new AllergyList(new LinkedHashSet<>(patientToEdit.getAllergies()));
-        }
+        AllergyList updatedAllergies = new AllergyList(new LinkedHashSet<>(patientToEdit.getAllergies()));
         if (allergiesToRemove.isPresent()) {
-            removeAllergies(patientToEdit, allergiesToRemove.get().getAllergies());
+            removeAllergies(updatedAllergies, allergiesToRemove.get().getAllergies());
         }
         if (allergiesToAdd.isPresent()) {
-            addAllergies(patientToEdit, allergiesToAdd.get().getAllergies());
+            addAllergies(updatedAllergies, allergiesToAdd.get().getAllergies());
         }
-        return new AllergyList(new LinkedHashSet<>(patientToEdit.getAllergies()));
+        return updatedAllergies;
     }
 
     /**
-     * Checks if all the specified allergies to be removed are present in the patient's list of allergies and
-     * removes specified allergies from patient's list of allergies.
+     * Checks if all the specified allergies to be removed are present in {@code allergyList} and
+     * removes specified allergies from it.
      */
-    private static void removeAllergies(Patient patientToEdit, List<Allergy> allergiesToRemove)
+    private static void removeAllergies(AllergyList allergyList, List<Allergy> allergiesToRemove)
             throws CommandException {
         assert allergiesToRemove != null;
         for (Allergy allergy : allergiesToRemove) {
             try {
-                patientToEdit.checkAllergyPresentForRemoval(allergy);
+                allergyList.checkAllergyPresentForRemoval(allergy);
             } catch (AllergyNotFoundException e) {
                 throw new CommandException(String.format(Messages.MESSAGE_INVALID_ALLERGY_TO_DELETE, allergy));
             }
         }
         for (Allergy allergy : allergiesToRemove) {
-            patientToEdit.deleteAllergy(allergy);
+            allergyList.deleteAllergy(allergy);
         }
     }
 
     /**
-     * Checks if any of the specified allergies to be added already exists in the patient's list of allergies and
-     * adds specified allergies to patient's list of allergies.
+     * Checks if any of the specified allergies to be added already exists in {@code allergyList} and
+     * adds specified allergies to it.
      */
-    public static void addAllergies(Patient patientToEdit, List<Allergy> allergiesToAdd) throws CommandException {
+    public static void addAllergies(AllergyList allergyList, List<Allergy> allergiesToAdd) throws CommandException {
         assert allergiesToAdd != null;
         for (Allergy allergy : allergiesToAdd) {
             try {
-                patientToEdit.checkAllergyAlreadyExists(allergy);
+                allergyList.checkAllergyAlreadyExists(allergy);
             } catch (AllergyAlreadyExistsException e) {
                 throw new CommandException(String.format(Messages.MESSAGE_INVALID_ALLERGY_TO_ADD, allergy));
             }
         }
         for (Allergy allergy : allergiesToAdd) {
-            patientToEdit.addAllergy(allergy);
+            allergyList.addAllergy(allergy);
         }
     }
 
@@ -0,0 +1,34 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PATIENTS;
+
+import seedu.address.logic.commands.commandresult.CommandResult;
+import seedu.address.logic.commands.commandresult.DefaultCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.VersionedModel;
+
+/**
+ * Reverts the address book to what it was before the most recent undo command.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        VersionedModel versionedModel = requireVersionedModel(model);
+
+        if (!versionedModel.canRedoClinicConnectSystem()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        versionedModel.redoClinicConnectSystem();
+        model.updateFilteredPatientList(PREDICATE_SHOW_ALL_PATIENTS);
+        return new DefaultCommandResult(MESSAGE_SUCCESS);
+    }
+}
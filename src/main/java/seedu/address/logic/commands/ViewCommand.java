@@ -2,7 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -41,12 +40,9 @@ public class ViewCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Patient> lastShownList = model.getFilteredPatientList();
-
         // Find the patient with the given nric
-        Optional<Patient> optionalPatient = lastShownList.stream()
-                .filter(patient -> patient.getNric().equals(targetNric))
-                .findFirst();
+        Optional<Patient> optionalPatient = model.findPatient(targetNric)
+                .filter(model::isInFilteredPatientList);
 
         if (!optionalPatient.isPresent()) {
             logger.warning("Patient with NRIC " + targetNric + " not found");
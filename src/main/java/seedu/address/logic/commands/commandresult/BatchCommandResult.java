@@ -0,0 +1,16 @@
+package seedu.address.logic.commands.commandresult;
+
+/**
+ * Represents the result of executing a batch of commands, which shows what the last command of the batch asked
+ * to be shown, with the given {@code feedbackToUser} of the whole batch.
+ */
+public class BatchCommandResult extends CommandResult {
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, and other fields set to those
+     * of {@code lastResult}.
+     */
+    public BatchCommandResult(String feedbackToUser, CommandResult lastResult) {
+        super(feedbackToUser, lastResult.getKeyword(), lastResult.isShowHelp(), lastResult.getPatient(),
+                lastResult.isShowPatientInfo(), lastResult.isExit(), lastResult.isShowFilteredAppts());
+    }
+}
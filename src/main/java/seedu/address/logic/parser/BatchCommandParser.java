@@ -0,0 +1,76 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_INVALID_BATCH_COMMAND = "Command %1$d of the batch is invalid.\n%2$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch cannot contain another batch.";
+    public static final String MESSAGE_COMMAND_NOT_IN_BATCH = "A batch cannot contain the %1$s command.";
+
+    /**
+     * The command words of the commands that cannot be part of a batch. A batch only shows what the last of its
+     * commands asks the UI to do, so exiting or showing help from any other command of the batch would be lost.
+     * Undoing or redoing moves steps of the history, which a batch that fails does not roll back.
+     */
+    private static final Set<String> COMMAND_WORDS_NOT_IN_BATCH = Set.of(ExitCommand.COMMAND_WORD,
+            HelpCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD);
+
+    private final ClinicConnectSystemParser clinicConnectSystemParser;
+
+    public BatchCommandParser(ClinicConnectSystemParser clinicConnectSystemParser) {
+        this.clinicConnectSystemParser = clinicConnectSystemParser;
+    }
+
+    /**
+     * Parses the given {@code String} of commands separated by {@value BatchCommand#COMMAND_SEPARATOR} in the
+     * context of the BatchCommand and returns a BatchCommand object for execution.
+     * Every command is parsed before any of them is executed, so a batch with an invalid command changes nothing.
+     * @throws ParseException if any of the commands does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        String[] commandTexts = args.split(BatchCommand.COMMAND_SEPARATOR, -1);
+        List<Command> commands = new ArrayList<>();
+        for (int i = 0; i < commandTexts.length; i++) {
+            String commandText = commandTexts[i].trim();
+            if (commandText.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, i + 1,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE)));
+            }
+            String commandWord = ClinicConnectSystemParser.getCommandWord(commandText);
+            if (commandWord.equals(BatchCommand.COMMAND_WORD)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, i + 1, MESSAGE_NESTED_BATCH));
+            }
+            if (COMMAND_WORDS_NOT_IN_BATCH.contains(commandWord)) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, i + 1,
+                        String.format(MESSAGE_COMMAND_NOT_IN_BATCH, commandWord)));
+            }
+
+            try {
+                commands.add(clinicConnectSystemParser.parseCommand(commandText));
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_INVALID_BATCH_COMMAND, i + 1, pe.getMessage()), pe);
+            }
+        }
+        return new BatchCommand(commands);
+    }
+}
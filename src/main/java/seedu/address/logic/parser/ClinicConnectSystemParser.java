@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Arrays;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,6 +12,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddFCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.BookApptCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
@@ -20,6 +23,8 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HomeCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -34,8 +39,18 @@ public class ClinicConnectSystemParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(ClinicConnectSystemParser.class);
 
+    private static final Set<String> COMMAND_WORDS = Set.of(AddCommand.COMMAND_WORD, EditCommand.COMMAND_WORD,
+            DeleteCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD, HomeCommand.COMMAND_WORD,
+            ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, BookApptCommand.COMMAND_WORD,
+            AddFCommand.COMMAND_WORD, ViewCommand.COMMAND_WORD, FilterCommand.COMMAND_WORD,
+            DeleteApptCommand.COMMAND_WORD, BatchCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD,
+            RedoCommand.COMMAND_WORD);
+
     /**
      * Parses user input into command for execution.
+     * Input with commands separated by {@value BatchCommand#COMMAND_SEPARATOR} is parsed as a batch of commands,
+     * even without the {@value BatchCommand#COMMAND_WORD} command word, if every part of it starts with a command
+     * word. Otherwise the separator is taken to be part of a field value, and the input is parsed as one command.
      *
      * @param userInput full user input string
      * @return the command based on the user input
@@ -49,6 +64,9 @@ public class ClinicConnectSystemParser {
 
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
+        if (!commandWord.equalsIgnoreCase(BatchCommand.COMMAND_WORD) && isBatchWithoutCommandWord(userInput)) {
+            return new BatchCommandParser(this).parse(userInput);
+        }
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
@@ -92,9 +110,35 @@ public class ClinicConnectSystemParser {
         case DeleteApptCommand.COMMAND_WORD:
             return new DeleteApptCommandParser().parse(arguments);
 
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser(this).parse(arguments);
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
+
+    /**
+     * Returns true if {@code userInput} has several parts separated by {@value BatchCommand#COMMAND_SEPARATOR},
+     * each of which starts with a command word.
+     */
+    private static boolean isBatchWithoutCommandWord(String userInput) {
+        return userInput.contains(BatchCommand.COMMAND_SEPARATOR)
+                && Arrays.stream(userInput.split(BatchCommand.COMMAND_SEPARATOR, -1))
+                        .allMatch(commandText -> COMMAND_WORDS.contains(getCommandWord(commandText)));
+    }
+
+    /**
+     * Returns the command word of {@code commandText} in lower case, or an empty string if it is blank.
+     */
+    static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0].toLowerCase();
+    }
 }
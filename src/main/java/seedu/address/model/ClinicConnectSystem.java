@@ -1,21 +1,43 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.filteredappointment.AppointmentIndex;
+import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PersistentPatientList;
 import seedu.address.model.patient.UniquePatientList;
+import seedu.address.model.patient.exceptions.PatientNotFoundException;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePatient comparison)
+ * The appointments of all patients are additionally indexed by date and time.
+ * Changes made through the patient-level and appointment-level operations are recorded until they are taken
+ * with {@link #takeChanges()}, and each of them moves the address book on to a new version.
+ * Patients are immutable and the patients and appointments are held in persistent collections, so snapshots
+ * and savepoints of the address book take O(1) time and share everything but the changes made after them.
+ * The inverse of every change is also recorded until taken with {@link #takeInverseChanges()}, so that the
+ * changes can be undone.
  */
 public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
 
     private final UniquePatientList patients;
+    private final AppointmentIndex appointments;
+    private final List<ClinicConnectSystemChange> changes;
+    private final List<InverseChange> inverseChanges;
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,16 +48,32 @@ public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
      */
     {
         patients = new UniquePatientList();
+        appointments = new AppointmentIndex();
+        changes = new ArrayList<>();
+        inverseChanges = new ArrayList<>();
     }
 
     public ClinicConnectSystem() {}
 
+    /**
+     * Creates an ClinicConnectSystem containing {@code patients}, replacing the patient list in one step.
+     * {@code patients} must not contain duplicate patients.
+     */
+    public ClinicConnectSystem(List<Patient> patients) {
+        this();
+        setPatients(patients);
+        changes.clear();
+        inverseChanges.clear();
+    }
+
     /**
      * Creates an ClinicConnectSystem using the Patients in the {@code toBeCopied}
      */
     public ClinicConnectSystem(ReadOnlyClinicConnectSystem toBeCopied) {
         this();
         resetData(toBeCopied);
+        changes.clear();
+        inverseChanges.clear();
     }
 
     //// list overwrite operations
@@ -45,7 +83,12 @@ public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
      * {@code patients} must not contain duplicate patients.
      */
     public void setPatients(List<Patient> patients) {
+        ClinicConnectSystemSnapshot replacedData = snapshot();
         this.patients.setPatients(patients);
+        appointments.clear();
+        patients.forEach(appointments::addPatient);
+        recordChange(ClinicConnectSystemChange.reset());
+        inverseChanges.add(InverseChange.restore(replacedData));
     }
 
     /**
@@ -54,7 +97,24 @@ public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
     public void resetData(ReadOnlyClinicConnectSystem newData) {
         requireNonNull(newData);
 
-        setPatients(newData.getPatientList());
+        // The patients and appointments of another address book or a snapshot are shared rather than re-indexed
+        if (newData instanceof ClinicConnectSystem) {
+            ClinicConnectSystem other = (ClinicConnectSystem) newData;
+            setData(other.patients.toPersistentList(), other.appointments);
+        } else if (newData instanceof ClinicConnectSystemSnapshot) {
+            ClinicConnectSystemSnapshot snapshot = (ClinicConnectSystemSnapshot) newData;
+            setData(snapshot.getPersistentPatientList(), snapshot.getAppointmentIndex());
+        } else {
+            setPatients(newData.getPatientList());
+        }
+    }
+
+    private void setData(PersistentPatientList newPatients, AppointmentIndex newAppointments) {
+        ClinicConnectSystemSnapshot replacedData = snapshot();
+        patients.setPatients(newPatients);
+        appointments.resetData(newAppointments);
+        recordChange(ClinicConnectSystemChange.reset());
+        inverseChanges.add(InverseChange.restore(replacedData));
     }
 
     //// patient-level operations
@@ -67,12 +127,34 @@ public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
         return patients.contains(patient);
     }
 
+    /**
+     * Returns the patient with the given {@code nric} in the address book, if any.
+     */
+    public Optional<Patient> findPatient(Nric nric) {
+        requireNonNull(nric);
+        return patients.find(nric);
+    }
+
     /**
      * Adds a patient to the address book.
      * The patient must not already exist in the address book.
      */
     public void addPatient(Patient p) {
         patients.add(p);
+        appointments.addPatient(p);
+        recordChange(ClinicConnectSystemChange.putPatient(p));
+        inverseChanges.add(InverseChange.removePatient(p.getNric()));
+    }
+
+    /**
+     * Inserts a patient into the patient list of the address book at {@code index}, e.g. to put back a patient
+     * removed from there. The patient must not already exist in the address book.
+     */
+    public void addPatient(int index, Patient p) {
+        patients.add(index, p);
+        appointments.addPatient(p);
+        recordChange(ClinicConnectSystemChange.putPatient(p));
+        inverseChanges.add(InverseChange.removePatient(p.getNric()));
     }
 
     /**
@@ -84,7 +166,15 @@ public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
     public void setPatient(Patient target, Patient editedPatient) {
         requireNonNull(editedPatient);
 
+        Optional<Patient> replacedPatient = patients.find(target.getNric());
         patients.setPatient(target, editedPatient);
+        replacedPatient.ifPresent(appointments::removePatient);
+        appointments.addPatient(editedPatient);
+        if (!target.getNric().equals(editedPatient.getNric())) {
+            recordChange(ClinicConnectSystemChange.removePatient(target.getNric()));
+        }
+        recordChange(ClinicConnectSystemChange.putPatient(editedPatient));
+        inverseChanges.add(InverseChange.replacePatient(editedPatient.getNric(), replacedPatient.get()));
     }
 
     /**
@@ -92,7 +182,140 @@ public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
      * {@code key} must exist in the address book.
      */
     public void removePatient(Patient key) {
+        Optional<Patient> removedPatient = patients.find(key.getNric());
+        int index = patients.indexOf(key.getNric());
         patients.remove(key);
+        removedPatient.ifPresent(appointments::removePatient);
+        recordChange(ClinicConnectSystemChange.removePatient(key.getNric()));
+        inverseChanges.add(InverseChange.insertPatient(index, removedPatient.get()));
+    }
+
+    //// appointment-level operations
+
+    /**
+     * Adds {@code appt} to the appointments of the patient with the same NRIC as {@code patient}, and returns
+     * the updated patient, which replaces it in the address book.
+     * {@code patient} must exist in the address book.
+     */
+    public Patient addAppt(Patient patient, Appt appt) {
+        requireAllNonNull(patient, appt);
+        Patient target = patients.find(patient.getNric()).orElseThrow(PatientNotFoundException::new);
+        Patient updatedPatient = target.withAppt(appt);
+        replaceAppts(target, updatedPatient);
+        recordChange(ClinicConnectSystemChange.addAppt(patient.getNric(), appt));
+        inverseChanges.add(InverseChange.deleteAppt(patient.getNric(), appt));
+        return updatedPatient;
+    }
+
+    /**
+     * Removes {@code appt} from the appointments of the patient with the same NRIC as {@code patient}, and returns
+     * the updated patient, which replaces it in the address book.
+     * {@code patient} must exist in the address book.
+     */
+    public Patient deleteAppt(Patient patient, Appt appt) {
+        requireAllNonNull(patient, appt);
+        Patient target = patients.find(patient.getNric()).orElseThrow(PatientNotFoundException::new);
+        Patient updatedPatient = target.withoutAppt(appt);
+        replaceAppts(target, updatedPatient);
+        recordChange(ClinicConnectSystemChange.deleteAppt(patient.getNric(), appt));
+        inverseChanges.add(InverseChange.addAppt(patient.getNric(), appt));
+        return updatedPatient;
+    }
+
+    /**
+     * Replaces {@code target} with {@code updatedPatient}, which differs from it only in its appointments.
+     * All appointments of the patient are re-indexed, as the index holds the patient of each appointment.
+     */
+    private void replaceAppts(Patient target, Patient updatedPatient) {
+        patients.setPatient(target, updatedPatient);
+        appointments.removePatient(target);
+        appointments.addPatient(updatedPatient);
+    }
+
+    /**
+     * Returns the appointments of all patients that satisfy {@code dateFilter}, in no particular order.
+     */
+    public Stream<FilteredAppointment> filterAppts(AppointmentDateFilter dateFilter) {
+        return appointments.filter(dateFilter);
+    }
+
+    //// change tracking
+
+    /**
+     * Returns the changes made since they were last taken, in the order they were made, and stops holding them.
+     * A {@link ClinicConnectSystemChange.Type#RESET} is always the first change returned, as the changes
+     * before it are discarded.
+     * As patients are immutable, the changes can be saved while this address book continues to change.
+     */
+    public List<ClinicConnectSystemChange> takeChanges() {
+        List<ClinicConnectSystemChange> takenChanges = new ArrayList<>(changes);
+        changes.clear();
+        return takenChanges;
+    }
+
+    /**
+     * Returns the inverses of the changes made since they were last taken, in the order the changes were made,
+     * and stops holding them. Making the inverse changes in the reverse order undoes the changes.
+     */
+    public List<InverseChange> takeInverseChanges() {
+        List<InverseChange> takenInverseChanges = new ArrayList<>(inverseChanges);
+        inverseChanges.clear();
+        return takenInverseChanges;
+    }
+
+    /**
+     * Returns a snapshot of this address book, which is not affected by later changes to it, so that it can be
+     * read or saved while this address book continues to change. Takes O(1) time, as the snapshot shares the
+     * persistent patient list and appointment index of this address book.
+     */
+    public ClinicConnectSystemSnapshot snapshot() {
+        return new ClinicConnectSystemSnapshot(version, patients.toPersistentList(),
+                new AppointmentIndex(appointments));
+    }
+
+    /**
+     * Returns the version of the address book, which is increased by every change made to it.
+     * Two calls that return the same version mean that the address book was not changed in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    //// savepoints
+
+    /**
+     * Returns a savepoint of the patients in this address book, which the address book can be rolled back to
+     * with {@link #rollBackTo(Savepoint)}, e.g. when a batch of commands fails part way. Takes O(1) time.
+     */
+    public Savepoint createSavepoint() {
+        return new Savepoint(patients.toPersistentList(), new AppointmentIndex(appointments), version,
+                !changes.isEmpty(), inverseChanges.size());
+    }
+
+    /**
+     * Undoes all the changes made since {@code savepoint} was created.
+     * If there were no changes waiting to be taken when {@code savepoint} was created, the address book goes back
+     * to its version then with no changes to be taken, as if the changes since had never been made. Otherwise, the
+     * rollback is recorded as a reset, so that the changes that were waiting to be taken are not lost.
+     */
+    public void rollBackTo(Savepoint savepoint) {
+        requireNonNull(savepoint);
+        setData(savepoint.patients, savepoint.appointments);
+        // The changes since the savepoint are gone, so they are not to be undone either
+        inverseChanges.subList(Math.min(savepoint.inverseChangeCount, inverseChanges.size()), inverseChanges.size())
+                .clear();
+        if (!savepoint.hasUntakenChanges) {
+            changes.clear();
+            version = savepoint.version;
+        }
+    }
+
+    private void recordChange(ClinicConnectSystemChange change) {
+        version++;
+        if (change.getType() == ClinicConnectSystemChange.Type.RESET) {
+            changes.clear();
+        }
+        changes.add(change);
     }
 
     //// util methods
@@ -128,4 +351,24 @@ public class ClinicConnectSystem implements ReadOnlyClinicConnectSystem {
     public int hashCode() {
         return patients.hashCode();
     }
+
+    /**
+     * A state of a {@code ClinicConnectSystem} that it can be rolled back to.
+     */
+    public static class Savepoint {
+        private final PersistentPatientList patients;
+        private final AppointmentIndex appointments;
+        private final long version;
+        private final boolean hasUntakenChanges;
+        private final int inverseChangeCount;
+
+        private Savepoint(PersistentPatientList patients, AppointmentIndex appointments, long version,
+                boolean hasUntakenChanges, int inverseChangeCount) {
+            this.patients = patients;
+            this.appointments = appointments;
+            this.version = version;
+            this.hasUntakenChanges = hasUntakenChanges;
+            this.inverseChangeCount = inverseChangeCount;
+        }
+    }
 }
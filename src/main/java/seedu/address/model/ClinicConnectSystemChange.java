@@ -0,0 +1,179 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Represents a single change made to a {@code ClinicConnectSystem}.
+ * Changes are recorded in the order they are made, so that storages can save only what has changed.
+ */
+public class ClinicConnectSystemChange {
+
+    /**
+     * The kinds of changes that can be made to a {@code ClinicConnectSystem}.
+     */
+    public enum Type {
+        /** A patient is added, or replaces the patient with the same NRIC. */
+        PUT_PATIENT,
+        /** The patient with the NRIC is removed. */
+        REMOVE_PATIENT,
+        /** An appointment is added to the patient with the NRIC. */
+        ADD_APPT,
+        /** An appointment is removed from the patient with the NRIC. */
+        DELETE_APPT,
+        /** All patients are replaced, so the data has to be saved as a whole. */
+        RESET
+    }
+
+    private final Type type;
+    private final Nric nric;
+    private final Patient patient;
+    private final Appt appt;
+
+    private ClinicConnectSystemChange(Type type, Nric nric, Patient patient, Appt appt) {
+        this.type = type;
+        this.nric = nric;
+        this.patient = patient;
+        this.appt = appt;
+    }
+
+    /**
+     * Returns a change that adds {@code patient}, or replaces the patient with the same NRIC.
+     */
+    public static ClinicConnectSystemChange putPatient(Patient patient) {
+        requireNonNull(patient);
+        return new ClinicConnectSystemChange(Type.PUT_PATIENT, patient.getNric(), patient, null);
+    }
+
+    /**
+     * Returns a change that removes the patient with the given {@code nric}.
+     */
+    public static ClinicConnectSystemChange removePatient(Nric nric) {
+        requireNonNull(nric);
+        return new ClinicConnectSystemChange(Type.REMOVE_PATIENT, nric, null, null);
+    }
+
+    /**
+     * Returns a change that adds {@code appt} to the patient with the given {@code nric}.
+     */
+    public static ClinicConnectSystemChange addAppt(Nric nric, Appt appt) {
+        requireAllNonNull(nric, appt);
+        return new ClinicConnectSystemChange(Type.ADD_APPT, nric, null, appt);
+    }
+
+    /**
+     * Returns a change that removes {@code appt} from the patient with the given {@code nric}.
+     */
+    public static ClinicConnectSystemChange deleteAppt(Nric nric, Appt appt) {
+        requireAllNonNull(nric, appt);
+        return new ClinicConnectSystemChange(Type.DELETE_APPT, nric, null, appt);
+    }
+
+    /**
+     * Returns a change that replaces all patients.
+     */
+    public static ClinicConnectSystemChange reset() {
+        return new ClinicConnectSystemChange(Type.RESET, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the NRIC of the patient changed, or null for a {@link Type#RESET}.
+     */
+    public Nric getNric() {
+        return nric;
+    }
+
+    /**
+     * Returns the patient put, or null if this is not a {@link Type#PUT_PATIENT}.
+     */
+    public Patient getPatient() {
+        return patient;
+    }
+
+    /**
+     * Returns the appointment added or deleted, or null if this is not a {@link Type#ADD_APPT}
+     * or {@link Type#DELETE_APPT}.
+     */
+    public Appt getAppt() {
+        return appt;
+    }
+
+    /**
+     * Makes this change to {@code clinicConnectSystem}.
+     * Changes to a patient that is not in {@code clinicConnectSystem} are ignored, so that a change that
+     * has already been made can be made again without any effect.
+     *
+     * @throws UnsupportedOperationException if this is a {@link Type#RESET}, which does not hold the new data.
+     */
+    public void applyTo(ClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
+        switch (type) {
+        case PUT_PATIENT:
+            Optional<Patient> existingPatient = clinicConnectSystem.findPatient(nric);
+            if (existingPatient.isPresent()) {
+                clinicConnectSystem.setPatient(existingPatient.get(), patient);
+            } else {
+                clinicConnectSystem.addPatient(patient);
+            }
+            break;
+        case REMOVE_PATIENT:
+            clinicConnectSystem.findPatient(nric).ifPresent(clinicConnectSystem::removePatient);
+            break;
+        case ADD_APPT:
+            clinicConnectSystem.findPatient(nric).ifPresent(target -> clinicConnectSystem.addAppt(target, appt));
+            break;
+        case DELETE_APPT:
+            clinicConnectSystem.findPatient(nric).ifPresent(target -> clinicConnectSystem.deleteAppt(target, appt));
+            break;
+        case RESET:
+            throw new UnsupportedOperationException("A reset cannot be applied on its own.");
+        default:
+            throw new AssertionError(type);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ClinicConnectSystemChange)) {
+            return false;
+        }
+
+        ClinicConnectSystemChange otherChange = (ClinicConnectSystemChange) other;
+        return type == otherChange.type
+                && Objects.equals(nric, otherChange.nric)
+                && Objects.equals(patient, otherChange.patient)
+                && Objects.equals(appt, otherChange.appt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, nric, patient, appt);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("nric", nric)
+                .add("patient", patient)
+                .add("appt", appt)
+                .toString();
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * The steps that can be undone and redone on a {@code ClinicConnectSystem}, most recent first.
+ * Each step holds the inverse changes of the changes it made, rather than a copy of the address book, and the
+ * history keeps only as many of the most recent steps as fit within a number of bytes.
+ */
+public class ClinicConnectSystemHistory {
+
+    /** The default number of bytes that the steps in a history may take up. */
+    public static final long DEFAULT_MAX_BYTES = 16L * 1024 * 1024;
+
+    private final long maxBytes;
+    private final Deque<Step> undoSteps = new ArrayDeque<>();
+    private final Deque<Step> redoSteps = new ArrayDeque<>();
+    private long bytes;
+
+    /**
+     * Creates an empty history whose steps may take up to {@code maxBytes} bytes.
+     */
+    public ClinicConnectSystemHistory(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("The size of the history cannot be negative.");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    public ClinicConnectSystemHistory() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Adds a step that undoes {@code inverseChanges}, as taken from {@link ClinicConnectSystem#takeInverseChanges()},
+     * and discards the steps that could have been redone. Nothing is added if there are no inverse changes.
+     */
+    public void commit(List<InverseChange> inverseChanges) {
+        requireNonNull(inverseChanges);
+        if (inverseChanges.isEmpty()) {
+            return;
+        }
+        while (!redoSteps.isEmpty()) {
+            bytes -= redoSteps.pop().bytes;
+        }
+        push(undoSteps, inverseChanges);
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Undoes the most recent step on {@code clinicConnectSystem}, which then becomes the step to redo.
+     * The inverse changes of all the changes made to {@code clinicConnectSystem} must have been committed.
+     */
+    public void undo(ClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no step to undo.");
+        }
+        move(undoSteps, redoSteps, clinicConnectSystem);
+    }
+
+    /**
+     * Redoes the most recently undone step on {@code clinicConnectSystem}, which then becomes the step to undo.
+     * The inverse changes of all the changes made to {@code clinicConnectSystem} must have been committed.
+     */
+    public void redo(ClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no step to redo.");
+        }
+        move(redoSteps, undoSteps, clinicConnectSystem);
+    }
+
+    /**
+     * Removes all steps from the history.
+     */
+    public void clear() {
+        undoSteps.clear();
+        redoSteps.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken up by the steps in the history.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Makes the most recent step of {@code from} on {@code clinicConnectSystem}, and adds the step that undoes it
+     * to {@code to}. The inverse changes are made in the reverse order of the changes they undo, and the inverse
+     * changes that they record in turn form the step that undoes them.
+     */
+    private void move(Deque<Step> from, Deque<Step> to, ClinicConnectSystem clinicConnectSystem) {
+        Step step = from.pop();
+        bytes -= step.bytes;
+        for (int i = step.inverseChanges.size() - 1; i >= 0; i--) {
+            step.inverseChanges.get(i).applyTo(clinicConnectSystem);
+        }
+        push(to, clinicConnectSystem.takeInverseChanges());
+    }
+
+    /**
+     * Adds a step of {@code inverseChanges} to {@code steps}, and then discards the oldest steps until the history
+     * fits within its size. Steps that can be redone are discarded before steps that can be undone, and a step
+     * that does not fit on its own is discarded as well.
+     */
+    private void push(Deque<Step> steps, List<InverseChange> inverseChanges) {
+        Step step = new Step(inverseChanges);
+        steps.push(step);
+        bytes += step.bytes;
+        while (bytes > maxBytes && !redoSteps.isEmpty()) {
+            bytes -= redoSteps.removeLast().bytes;
+        }
+        while (bytes > maxBytes && !undoSteps.isEmpty()) {
+            bytes -= undoSteps.removeLast().bytes;
+        }
+    }
+
+    /**
+     * The inverse changes of one step, in the order of the changes they undo.
+     */
+    private static class Step {
+        private final List<InverseChange> inverseChanges;
+        private final long bytes;
+
+        Step(List<InverseChange> inverseChanges) {
+            this.inverseChanges = List.copyOf(inverseChanges);
+            this.bytes = inverseChanges.stream().mapToLong(InverseChange::estimateBytes).sum();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.filteredappointment.AppointmentIndex;
+import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.PersistentPatientList;
+
+/**
+ * An unchanging copy of the address book at one of its versions, which any number of threads can read at the
+ * same time as the address book itself is being changed, without any locking.
+ * A snapshot shares its immutable patients and persistent collections with the address book, so it is created
+ * in O(1) time however many patients there are.
+ */
+public class ClinicConnectSystemSnapshot implements ReadOnlyClinicConnectSystem {
+
+    private final long version;
+    private final PersistentPatientList patients;
+    private final AppointmentIndex appointments;
+
+    /** Built when the patient list of the snapshot is first asked for, as most snapshots are only searched. */
+    private volatile ObservableList<Patient> patientList;
+
+    /**
+     * Creates a snapshot at {@code version} of the patients {@code patients} and their appointments
+     * {@code appointments}, which must not be changed afterwards.
+     */
+    ClinicConnectSystemSnapshot(long version, PersistentPatientList patients, AppointmentIndex appointments) {
+        requireAllNonNull(patients, appointments);
+        this.version = version;
+        this.patients = patients;
+        this.appointments = appointments;
+    }
+
+    /**
+     * Returns the version of the address book that this is a snapshot of.
+     * @see ClinicConnectSystem#getVersion()
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Patient> getPatientList() {
+        ObservableList<Patient> list = patientList;
+        if (list == null) {
+            // Only threads asking for the list of this snapshot for the first time wait here, and only for each other
+            synchronized (this) {
+                list = patientList;
+                if (list == null) {
+                    list = FXCollections.unmodifiableObservableList(FXCollections.observableList(patients.toList()));
+                    patientList = list;
+                }
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Returns the patient with the given {@code nric} in this snapshot, if any.
+     */
+    public Optional<Patient> findPatient(Nric nric) {
+        requireNonNull(nric);
+        return patients.find(nric);
+    }
+
+    /**
+     * Returns the appointments in this snapshot that satisfy {@code dateFilter}, in date and time order.
+     */
+    public List<FilteredAppointment> filterAppts(AppointmentDateFilter dateFilter) {
+        requireNonNull(dateFilter);
+        return appointments.filter(dateFilter)
+                .sorted(FilteredAppointment.APPOINTMENT_COMPARATOR)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns up to {@code limit} appointments in this snapshot for {@code healthService} at or after {@code from}
+     * and before {@code to}, or with no end if {@code to} is null, in date and time order.
+     */
+    public List<FilteredAppointment> getUpcomingAppts(HealthService healthService, LocalDateTime from,
+            LocalDateTime to, int limit) {
+        return appointments.getUpcoming(healthService, from, to, limit);
+    }
+
+    PersistentPatientList getPersistentPatientList() {
+        return patients;
+    }
+
+    AppointmentIndex getAppointmentIndex() {
+        return appointments;
+    }
+}
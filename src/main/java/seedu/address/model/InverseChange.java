@@ -0,0 +1,177 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.exceptions.PatientNotFoundException;
+
+/**
+ * Represents the change that undoes a single change made to a {@code ClinicConnectSystem}.
+ * An inverse change holds only what the change replaced, e.g. the appointment booked or the patient before it was
+ * edited, so that undoing a change takes time in proportion to the size of the change rather than of the
+ * address book. As patients are immutable, holding the replaced patient does not copy it.
+ */
+public class InverseChange {
+
+    /** The estimated size in bytes of an inverse change that holds no patient. */
+    static final long CHANGE_BYTES = 64;
+    /** The estimated size in bytes of a patient with no appointments. */
+    static final long PATIENT_BYTES = 512;
+    /** The estimated size in bytes of each appointment of a patient. */
+    static final long APPT_BYTES = 96;
+
+    /**
+     * The kinds of changes that undo a change made to a {@code ClinicConnectSystem}.
+     */
+    public enum Type {
+        /** The patient with the NRIC is removed, undoing the patient being added. */
+        REMOVE_PATIENT,
+        /** The patient is inserted at the index, undoing the patient being removed from there. */
+        INSERT_PATIENT,
+        /** The patient with the NRIC is replaced by the patient, undoing the patient being edited. */
+        REPLACE_PATIENT,
+        /** The appointment is added to the patient with the NRIC, undoing the appointment being deleted. */
+        ADD_APPT,
+        /** The appointment is removed from the patient with the NRIC, undoing the appointment being booked. */
+        DELETE_APPT,
+        /** All patients are replaced by those of the snapshot, undoing all patients being replaced. */
+        RESTORE
+    }
+
+    private final Type type;
+    private final Nric nric;
+    private final Patient patient;
+    private final Appt appt;
+    private final int index;
+    private final ClinicConnectSystemSnapshot snapshot;
+
+    private InverseChange(Type type, Nric nric, Patient patient, Appt appt, int index,
+            ClinicConnectSystemSnapshot snapshot) {
+        this.type = type;
+        this.nric = nric;
+        this.patient = patient;
+        this.appt = appt;
+        this.index = index;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns the inverse change of the patient with the given {@code nric} being added.
+     */
+    public static InverseChange removePatient(Nric nric) {
+        requireNonNull(nric);
+        return new InverseChange(Type.REMOVE_PATIENT, nric, null, null, -1, null);
+    }
+
+    /**
+     * Returns the inverse change of {@code patient} being removed from {@code index} in the patient list.
+     */
+    public static InverseChange insertPatient(int index, Patient patient) {
+        requireNonNull(patient);
+        return new InverseChange(Type.INSERT_PATIENT, patient.getNric(), patient, null, index, null);
+    }
+
+    /**
+     * Returns the inverse change of {@code patient} being replaced by a patient with the given {@code nric}.
+     */
+    public static InverseChange replacePatient(Nric nric, Patient patient) {
+        requireAllNonNull(nric, patient);
+        return new InverseChange(Type.REPLACE_PATIENT, nric, patient, null, -1, null);
+    }
+
+    /**
+     * Returns the inverse change of {@code appt} being deleted from the patient with the given {@code nric}.
+     */
+    public static InverseChange addAppt(Nric nric, Appt appt) {
+        requireAllNonNull(nric, appt);
+        return new InverseChange(Type.ADD_APPT, nric, null, appt, -1, null);
+    }
+
+    /**
+     * Returns the inverse change of {@code appt} being added to the patient with the given {@code nric}.
+     */
+    public static InverseChange deleteAppt(Nric nric, Appt appt) {
+        requireAllNonNull(nric, appt);
+        return new InverseChange(Type.DELETE_APPT, nric, null, appt, -1, null);
+    }
+
+    /**
+     * Returns the inverse change of all patients being replaced, where {@code snapshot} holds the patients before.
+     */
+    public static InverseChange restore(ClinicConnectSystemSnapshot snapshot) {
+        requireNonNull(snapshot);
+        return new InverseChange(Type.RESTORE, null, null, null, -1, snapshot);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Makes this change to {@code clinicConnectSystem}, which records the inverse change of this change in turn.
+     *
+     * @throws PatientNotFoundException if the patient changed is not in {@code clinicConnectSystem}.
+     */
+    public void applyTo(ClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
+        switch (type) {
+        case REMOVE_PATIENT:
+            clinicConnectSystem.removePatient(findPatient(clinicConnectSystem));
+            break;
+        case INSERT_PATIENT:
+            clinicConnectSystem.addPatient(index, patient);
+            break;
+        case REPLACE_PATIENT:
+            clinicConnectSystem.setPatient(findPatient(clinicConnectSystem), patient);
+            break;
+        case ADD_APPT:
+            clinicConnectSystem.addAppt(findPatient(clinicConnectSystem), appt);
+            break;
+        case DELETE_APPT:
+            clinicConnectSystem.deleteAppt(findPatient(clinicConnectSystem), appt);
+            break;
+        default:
+            clinicConnectSystem.resetData(snapshot);
+        }
+    }
+
+    private Patient findPatient(ClinicConnectSystem clinicConnectSystem) {
+        return clinicConnectSystem.findPatient(nric).orElseThrow(PatientNotFoundException::new);
+    }
+
+    /**
+     * Returns an estimate of the number of bytes of memory that this change keeps from being freed.
+     * A restore is estimated to keep all the patients of its snapshot, as the address book may since have
+     * replaced them all.
+     */
+    public long estimateBytes() {
+        switch (type) {
+        case INSERT_PATIENT:
+        case REPLACE_PATIENT:
+            return CHANGE_BYTES + estimateBytes(patient);
+        case RESTORE:
+            return CHANGE_BYTES + PATIENT_BYTES * snapshot.getPersistentPatientList().size();
+        default:
+            return CHANGE_BYTES;
+        }
+    }
+
+    private static long estimateBytes(Patient patient) {
+        return PATIENT_BYTES + APPT_BYTES * patient.getImmutableApptList().size();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("nric", nric)
+                .add("patient", patient)
+                .add("appt", appt)
+                .add("index", index)
+                .toString();
+    }
+}
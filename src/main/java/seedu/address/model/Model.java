@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 
@@ -8,6 +9,8 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
 import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
 
 /**
@@ -60,6 +63,17 @@ public interface Model {
      */
     boolean hasPatient(Patient patient);
 
+    /**
+     * Returns the patient with the given {@code nric} in the address book, if any.
+     * The lookup does not depend on the size of the address book.
+     */
+    Optional<Patient> findPatient(Nric nric);
+
+    /**
+     * Returns true if {@code patient} is visible in the current filtered patient list.
+     */
+    boolean isInFilteredPatientList(Patient patient);
+
     /**
      * Deletes the given patient.
      * The patient must exist in the address book.
@@ -80,6 +94,18 @@ public interface Model {
      */
     void setPatient(Patient target, Patient editedPatient);
 
+    /**
+     * Adds {@code appt} to the appointments of the given patient, and returns the updated patient.
+     * {@code patient} must exist in the address book.
+     */
+    Patient addAppt(Patient patient, Appt appt);
+
+    /**
+     * Deletes {@code appt} from the appointments of the given patient, and returns the updated patient.
+     * {@code patient} must exist in the address book.
+     */
+    Patient deleteAppt(Patient patient, Appt appt);
+
     /** Returns an unmodifiable view of the filtered patient list */
     ObservableList<Patient> getFilteredPatientList();
 
@@ -89,6 +115,11 @@ public interface Model {
      */
     void updateFilteredPatientList(Predicate<Patient> predicate);
 
+    /**
+     * Returns the predicate that the filtered patient list is filtered by, or null if it shows every patient.
+     */
+    Predicate<? super Patient> getFilteredPatientListPredicate();
+
     /**
      * Updates the filtered appointments based on a {@code AppointmentDateFilter}
      */
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.filteredappointment.FilteredAppointment.APPOINTMENT_COMPARATOR;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -16,18 +18,24 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
 import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The model is changed by one thread at a time, e.g. the thread of the command worker, while other threads read the
+ * published snapshots of the address book, which are handed over to them through a volatile field.
  */
-public class ModelManager implements Model {
+public class ModelManager implements VersionedModel {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final ClinicConnectSystem clinicConnectSystem;
+    private final ClinicConnectSystemHistory history;
     private final UserPrefs userPrefs;
     private final FilteredList<Patient> filteredPatients;
     private final TreeSet<FilteredAppointment> filteredAppts;
+    private volatile ClinicConnectSystemSnapshot publishedSnapshot;
 
     /**
      * Initializes a ModelManager with the given clinicConnectSystem and userPrefs.
@@ -38,9 +46,11 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + clinicConnectSystem + " and user prefs " + userPrefs);
 
         this.clinicConnectSystem = new ClinicConnectSystem(clinicConnectSystem);
+        this.history = new ClinicConnectSystemHistory();
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPatients = new FilteredList<>(this.clinicConnectSystem.getPatientList());
         this.filteredAppts = new TreeSet<>(APPOINTMENT_COMPARATOR);
+        publishedSnapshot = this.clinicConnectSystem.snapshot();
     }
 
     public ModelManager() {
@@ -94,12 +104,88 @@ public class ModelManager implements Model {
         return clinicConnectSystem;
     }
 
+    @Override
+    public ClinicConnectSystemSnapshot getClinicConnectSystemSnapshot() {
+        return publishedSnapshot;
+    }
+
+    @Override
+    public ClinicConnectSystemSnapshot publishClinicConnectSystemSnapshot() {
+        ClinicConnectSystemSnapshot snapshot = publishedSnapshot;
+        if (snapshot.getVersion() != clinicConnectSystem.getVersion()) {
+            snapshot = clinicConnectSystem.snapshot();
+            publishedSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public List<ClinicConnectSystemChange> takeClinicConnectSystemChanges() {
+        return clinicConnectSystem.takeChanges();
+    }
+
+    @Override
+    public long getClinicConnectSystemVersion() {
+        return clinicConnectSystem.getVersion();
+    }
+
+    @Override
+    public ClinicConnectSystem.Savepoint createClinicConnectSystemSavepoint() {
+        return clinicConnectSystem.createSavepoint();
+    }
+
+    @Override
+    public void rollBackClinicConnectSystem(ClinicConnectSystem.Savepoint savepoint) {
+        requireNonNull(savepoint);
+        clinicConnectSystem.rollBackTo(savepoint);
+    }
+
+    @Override
+    public void commitClinicConnectSystem() {
+        history.commit(clinicConnectSystem.takeInverseChanges());
+    }
+
+    @Override
+    public boolean canUndoClinicConnectSystem() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoClinicConnectSystem() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoClinicConnectSystem() {
+        commitClinicConnectSystem();
+        history.undo(clinicConnectSystem);
+    }
+
+    @Override
+    public void redoClinicConnectSystem() {
+        // Changes that were not committed are discarded along with the steps to redo, as for any other change
+        commitClinicConnectSystem();
+        history.redo(clinicConnectSystem);
+    }
+
+    @Override
+    public void clearClinicConnectSystemHistory() {
+        clinicConnectSystem.takeInverseChanges();
+        history.clear();
+    }
+
     @Override
     public boolean hasPatient(Patient patient) {
         requireNonNull(patient);
         return clinicConnectSystem.hasPatient(patient);
     }
 
+    @Override
+    public Optional<Patient> findPatient(Nric nric) {
+        requireNonNull(nric);
+        return clinicConnectSystem.findPatient(nric);
+    }
+
     @Override
     public void deletePatient(Patient target) {
         clinicConnectSystem.removePatient(target);
@@ -118,6 +204,20 @@ public class ModelManager implements Model {
         clinicConnectSystem.setPatient(target, editedPatient);
     }
 
+    @Override
+    public Patient addAppt(Patient patient, Appt appt) {
+        requireAllNonNull(patient, appt);
+
+        return clinicConnectSystem.addAppt(patient, appt);
+    }
+
+    @Override
+    public Patient deleteAppt(Patient patient, Appt appt) {
+        requireAllNonNull(patient, appt);
+
+        return clinicConnectSystem.deleteAppt(patient, appt);
+    }
+
     //=========== Filtered Patient List Accessors =============================================================
 
     /**
@@ -135,12 +235,24 @@ public class ModelManager implements Model {
         filteredPatients.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<? super Patient> getFilteredPatientListPredicate() {
+        return filteredPatients.getPredicate();
+    }
+
+    @Override
+    public boolean isInFilteredPatientList(Patient patient) {
+        requireNonNull(patient);
+        Predicate<? super Patient> predicate = filteredPatients.getPredicate();
+        return predicate == null || predicate.test(patient);
+    }
+
     @Override
     public void filterAppts(AppointmentDateFilter dateFilter) {
         assert dateFilter != null;
 
-        TreeSet<FilteredAppointment> filteredAppts = filteredPatients.stream()
-                .flatMap(patient -> patient.getFilteredAppointments(dateFilter))
+        TreeSet<FilteredAppointment> filteredAppts = clinicConnectSystem.filterAppts(dateFilter)
+                .filter(appointment -> isInFilteredPatientList(appointment.getPatient()))
                 .collect(Collectors.toCollection(() -> new TreeSet<>(APPOINTMENT_COMPARATOR)));
 
         this.setFilteredAppts(filteredAppts);
@@ -13,4 +13,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getClinicConnectSystemFilePath();
 
+    boolean isClinicConnectSystemFilePrettyPrinted();
+
+    boolean isClinicConnectSystemJournaled();
+
+    boolean isClinicConnectSystemFileBinary();
+
+    boolean isClinicConnectSystemSegmented();
+
 }
@@ -15,6 +15,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path clinicConnectSystemFilePath = Paths.get("data" , "clinicconnectsystem.json");
+    private boolean isClinicConnectSystemFilePrettyPrinted = true;
+    private boolean isClinicConnectSystemJournaled = false;
+    private boolean isClinicConnectSystemFileBinary = false;
+    private boolean isClinicConnectSystemSegmented = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setClinicConnectSystemFilePath(newUserPrefs.getClinicConnectSystemFilePath());
+        setClinicConnectSystemFilePrettyPrinted(newUserPrefs.isClinicConnectSystemFilePrettyPrinted());
+        setClinicConnectSystemJournaled(newUserPrefs.isClinicConnectSystemJournaled());
+        setClinicConnectSystemFileBinary(newUserPrefs.isClinicConnectSystemFileBinary());
+        setClinicConnectSystemSegmented(newUserPrefs.isClinicConnectSystemSegmented());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,38 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.clinicConnectSystemFilePath = clinicConnectSystemFilePath;
     }
 
+    public boolean isClinicConnectSystemFilePrettyPrinted() {
+        return isClinicConnectSystemFilePrettyPrinted;
+    }
+
+    public void setClinicConnectSystemFilePrettyPrinted(boolean isClinicConnectSystemFilePrettyPrinted) {
+        this.isClinicConnectSystemFilePrettyPrinted = isClinicConnectSystemFilePrettyPrinted;
+    }
+
+    public boolean isClinicConnectSystemJournaled() {
+        return isClinicConnectSystemJournaled;
+    }
+
+    public void setClinicConnectSystemJournaled(boolean isClinicConnectSystemJournaled) {
+        this.isClinicConnectSystemJournaled = isClinicConnectSystemJournaled;
+    }
+
+    public boolean isClinicConnectSystemFileBinary() {
+        return isClinicConnectSystemFileBinary;
+    }
+
+    public void setClinicConnectSystemFileBinary(boolean isClinicConnectSystemFileBinary) {
+        this.isClinicConnectSystemFileBinary = isClinicConnectSystemFileBinary;
+    }
+
+    public boolean isClinicConnectSystemSegmented() {
+        return isClinicConnectSystemSegmented;
+    }
+
+    public void setClinicConnectSystemSegmented(boolean isClinicConnectSystemSegmented) {
+        this.isClinicConnectSystemSegmented = isClinicConnectSystemSegmented;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +109,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && clinicConnectSystemFilePath.equals(otherUserPrefs.clinicConnectSystemFilePath);
+                && clinicConnectSystemFilePath.equals(otherUserPrefs.clinicConnectSystemFilePath)
+                && isClinicConnectSystemFilePrettyPrinted == otherUserPrefs.isClinicConnectSystemFilePrettyPrinted
+                && isClinicConnectSystemJournaled == otherUserPrefs.isClinicConnectSystemJournaled
+                && isClinicConnectSystemFileBinary == otherUserPrefs.isClinicConnectSystemFileBinary
+                && isClinicConnectSystemSegmented == otherUserPrefs.isClinicConnectSystemSegmented;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, clinicConnectSystemFilePath);
+        return Objects.hash(guiSettings, clinicConnectSystemFilePath, isClinicConnectSystemFilePrettyPrinted,
+                isClinicConnectSystemJournaled, isClinicConnectSystemFileBinary, isClinicConnectSystemSegmented);
     }
 
     @Override
@@ -82,6 +127,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + clinicConnectSystemFilePath);
+        sb.append("\nLocal data file pretty printed : " + isClinicConnectSystemFilePrettyPrinted);
+        sb.append("\nLocal data file journaled : " + isClinicConnectSystemJournaled);
+        sb.append("\nLocal data file binary : " + isClinicConnectSystemFileBinary);
+        sb.append("\nLocal data file segmented : " + isClinicConnectSystemSegmented);
         return sb.toString();
     }
 
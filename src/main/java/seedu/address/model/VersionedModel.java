@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import java.util.List;
+
+/**
+ * A {@code Model} that also keeps the versions of its address book: the snapshots that other threads read,
+ * the changes still to be saved, and the history of committed steps that can be undone and redone.
+ */
+public interface VersionedModel extends Model {
+
+    /**
+     * Returns the snapshot of the address book last published by {@link #publishClinicConnectSystemSnapshot()}.
+     * Unlike the other methods, this can be called from any thread, without blocking the thread changing the
+     * address book or being blocked by it.
+     */
+    ClinicConnectSystemSnapshot getClinicConnectSystemSnapshot();
+
+    /**
+     * Takes a snapshot of the address book, unless it has not changed since the last snapshot was taken, and
+     * publishes it to be returned by {@link #getClinicConnectSystemSnapshot()}, then returns it.
+     * This should only be called between commands, so that no snapshot holds a command's changes in part.
+     */
+    ClinicConnectSystemSnapshot publishClinicConnectSystemSnapshot();
+
+    /**
+     * Returns the changes made to the address book since they were last taken, in the order they were made.
+     */
+    List<ClinicConnectSystemChange> takeClinicConnectSystemChanges();
+
+    /**
+     * Returns the version of the address book, which changes whenever the address book is changed.
+     */
+    long getClinicConnectSystemVersion();
+
+    /**
+     * Returns a savepoint that the address book can be rolled back to.
+     * @see ClinicConnectSystem#createSavepoint()
+     */
+    ClinicConnectSystem.Savepoint createClinicConnectSystemSavepoint();
+
+    /**
+     * Undoes all the changes made to the address book since {@code savepoint} was created.
+     * @see ClinicConnectSystem#rollBackTo(ClinicConnectSystem.Savepoint)
+     */
+    void rollBackClinicConnectSystem(ClinicConnectSystem.Savepoint savepoint);
+
+    /**
+     * Saves the changes made to the address book since the last commit as one step that can be undone.
+     * Nothing is saved if the address book was not changed.
+     */
+    void commitClinicConnectSystem();
+
+    /**
+     * Returns true if there is a committed step that can be undone.
+     */
+    boolean canUndoClinicConnectSystem();
+
+    /**
+     * Returns true if there is an undone step that can be redone.
+     */
+    boolean canRedoClinicConnectSystem();
+
+    /**
+     * Undoes the most recent committed step.
+     */
+    void undoClinicConnectSystem();
+
+    /**
+     * Redoes the most recently undone step.
+     */
+    void redoClinicConnectSystem();
+
+    /**
+     * Discards all the steps that can be undone or redone, e.g. once the address book has been loaded.
+     */
+    void clearClinicConnectSystemHistory();
+}
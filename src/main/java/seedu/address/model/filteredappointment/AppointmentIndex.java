@@ -0,0 +1,173 @@
+package seedu.address.model.filteredappointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.PersistentHashMap;
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+
+/**
+ * Indexes the appointments of every patient by their health service, and then by their date and time.
+ * Appointments within a date range can then be found by walking only that range of the index for the
+ * requested health service, instead of going through the appointments of every patient.
+ * The index is built from persistent maps, so it can be copied in O(1), e.g. for snapshots and savepoints,
+ * and changing the index afterwards does not change the copy.
+ */
+public class AppointmentIndex {
+
+    private PersistentHashMap<HealthService, PersistentSortedMap<LocalDateTime, PersistentHashMap<Nric,
+            FilteredAppointment>>> appointmentsByService = PersistentHashMap.empty();
+
+    /**
+     * Creates an empty index.
+     */
+    public AppointmentIndex() {}
+
+    /**
+     * Creates an index with the same appointments as {@code toCopy}, in O(1).
+     */
+    public AppointmentIndex(AppointmentIndex toCopy) {
+        resetData(toCopy);
+    }
+
+    /**
+     * Replaces the appointments in this index with those in {@code newData}, in O(1).
+     */
+    public void resetData(AppointmentIndex newData) {
+        requireNonNull(newData);
+        appointmentsByService = newData.appointmentsByService;
+    }
+
+    /**
+     * Adds all appointments of {@code patient} to the index.
+     */
+    public void addPatient(Patient patient) {
+        requireNonNull(patient);
+        for (Appt appt : patient.getImmutableApptList()) {
+            add(patient, appt);
+        }
+    }
+
+    /**
+     * Removes all appointments of {@code patient} from the index.
+     */
+    public void removePatient(Patient patient) {
+        requireNonNull(patient);
+        for (Appt appt : patient.getImmutableApptList()) {
+            remove(patient, appt);
+        }
+    }
+
+    /**
+     * Adds {@code appt} of {@code patient} to the index.
+     */
+    public void add(Patient patient, Appt appt) {
+        requireAllNonNull(patient, appt);
+        PersistentSortedMap<LocalDateTime, PersistentHashMap<Nric, FilteredAppointment>> appointmentsByDateTime =
+                appointmentsByService.getOrDefault(appt.getHealthService(), PersistentSortedMap.empty());
+        PersistentHashMap<Nric, FilteredAppointment> appointmentsAtDateTime =
+                appointmentsByDateTime.getOrDefault(appt.getDateTime(), PersistentHashMap.empty());
+        appointmentsByService = appointmentsByService.put(appt.getHealthService(), appointmentsByDateTime.put(
+                appt.getDateTime(), appointmentsAtDateTime.put(patient.getNric(), new FilteredAppointment(appt,
+                        patient))));
+    }
+
+    /**
+     * Removes {@code appt} of {@code patient} from the index, if present.
+     */
+    public void remove(Patient patient, Appt appt) {
+        requireAllNonNull(patient, appt);
+        PersistentSortedMap<LocalDateTime, PersistentHashMap<Nric, FilteredAppointment>> appointmentsByDateTime =
+                appointmentsByService.get(appt.getHealthService());
+        if (appointmentsByDateTime == null) {
+            return;
+        }
+        PersistentHashMap<Nric, FilteredAppointment> appointmentsAtDateTime =
+                appointmentsByDateTime.get(appt.getDateTime());
+        if (appointmentsAtDateTime == null) {
+            return;
+        }
+
+        appointmentsAtDateTime = appointmentsAtDateTime.remove(patient.getNric());
+        appointmentsByDateTime = appointmentsAtDateTime.isEmpty()
+                ? appointmentsByDateTime.remove(appt.getDateTime())
+                : appointmentsByDateTime.put(appt.getDateTime(), appointmentsAtDateTime);
+        appointmentsByService = appointmentsByDateTime.isEmpty()
+                ? appointmentsByService.remove(appt.getHealthService())
+                : appointmentsByService.put(appt.getHealthService(), appointmentsByDateTime);
+    }
+
+    /**
+     * Removes all appointments from the index.
+     */
+    public void clear() {
+        appointmentsByService = PersistentHashMap.empty();
+    }
+
+    /**
+     * Returns the appointments that fall within the dates of {@code dateFilter} and match its health service.
+     * Only the appointments of the filter's health service (or of every health service, if it has none)
+     * between the start and end dates are visited.
+     */
+    public Stream<FilteredAppointment> filter(AppointmentDateFilter dateFilter) {
+        requireNonNull(dateFilter);
+        LocalDate startDate = dateFilter.getStartDate() == null ? LocalDate.now() : dateFilter.getStartDate();
+        LocalDate endDate = dateFilter.getEndDate();
+        if (endDate.isBefore(startDate)) {
+            return Stream.empty();
+        }
+
+        return getPartitions(dateFilter.getHealthService())
+                .flatMap(appointmentsByDateTime -> appointmentsByDateTime
+                        .values(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay()))
+                .flatMap(PersistentHashMap::values);
+    }
+
+    /**
+     * Returns up to {@code limit} appointments for {@code healthService} at or after {@code from},
+     * in order of date and time.
+     */
+    public List<FilteredAppointment> getUpcoming(HealthService healthService, LocalDateTime from, int limit) {
+        return getUpcoming(healthService, from, null, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} appointments for {@code healthService} at or after {@code from} and before
+     * {@code to}, or with no end if {@code to} is null, in order of date and time.
+     * Only the appointments returned are visited, so this takes O(log n + limit) time.
+     */
+    public List<FilteredAppointment> getUpcoming(HealthService healthService, LocalDateTime from, LocalDateTime to,
+            int limit) {
+        requireAllNonNull(healthService, from);
+        return getPartitions(healthService)
+                .flatMap(appointmentsByDateTime -> appointmentsByDateTime.values(from, to))
+                .flatMap(appointmentsAtDateTime -> appointmentsAtDateTime.values()
+                        .sorted(FilteredAppointment.APPOINTMENT_COMPARATOR))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the date and time index of {@code healthService}, or of every health service if it is null.
+     */
+    private Stream<PersistentSortedMap<LocalDateTime, PersistentHashMap<Nric, FilteredAppointment>>> getPartitions(
+            HealthService healthService) {
+        if (healthService == null) {
+            return appointmentsByService.values();
+        }
+        PersistentSortedMap<LocalDateTime, PersistentHashMap<Nric, FilteredAppointment>> appointmentsByDateTime =
+                appointmentsByService.get(healthService);
+        return appointmentsByDateTime == null ? Stream.empty() : Stream.of(appointmentsByDateTime);
+    }
+}
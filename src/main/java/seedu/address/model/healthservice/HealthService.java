@@ -61,6 +61,29 @@ public class HealthService {
         return false;
     }
 
+    /**
+     * Returns the position of this health service among the health services provided by the clinic.
+     */
+    public int getOrdinal() {
+        for (HealthScreeningServices service : HealthScreeningServices.values()) {
+            if (healthServiceName.equals(service.toString())) {
+                return service.ordinal();
+            }
+        }
+        throw new AssertionError("A health service should be one of the health services provided by the clinic");
+    }
+
+    /**
+     * Returns the health service at {@code ordinal} among the health services provided by the clinic.
+     *
+     * @throws IllegalArgumentException if there is no health service at {@code ordinal}.
+     */
+    public static HealthService fromOrdinal(int ordinal) {
+        HealthScreeningServices[] services = HealthScreeningServices.values();
+        checkArgument(ordinal >= 0 && ordinal < services.length, MESSAGE_CONSTRAINTS);
+        return new HealthService(services[ordinal].toString());
+    }
+
     /**
      * Returns true if object is a valid Health Service.
      */
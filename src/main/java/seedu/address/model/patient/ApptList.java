@@ -1,53 +1,78 @@
 package seedu.address.model.patient;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import seedu.address.model.ApptSorter;
+import seedu.address.commons.util.PersistentSortedMap;
 import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
 
 /**
  * Represents a list of appointments.
+ * The appointments are kept ordered by date and time, so that lookups around a point in time
+ * and over a date range do not need to go through every appointment.
+ * Adding or deleting an appointment returns a new list that shares most of its structure with this one, so that
+ * the patients holding either list never see each other's changes.
  * Guarantees: immutable; is always valid
  * @see Appt
- * @see ApptSorter
  */
 public class ApptList {
-    private final List<Appt> appts;
+    private final PersistentSortedMap<LocalDateTime, Appt> appts;
 
     /**
      * Constructs an empty {@code ApptList}.
      */
     public ApptList() {
-        this.appts = new ArrayList<>();
+        this.appts = PersistentSortedMap.empty();
     }
 
     /**
-     * Adds an appointment to the list.
-     * Sorts the list after adding the appointment.
-     * @param appt
+     * Constructs an {@code ApptList} with the given appointments, in any order.
+     * Each appointment is inserted once into its ordered position, without re-sorting the list.
      */
-    public void addAppt(Appt appt) {
-        appts.add(appt);
-        ApptSorter.sortAppointments(appts);
+    public ApptList(Collection<Appt> appts) {
+        PersistentSortedMap<LocalDateTime, Appt> apptsByDateTime = PersistentSortedMap.empty();
+        for (Appt appt : appts) {
+            apptsByDateTime = apptsByDateTime.put(appt.getDateTime(), appt);
+        }
+        this.appts = apptsByDateTime;
+    }
+
+    private ApptList(PersistentSortedMap<LocalDateTime, Appt> appts) {
+        this.appts = appts;
+    }
+
+    /**
+     * Returns a list with {@code appt} added in order of its date and time, replacing any appointment at the same
+     * date and time. This list is not changed.
+     */
+    public ApptList withAppt(Appt appt) {
+        return new ApptList(appts.put(appt.getDateTime(), appt));
+    }
+
+    /**
+     * Returns a list without the appointment at the date and time of {@code appt}. This list is not changed.
+     */
+    public ApptList withoutAppt(Appt appt) {
+        return new ApptList(appts.remove(appt.getDateTime()));
     }
 
     /**
-     * Deletes an appointment from the list.
-     * @param appt
+     * Returns the appointment at {@code dateTime}, if any.
      */
-    public void deleteAppt(Appt appt) {
-        appts.remove(appt);
+    public Optional<Appt> findAppt(LocalDateTime dateTime) {
+        return Optional.ofNullable(appts.get(dateTime));
     }
 
     /**
-     * Returns an immutable list of appointments.
+     * Returns an immutable list of appointments, sorted by date and time.
      */
     public List<Appt> getImmutableApptList() {
-        return Collections.unmodifiableList(appts);
+        return appts.values().collect(Collectors.toUnmodifiableList());
     }
 
     /**
@@ -55,11 +80,7 @@ public class ApptList {
      * @return Appt
      */
     public Appt getMostRecentPastAppt() {
-        LocalDateTime now = LocalDateTime.now();
-        return appts.stream()
-                .filter(appt -> appt.getDateTime().isBefore(now))
-                .reduce((first, second) -> second)
-                .orElse(null);
+        return appts.lowerValue(LocalDateTime.now());
     }
 
     /**
@@ -67,15 +88,22 @@ public class ApptList {
      * @return Appt
      */
     public Appt getMostRecentFutureAppt() {
-        LocalDateTime now = LocalDateTime.now();
-        return appts.stream()
-                .filter(appt -> appt.getDateTime().isAfter(now))
-                .findFirst()
-                .orElse(null);
+        return appts.higherValue(LocalDateTime.now());
     }
 
+    /**
+     * Returns the appointments that fall within the dates of {@code dateFilter} and match its health service.
+     * Only the appointments between the start and end dates are visited.
+     */
     public Stream<Appt> filterAppts(AppointmentDateFilter dateFilter) {
-        return appts.stream().filter(appt -> appt.isBetweenDatesAndMatchService(dateFilter));
+        LocalDate startDate = dateFilter.getStartDate() == null ? LocalDate.now() : dateFilter.getStartDate();
+        LocalDate endDate = dateFilter.getEndDate();
+        if (endDate.isBefore(startDate)) {
+            return Stream.empty();
+        }
+
+        return appts.values(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay())
+                .filter(appt -> appt.isSameService(dateFilter.getHealthService()));
     }
 
     /**
@@ -86,9 +114,7 @@ public class ApptList {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (Appt appt : appts) {
-            sb.append(appt.toString()).append("\n");
-        }
+        appts.values().forEach(appt -> sb.append(appt.toString()).append("\n"));
         return sb.toString();
     }
 }
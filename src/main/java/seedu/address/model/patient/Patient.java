@@ -2,8 +2,10 @@ package seedu.address.model.patient;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -13,7 +15,8 @@ import seedu.address.model.filteredappointment.FilteredAppointment;
 /**
  * Represents a Patient in the address book.
  * Guarantees: details are present and not null, field values are validated,
- * immutable.
+ * immutable. Changing the appointments of a patient returns a new patient, so a patient can be shared by any
+ * number of versions of the address book.
  */
 public class Patient {
 
@@ -27,15 +30,15 @@ public class Patient {
     private final Sex sex;
 
     // Data fields
-    private Address address;
-    private AllergyList allergies = new AllergyList();
-    private BloodType bloodType;
-    private HealthRisk healthRisk;
-    private ExistingCondition existingCondition;
-    private Note note;
-    private Name nokName;
-    private Phone nokPhone;
-    private ApptList appts = new ApptList();
+    private final Address address;
+    private final AllergyList allergies;
+    private final BloodType bloodType;
+    private final HealthRisk healthRisk;
+    private final ExistingCondition existingCondition;
+    private final Note note;
+    private final Name nokName;
+    private final Phone nokPhone;
+    private final ApptList appts;
 
     /**
      * Every field must be present and not null.
@@ -49,12 +52,14 @@ public class Patient {
         this.phone = phone;
         this.email = null;
         this.address = null;
+        this.allergies = new AllergyList();
         this.bloodType = null;
         this.healthRisk = null;
         this.existingCondition = null;
         this.note = null;
         this.nokName = null;
         this.nokPhone = null;
+        this.appts = new ApptList();
     }
 
     /**
@@ -138,6 +143,14 @@ public class Patient {
         return appts;
     }
 
+    /**
+     * Returns a patient with the same details as this patient, and with the appointments {@code updatedAppts}.
+     */
+    private Patient withAppts(ApptList updatedAppts) {
+        return new Patient(name, nric, birthdate, sex, phone, email, address, allergies, bloodType, healthRisk,
+                existingCondition, note, nokName, nokPhone, updatedAppts);
+    }
+
     // ApptList access functions
     /**
      * Returns the most recent past appointment.
@@ -158,11 +171,13 @@ public class Patient {
     }
 
     /**
-     * Adds an appointment to the patient's list of appointments.
+     * Returns a copy of this patient with {@code appt} added to its appointments. This patient is not changed.
      * The appointments will be sorted by date and time.
+     * Patients in an address book should have their appointments added through
+     * {@link seedu.address.model.ClinicConnectSystem#addAppt(Patient, Appt)} instead, so that the change is saved.
      */
-    public void addAppt(Appt appt) {
-        appts.addAppt(appt);
+    public Patient withAppt(Appt appt) {
+        return withAppts(appts.withAppt(appt));
     }
 
     /**
@@ -186,21 +201,24 @@ public class Patient {
     }
 
     /**
-     * Deletes an appointment from the patient's list of appointments.
+     * Returns a copy of this patient with {@code appt} deleted from its appointments. This patient is not changed.
+     * Patients in an address book should have their appointments deleted through
+     * {@link seedu.address.model.ClinicConnectSystem#deleteAppt(Patient, Appt)} instead, so that the change is saved.
      */
-    public void deleteAppt(Appt appt) {
-        appts.deleteAppt(appt);
+    public Patient withoutAppt(Appt appt) {
+        return withAppts(appts.withoutAppt(appt));
     }
 
-    // AllergyList access functions
-
     /**
-     * Adds an allergy to the patient's set of allergies.
+     * Returns the patient's appointment at {@code dateTime}, if any.
+     * @see ApptList#findAppt(LocalDateTime)
      */
-    public void addAllergy(Allergy allergy) {
-        allergies.addAllergy(allergy);
+    public Optional<Appt> findAppt(LocalDateTime dateTime) {
+        return appts.findAppt(dateTime);
     }
 
+    // AllergyList access functions
+
     /**
      * Returns an immutable list of allergies.
      * This list will not contain any duplicate allergies.
@@ -220,13 +238,6 @@ public class Patient {
         return allergies.toString();
     }
 
-    /**
-     * Deletes an allergy from the patient's set of allergies.
-     */
-    public void deleteAllergy(Allergy allergy) {
-        allergies.deleteAllergy(allergy);
-    }
-
     /**
      * Checks if an allergy is present for removal in the patient's set of allergies.
      */
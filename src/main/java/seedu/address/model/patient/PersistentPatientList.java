@@ -0,0 +1,253 @@
+package seedu.address.model.patient;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.PersistentHashMap;
+import seedu.address.commons.util.PersistentSortedMap;
+import seedu.address.model.patient.exceptions.DuplicatePatientException;
+import seedu.address.model.patient.exceptions.PatientNotFoundException;
+
+/**
+ * An immutable list of unique patients, in the order they were added, that can also be looked up by NRIC.
+ * Changing the list returns a new list that shares all but O(log n) of its structure with this one, so any
+ * number of versions of the list can be kept, e.g. as snapshots, without copying the patients.
+ * A patient is considered unique by comparing using {@code Patient#isSamePatient(Patient)}.
+ *
+ * @see UniquePatientList
+ */
+public final class PersistentPatientList implements Iterable<Patient> {
+
+    private static final PersistentPatientList EMPTY = new PersistentPatientList(PersistentHashMap.empty(),
+            PersistentSortedMap.empty(), 0);
+
+    /** Patients by NRIC, with the position of each patient in {@code patientsByPosition}. */
+    private final PersistentHashMap<Nric, PositionedPatient> patientsByNric;
+    /** Patients by position. Positions are never reused, so they keep the patients in the order they were added. */
+    private final PersistentSortedMap<Long, Patient> patientsByPosition;
+    private final long nextPosition;
+
+    private PersistentPatientList(PersistentHashMap<Nric, PositionedPatient> patientsByNric,
+            PersistentSortedMap<Long, Patient> patientsByPosition, long nextPosition) {
+        this.patientsByNric = patientsByNric;
+        this.patientsByPosition = patientsByPosition;
+        this.nextPosition = nextPosition;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    public static PersistentPatientList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code patients}, in the same order.
+     *
+     * @throws DuplicatePatientException if {@code patients} contains duplicate patients.
+     */
+    public static PersistentPatientList of(List<Patient> patients) {
+        requireAllNonNull(patients);
+        PersistentHashMap<Nric, PositionedPatient> patientsByNric = PersistentHashMap.empty();
+        List<Long> positions = new ArrayList<>(patients.size());
+        for (int i = 0; i < patients.size(); i++) {
+            Patient patient = patients.get(i);
+            if (patientsByNric.containsKey(patient.getNric())) {
+                throw new DuplicatePatientException();
+            }
+            patientsByNric = patientsByNric.put(patient.getNric(), new PositionedPatient(patient, i));
+            positions.add((long) i);
+        }
+        return new PersistentPatientList(patientsByNric, PersistentSortedMap.ofSorted(positions, patients),
+                patients.size());
+    }
+
+    public int size() {
+        return patientsByNric.size();
+    }
+
+    /**
+     * Returns true if the list contains a patient with the given {@code nric}.
+     */
+    public boolean contains(Nric nric) {
+        requireNonNull(nric);
+        return patientsByNric.containsKey(nric);
+    }
+
+    /**
+     * Returns the patient with the given {@code nric}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Patient> find(Nric nric) {
+        requireNonNull(nric);
+        PositionedPatient positionedPatient = patientsByNric.get(nric);
+        return positionedPatient == null ? Optional.empty() : Optional.of(positionedPatient.patient);
+    }
+
+    /**
+     * Returns the patient at {@code index} in the list, in O(log n).
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not less than the size of the list, or is negative.
+     */
+    public Patient get(int index) {
+        return patientsByPosition.valueAt(index);
+    }
+
+    /**
+     * Returns the index of the patient with the given {@code nric} in the list, or -1 if there is none.
+     */
+    public int indexOf(Nric nric) {
+        requireNonNull(nric);
+        PositionedPatient positionedPatient = patientsByNric.get(nric);
+        return positionedPatient == null ? -1 : patientsByPosition.indexOf(positionedPatient.position);
+    }
+
+    /**
+     * Returns a list with {@code toAdd} added at the end.
+     *
+     * @throws DuplicatePatientException if the list already contains the patient.
+     */
+    public PersistentPatientList add(Patient toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd.getNric())) {
+            throw new DuplicatePatientException();
+        }
+        return new PersistentPatientList(
+                patientsByNric.put(toAdd.getNric(), new PositionedPatient(toAdd, nextPosition)),
+                patientsByPosition.put(nextPosition, toAdd), nextPosition + 1);
+    }
+
+    /**
+     * Returns a list with {@code toAdd} inserted at {@code index}, e.g. to put back a patient removed from there.
+     *
+     * @throws DuplicatePatientException if the list already contains the patient.
+     * @throws IndexOutOfBoundsException if {@code index} is greater than the size of the list, or is negative.
+     */
+    public PersistentPatientList add(int index, Patient toAdd) {
+        requireNonNull(toAdd);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException(index);
+        } else if (index == size()) {
+            return add(toAdd);
+        } else if (contains(toAdd.getNric())) {
+            throw new DuplicatePatientException();
+        }
+
+        long nextPatientPosition = patientsByPosition.keyAt(index);
+        long previousPatientPosition = index == 0 ? nextPatientPosition - 2 : patientsByPosition.keyAt(index - 1);
+        if (nextPatientPosition - previousPatientPosition < 2) {
+            // There is no free position in between, so the positions of all the patients are renumbered
+            List<Patient> newPatients = toList();
+            newPatients.add(index, toAdd);
+            return of(newPatients);
+        }
+        long position = previousPatientPosition + (nextPatientPosition - previousPatientPosition) / 2;
+        return new PersistentPatientList(
+                patientsByNric.put(toAdd.getNric(), new PositionedPatient(toAdd, position)),
+                patientsByPosition.put(position, toAdd), nextPosition);
+    }
+
+    /**
+     * Returns a list with the patient {@code target} replaced by {@code editedPatient}, at the same index.
+     *
+     * @throws PatientNotFoundException if the list does not contain {@code target}.
+     * @throws DuplicatePatientException if {@code editedPatient} has the identity of another patient in the list.
+     */
+    public PersistentPatientList set(Patient target, Patient editedPatient) {
+        requireAllNonNull(target, editedPatient);
+        PositionedPatient positionedTarget = patientsByNric.get(target.getNric());
+        if (positionedTarget == null) {
+            throw new PatientNotFoundException();
+        }
+        if (!target.isSamePatient(editedPatient) && contains(editedPatient.getNric())) {
+            throw new DuplicatePatientException();
+        }
+
+        long position = positionedTarget.position;
+        return new PersistentPatientList(
+                patientsByNric.remove(target.getNric())
+                        .put(editedPatient.getNric(), new PositionedPatient(editedPatient, position)),
+                patientsByPosition.put(position, editedPatient), nextPosition);
+    }
+
+    /**
+     * Returns a list without the equivalent patient of {@code toRemove}.
+     *
+     * @throws PatientNotFoundException if the list does not contain the patient.
+     */
+    public PersistentPatientList remove(Patient toRemove) {
+        requireNonNull(toRemove);
+        PositionedPatient positionedPatient = patientsByNric.get(toRemove.getNric());
+        if (positionedPatient == null) {
+            throw new PatientNotFoundException();
+        }
+        return new PersistentPatientList(patientsByNric.remove(toRemove.getNric()),
+                patientsByPosition.remove(positionedPatient.position), nextPosition);
+    }
+
+    /**
+     * Returns the patients in the list, in order.
+     */
+    public Stream<Patient> stream() {
+        return patientsByPosition.values();
+    }
+
+    /**
+     * Returns the patients in the list, in order, as a {@code List} that can be changed without affecting this.
+     */
+    public List<Patient> toList() {
+        return stream().collect(Collectors.toCollection(() -> new ArrayList<>(size())));
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of the patients in the list, in order, without copying them.
+     */
+    public List<Patient> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Patient get(int index) {
+                return PersistentPatientList.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentPatientList.this.size();
+            }
+
+            @Override
+            public Iterator<Patient> iterator() {
+                return PersistentPatientList.this.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Patient> iterator() {
+        return stream().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    /**
+     * A patient together with its position in the list.
+     */
+    private static class PositionedPatient {
+        private final Patient patient;
+        private final long position;
+
+        PositionedPatient(Patient patient, long position) {
+            this.patient = patient;
+            this.position = position;
+        }
+    }
+}
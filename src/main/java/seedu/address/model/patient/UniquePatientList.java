@@ -5,36 +5,46 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.model.patient.exceptions.DuplicatePatientException;
-import seedu.address.model.patient.exceptions.PatientNotFoundException;
+import javafx.collections.ObservableListBase;
 
 /**
  * A list of patients that enforces uniqueness between its elements and does not allow nulls.
  * A patient is considered unique by comparing using {@code Patient#isSamePatient(Patient)}.
  * As such, adding and updating of patients uses Patient#isSamePatient(Patient)
  * for equality so as to ensure that the patient being added or updated is
- * unique in terms of identity in the UniquePatientList. However, the removal of
- * a patient uses Patient#equals(Object) so as to ensure that the patient with exactly the same fields will be removed.
+ * unique in terms of identity in the UniquePatientList. The removal of a patient likewise matches the patient
+ * with the same {@code Nric}, as that is how the {@code PersistentPatientList} looks patients up.
  *
  * Supports a minimal set of list operations.
+ * The patients are held in a {@code PersistentPatientList}, which looks them up by {@code Nric} and can be
+ * handed out in O(1) as an immutable copy of the list, e.g. for snapshots and savepoints. The
+ * {@code ObservableList} of the patients is a view of it that reports each change, so replacing the contents with
+ * another {@code PersistentPatientList}, e.g. when rolling back to a savepoint, copies no patients. Lists filtered
+ * from the view, e.g. the filtered patient list of the model, still test every patient after such a replacement.
  *
  * @see Patient#isSamePatient(Patient)
  */
 public class UniquePatientList implements Iterable<Patient> {
 
-    private final ObservableList<Patient> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Patient> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PatientListView internalUnmodifiableList = new PatientListView();
+    private PersistentPatientList patients = PersistentPatientList.empty();
 
     /**
      * Returns true if the list contains an equivalent patient as the given argument.
      */
     public boolean contains(Patient toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePatient);
+        return patients.contains(toCheck.getNric());
+    }
+
+    /**
+     * Returns the patient with the given {@code nric}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Patient> find(Nric nric) {
+        return patients.find(nric);
     }
 
     /**
@@ -42,11 +52,24 @@ public class UniquePatientList implements Iterable<Patient> {
      * The patient must not already exist in the list.
      */
     public void add(Patient toAdd) {
-        requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            throw new DuplicatePatientException();
-        }
-        internalList.add(toAdd);
+        patients = patients.add(toAdd);
+        internalUnmodifiableList.fireAdded(patients.size() - 1);
+    }
+
+    /**
+     * Inserts a patient into the list at {@code index}.
+     * The patient must not already exist in the list.
+     */
+    public void add(int index, Patient toAdd) {
+        patients = patients.add(index, toAdd);
+        internalUnmodifiableList.fireAdded(index);
+    }
+
+    /**
+     * Returns the index of the patient with the given {@code nric} in the list, or -1 if there is none.
+     */
+    public int indexOf(Nric nric) {
+        return patients.indexOf(nric);
     }
 
     /**
@@ -56,17 +79,10 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void setPatient(Patient target, Patient editedPatient) {
         requireAllNonNull(target, editedPatient);
-
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PatientNotFoundException();
-        }
-
-        if (!target.isSamePatient(editedPatient) && contains(editedPatient)) {
-            throw new DuplicatePatientException();
-        }
-
-        internalList.set(index, editedPatient);
+        int index = patients.indexOf(target.getNric());
+        Optional<Patient> replacedPatient = patients.find(target.getNric());
+        patients = patients.set(target, editedPatient);
+        internalUnmodifiableList.fireSet(index, replacedPatient.get());
     }
 
     /**
@@ -75,14 +91,28 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void remove(Patient toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PatientNotFoundException();
-        }
+        int index = patients.indexOf(toRemove.getNric());
+        Optional<Patient> removedPatient = patients.find(toRemove.getNric());
+        patients = patients.remove(toRemove);
+        internalUnmodifiableList.fireRemoved(index, removedPatient.get());
     }
 
     public void setPatients(UniquePatientList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPatients(replacement.patients);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}, which is shared rather than copied.
+     */
+    public void setPatients(PersistentPatientList replacement) {
+        requireNonNull(replacement);
+        if (replacement == patients) {
+            return;
+        }
+        PersistentPatientList replacedPatients = patients;
+        patients = replacement;
+        internalUnmodifiableList.fireReplaced(replacedPatients);
     }
 
     /**
@@ -91,11 +121,15 @@ public class UniquePatientList implements Iterable<Patient> {
      */
     public void setPatients(List<Patient> patients) {
         requireAllNonNull(patients);
-        if (!patientsAreUnique(patients)) {
-            throw new DuplicatePatientException();
-        }
+        setPatients(PersistentPatientList.of(patients));
+    }
 
-        internalList.setAll(patients);
+    /**
+     * Returns the patients in the list as an immutable {@code PersistentPatientList}, in O(1).
+     * Later changes to this list are not seen in the returned list.
+     */
+    public PersistentPatientList toPersistentList() {
+        return patients;
     }
 
     /**
@@ -107,7 +141,7 @@ public class UniquePatientList implements Iterable<Patient> {
 
     @Override
     public Iterator<Patient> iterator() {
-        return internalList.iterator();
+        return patients.iterator();
     }
 
     @Override
@@ -122,38 +156,67 @@ public class UniquePatientList implements Iterable<Patient> {
         }
 
         UniquePatientList otherUniquePatientList = (UniquePatientList) other;
-        if (internalList.size() != otherUniquePatientList.internalList.size()) {
-            return false;
-        }
-        for (int i = 0; i < internalList.size(); i++) {
-            if (!internalList.get(i).equals(otherUniquePatientList.internalList.get(i))) {
-                return false;
-            }
-        }
-        return true;
+        return internalUnmodifiableList.equals(otherUniquePatientList.internalUnmodifiableList);
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return internalUnmodifiableList.hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return patients.toString();
     }
 
     /**
-     * Returns true if {@code patients} contains only unique patients.
+     * An unmodifiable {@code ObservableList} view of the patients of this list, which reports each change made
+     * to them.
      */
-    private boolean patientsAreUnique(List<Patient> patients) {
-        for (int i = 0; i < patients.size() - 1; i++) {
-            for (int j = i + 1; j < patients.size(); j++) {
-                if (patients.get(i).isSamePatient(patients.get(j))) {
-                    return false;
-                }
+    private class PatientListView extends ObservableListBase<Patient> {
+
+        @Override
+        public Patient get(int index) {
+            return patients.get(index);
+        }
+
+        @Override
+        public int size() {
+            return patients.size();
+        }
+
+        @Override
+        public Iterator<Patient> iterator() {
+            return patients.iterator();
+        }
+
+        void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        void fireSet(int index, Patient replacedPatient) {
+            beginChange();
+            nextSet(index, replacedPatient);
+            endChange();
+        }
+
+        void fireRemoved(int index, Patient removedPatient) {
+            beginChange();
+            nextRemove(index, removedPatient);
+            endChange();
+        }
+
+        void fireReplaced(PersistentPatientList replacedPatients) {
+            beginChange();
+            if (replacedPatients.size() > 0) {
+                nextRemove(0, replacedPatients.asList());
+            }
+            if (patients.size() > 0) {
+                nextAdd(0, patients.size());
             }
+            endChange();
         }
-        return true;
     }
 }
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ClinicConnectSystemChange;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+
+/**
+ * Saves address book data to a {@code ClinicConnectSystemStorage} on a single background thread, so that
+ * the callers do not wait for the data to be written.
+ * Saves requested while an earlier save is being written are combined into one save of the latest snapshot,
+ * together with the changes of all of them, so that a burst of saves leads to a single write.
+ */
+class BackgroundSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSaver.class);
+
+    private final ClinicConnectSystemStorage storage;
+    private final Object lock = new Object();
+
+    private Thread thread;
+    private PendingSave pendingSave;
+    private boolean isSaving;
+
+    BackgroundSaver(ClinicConnectSystemStorage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Queues {@code changes} and the {@code snapshot} after them to be saved, and returns without waiting.
+     * @see ClinicConnectSystemStorage#saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem, List)
+     */
+    public CompletableFuture<Void> save(ReadOnlyClinicConnectSystem snapshot, List<ClinicConnectSystemChange> changes) {
+        requireAllNonNull(snapshot, changes);
+        synchronized (lock) {
+            if (pendingSave == null) {
+                pendingSave = new PendingSave();
+            }
+            pendingSave.add(snapshot, changes);
+            startIfNeeded();
+            lock.notifyAll();
+            return pendingSave.future;
+        }
+    }
+
+    /**
+     * Waits until every save queued so far has been written or has failed.
+     */
+    public void flush() {
+        synchronized (lock) {
+            try {
+                while (pendingSave != null || isSaving) {
+                    lock.wait();
+                }
+            } catch (InterruptedException ie) {
+                logger.warning("Interrupted while waiting for data to be saved");
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void startIfNeeded() {
+        if (thread != null) {
+            return;
+        }
+        thread = new Thread(this::run, "ClinicConnectSystem-saver");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void run() {
+        while (true) {
+            PendingSave save;
+            synchronized (lock) {
+                try {
+                    while (pendingSave == null) {
+                        lock.wait();
+                    }
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                save = pendingSave;
+                pendingSave = null;
+                isSaving = true;
+            }
+
+            try {
+                storage.saveClinicConnectSystemChanges(save.snapshot, save.changes);
+                save.future.complete(null);
+            } catch (Exception e) {
+                logger.warning("Failed to save data in the background: " + e);
+                save.future.completeExceptionally(e);
+            } finally {
+                synchronized (lock) {
+                    isSaving = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * The saves combined into one, to be written the next time the background thread is free.
+     */
+    private static class PendingSave {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final List<ClinicConnectSystemChange> changes = new ArrayList<>();
+        private ReadOnlyClinicConnectSystem snapshot;
+
+        void add(ReadOnlyClinicConnectSystem laterSnapshot, List<ClinicConnectSystemChange> laterChanges) {
+            snapshot = laterSnapshot;
+            changes.addAll(laterChanges);
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Address;
+import seedu.address.model.patient.Allergy;
+import seedu.address.model.patient.AllergyList;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.ApptList;
+import seedu.address.model.patient.Birthdate;
+import seedu.address.model.patient.BloodType;
+import seedu.address.model.patient.Email;
+import seedu.address.model.patient.ExistingCondition;
+import seedu.address.model.patient.HealthRisk;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Note;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.patient.Phone;
+import seedu.address.model.patient.Sex;
+
+/**
+ * Binary encoding of a {@link Patient}.
+ * The NRIC is packed into a long, the birth date is written as its epoch day, each appointment as the epoch second
+ * of its date and time together with the ordinal of its health service, and every other field as a length-prefixed
+ * UTF-8 string, with a length of -1 for fields that are not present.
+ */
+class BinaryAdaptedPatient {
+
+    public static final String CORRUPTED_RECORD_MESSAGE = "Patient record is corrupted!";
+
+    private static final String NRIC_PREFIXES = "STFGM";
+    private static final int NRIC_DIGITS_BOUND = 10_000_000;
+    private static final int NRIC_SUFFIXES = 26;
+    private static final int ABSENT = -1;
+
+    private BinaryAdaptedPatient() {}
+
+    /**
+     * Writes the binary encoding of {@code patient} into {@code output}.
+     */
+    public static void write(Patient patient, DataOutputStream output) throws IOException {
+        output.writeLong(packNric(patient.getNric()));
+        writeString(output, patient.getName().fullName);
+        output.writeByte(patient.getSex().value.charAt(0));
+        output.writeInt((int) LocalDate.parse(patient.getBirthdate().value).toEpochDay());
+        writeString(output, patient.getPhone() == null ? null : patient.getPhone().value);
+        writeString(output, patient.getEmail() == null ? null : patient.getEmail().value);
+        writeString(output, patient.getAddress() == null ? null : patient.getAddress().value);
+        writeString(output, patient.getBloodType() == null ? null : patient.getBloodType().value);
+        writeString(output, patient.getHealthRisk() == null ? null : patient.getHealthRisk().value);
+        writeString(output, patient.getExistingCondition() == null ? null : patient.getExistingCondition().value);
+        writeString(output, patient.getNote() == null ? null : patient.getNote().value);
+        writeString(output, patient.getNokName() == null ? null : patient.getNokName().fullName);
+        writeString(output, patient.getNokPhone() == null ? null : patient.getNokPhone().value);
+
+        List<Allergy> allergies = patient.getAllergies();
+        output.writeInt(allergies.size());
+        for (Allergy allergy : allergies) {
+            writeString(output, allergy.value);
+        }
+
+        List<Appt> appts = patient.getImmutableApptList();
+        output.writeInt(appts.size());
+        for (Appt appt : appts) {
+            output.writeLong(appt.getDateTime().toEpochSecond(ZoneOffset.UTC));
+            output.writeByte(appt.getHealthService().getOrdinal());
+        }
+    }
+
+    /**
+     * Reads the binary encoding of a patient from the position of {@code buffer}.
+     *
+     * @throws IllegalValueException if the encoding is incomplete, or there were any data constraints violated
+     *     in the encoded patient.
+     */
+    public static Patient read(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            Nric nric = unpackNric(buffer.getLong());
+            Name name = new Name(readRequiredString(buffer));
+            Sex sex = new Sex(String.valueOf((char) buffer.get()));
+            Birthdate birthdate = new Birthdate(LocalDate.ofEpochDay(buffer.getInt()).toString());
+            String phone = readString(buffer);
+            String email = readString(buffer);
+            String address = readString(buffer);
+            String bloodType = readString(buffer);
+            String healthRisk = readString(buffer);
+            String existingCondition = readString(buffer);
+            String note = readString(buffer);
+            String nokName = readString(buffer);
+            String nokPhone = readString(buffer);
+
+            int allergyCount = readCount(buffer);
+            AllergyList allergies = new AllergyList();
+            for (int i = 0; i < allergyCount; i++) {
+                allergies.addAllergy(new Allergy(readRequiredString(buffer)));
+            }
+
+            int apptCount = readCount(buffer);
+            List<Appt> appts = new ArrayList<>(apptCount);
+            for (int i = 0; i < apptCount; i++) {
+                LocalDateTime dateTime = LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC);
+                appts.add(new Appt(dateTime, HealthService.fromOrdinal(buffer.get())));
+            }
+
+            return new Patient(name, nric, birthdate, sex, phone == null ? null : new Phone(phone),
+                    email == null ? null : new Email(email), address == null ? null : new Address(address),
+                    allergies, bloodType == null ? null : new BloodType(bloodType),
+                    healthRisk == null ? null : new HealthRisk(healthRisk),
+                    existingCondition == null ? null : new ExistingCondition(existingCondition),
+                    note == null ? null : new Note(note), nokName == null ? null : new Name(nokName),
+                    nokPhone == null ? null : new Phone(nokPhone), new ApptList(appts));
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(CORRUPTED_RECORD_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns {@code nric} packed into a long, from its prefix, its digits and its suffix.
+     */
+    static long packNric(Nric nric) {
+        String value = nric.value;
+        long prefix = NRIC_PREFIXES.indexOf(value.charAt(0));
+        long digits = Long.parseLong(value.substring(1, value.length() - 1));
+        long suffix = value.charAt(value.length() - 1) - 'A';
+        return (prefix * NRIC_DIGITS_BOUND + digits) * NRIC_SUFFIXES + suffix;
+    }
+
+    /**
+     * Returns the NRIC packed into {@code packedNric} by {@link #packNric(Nric)}.
+     *
+     * @throws IllegalValueException if {@code packedNric} is not a packed NRIC.
+     */
+    static Nric unpackNric(long packedNric) throws IllegalValueException {
+        if (packedNric < 0 || packedNric >= (long) NRIC_PREFIXES.length() * NRIC_DIGITS_BOUND * NRIC_SUFFIXES) {
+            throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+        }
+        char suffix = (char) ('A' + packedNric % NRIC_SUFFIXES);
+        long digits = packedNric / NRIC_SUFFIXES % NRIC_DIGITS_BOUND;
+        char prefix = NRIC_PREFIXES.charAt((int) (packedNric / NRIC_SUFFIXES / NRIC_DIGITS_BOUND));
+        return new Nric(String.format("%c%07d%c", prefix, digits, suffix));
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(ABSENT);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = buffer.getInt();
+        if (length == ABSENT) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalValueException(CORRUPTED_RECORD_MESSAGE);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String readRequiredString(ByteBuffer buffer) throws IllegalValueException {
+        String value = readString(buffer);
+        if (value == null) {
+            throw new IllegalValueException(CORRUPTED_RECORD_MESSAGE);
+        }
+        return value;
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(CORRUPTED_RECORD_MESSAGE);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ClinicConnectSystemChange;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A class to access ClinicConnectSystem data stored as a compact binary file on the hard disk.
+ * The file starts with a magic number, the version of the format and the number of patients, followed by
+ * each patient as its length and its {@link BinaryAdaptedPatient} encoding.
+ */
+public class BinaryClinicConnectSystemStorage implements ClinicConnectSystemStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Data file is not a ClinicConnectSystem binary file!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is not supported!";
+    public static final String MESSAGE_CORRUPTED_FILE = "Data file is corrupted!";
+
+    /** The bytes "CCSB", which every binary data file starts with. */
+    static final int MAGIC = 0x43435342;
+
+    /** Version of the format, to be increased whenever the encoding of patients changes. */
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryClinicConnectSystemStorage.class);
+
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver(this);
+    private Path filePath;
+
+    public BinaryClinicConnectSystemStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file kept for the json data file at {@code jsonFilePath}, which has
+     * its ".json" extension, if any, replaced with {@value #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(".json")) {
+            fileName = fileName.substring(0, fileName.length() - ".json".length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    public Path getClinicConnectSystemFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem() throws DataLoadingException {
+        return readClinicConnectSystem(filePath);
+    }
+
+    /**
+     * Similar to {@link #readClinicConnectSystem()}.
+     * If the file cannot be read, the previous version of the file kept by the last save is read instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        return FileUtil.readFileWithBackup(filePath, this::readFile);
+    }
+
+    private ReadOnlyClinicConnectSystem readFile(Path filePath) throws DataLoadingException {
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return readModelType(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the patients in the binary file at {@code filePath} into a {@code ClinicConnectSystem}.
+     * The file is read into a heap buffer in one go rather than memory-mapped, as a mapping is only released when
+     * it is garbage collected, and would stop the next save from replacing the file on some platforms, e.g. Windows.
+     *
+     * @throws IOException if the file could not be read.
+     * @throws IllegalValueException if the file is not in this format, or there were any data constraints
+     *     violated in its patients.
+     */
+    static ClinicConnectSystem readModelType(Path filePath) throws IOException, IllegalValueException {
+        return readModelType(ByteBuffer.wrap(Files.readAllBytes(filePath)));
+    }
+
+    /**
+     * Reads the patients in {@code buffer}, from its header to its last patient, into a {@code ClinicConnectSystem}.
+     *
+     * @throws IllegalValueException if the buffer is not in this format, or there were any data constraints
+     *     violated in its patients.
+     */
+    static ClinicConnectSystem readModelType(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            int patientCount = buffer.getInt();
+            if (patientCount < 0) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            List<Patient> patients = new ArrayList<>(Math.min(patientCount, buffer.remaining()));
+            Set<Nric> nrics = new HashSet<>();
+            for (int i = 0; i < patientCount; i++) {
+                int length = buffer.getInt();
+                if (length < 0 || length > buffer.remaining()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                ByteBuffer record = buffer.slice();
+                record.limit(length);
+                buffer.position(buffer.position() + length);
+
+                Patient patient = BinaryAdaptedPatient.read(record);
+                if (record.hasRemaining()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                if (!nrics.add(patient.getNric())) {
+                    throw new IllegalValueException(JsonSerializableClinicConnectSystem.MESSAGE_DUPLICATE_PATIENT);
+                }
+                patients.add(patient);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return new ClinicConnectSystem(patients);
+        } catch (BufferUnderflowException bue) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    @Override
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException {
+        saveClinicConnectSystem(clinicConnectSystem, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveClinicConnectSystem(ReadOnlyClinicConnectSystem)}.
+     * The file is replaced atomically once all patients are written, and its previous version is kept as a backup.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem, Path filePath)
+            throws IOException {
+        requireNonNull(clinicConnectSystem);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomicallyWithBackup(filePath, outputStream ->
+                writeModelType(clinicConnectSystem.getPatientList(), outputStream));
+    }
+
+    /**
+     * Writes the header and {@code patients} into {@code outputStream}, in this format.
+     */
+    static void writeModelType(List<Patient> patients, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(patients.size());
+
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Patient patient : patients) {
+            recordBytes.reset();
+            BinaryAdaptedPatient.write(patient, record);
+            output.writeInt(recordBytes.size());
+            recordBytes.writeTo(output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Saves the whole {@code clinicConnectSystem}, as a binary file cannot be updated with only the changes.
+     */
+    @Override
+    public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+            List<ClinicConnectSystemChange> changes) throws IOException {
+        requireNonNull(changes);
+        saveClinicConnectSystem(clinicConnectSystem);
+    }
+
+    /**
+     * Does nothing, as every save writes the whole {@code clinicConnectSystem} into the data file.
+     */
+    @Override
+    public CompletableFuture<Void> saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem snapshot,
+            List<ClinicConnectSystemChange> changes) {
+        return backgroundSaver.save(snapshot, changes);
+    }
+
+    @Override
+    public void flushClinicConnectSystemSaves() {
+        backgroundSaver.flush();
+    }
+
+    @Override
+    public void checkpointClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
+    }
+}
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ClinicConnectSystemChange;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+
+/**
+ * A class to access ClinicConnectSystem data through another storage, e.g. a json file, that keeps a cache of the
+ * data next to the data file so that an unchanged data file does not have to be parsed again on the next start.
+ * The cache holds the patients in the format of {@link BinaryClinicConnectSystemStorage}, stamped with the
+ * {@link DataFileFingerprint} of the data file they were read from or saved into. It is only read when the data
+ * file still has that fingerprint, and the data file is read through the other storage otherwise.
+ */
+public class CachedClinicConnectSystemStorage implements ClinicConnectSystemStorage {
+
+    public static final String CACHE_FILE_SUFFIX = ".cache";
+
+    /** The bytes "CCSC", which every cache file starts with. */
+    static final int CACHE_MAGIC = 0x43435343;
+
+    /** Version of the cache header, to be increased whenever its layout changes. */
+    static final int CACHE_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(CachedClinicConnectSystemStorage.class);
+
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver(this);
+    private final ClinicConnectSystemStorage dataStorage;
+    private final Path cacheFilePath;
+    private DataFileFingerprint cachedFingerprint;
+    private boolean isDataSaved;
+
+    /**
+     * Creates a {@code CachedClinicConnectSystemStorage} that keeps a cache next to the data file of
+     * {@code dataStorage}.
+     */
+    public CachedClinicConnectSystemStorage(ClinicConnectSystemStorage dataStorage) {
+        requireNonNull(dataStorage);
+        this.dataStorage = dataStorage;
+        this.cacheFilePath = getCacheFilePath(dataStorage.getClinicConnectSystemFilePath());
+    }
+
+    /**
+     * Returns the path of the cache kept for the data file at {@code filePath}.
+     */
+    public static Path getCacheFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CACHE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getClinicConnectSystemFilePath() {
+        return dataStorage.getClinicConnectSystemFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem() throws DataLoadingException {
+        return readClinicConnectSystem(getClinicConnectSystemFilePath());
+    }
+
+    /**
+     * Similar to {@link #readClinicConnectSystem()}.
+     * The data is read from the cache if the data file has not changed since the cache was written. Otherwise,
+     * it is read from the data file, and the cache is rewritten with it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getClinicConnectSystemFilePath()) || !Files.exists(filePath)) {
+            return dataStorage.readClinicConnectSystem(filePath);
+        }
+
+        // The fingerprint is taken before the data file is read, so that a change made to the file while it is
+        // being read leaves a cache that does not match the file, instead of a cache that misses the change
+        DataFileFingerprint fingerprint;
+        try {
+            fingerprint = DataFileFingerprint.of(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            return dataStorage.readClinicConnectSystem(filePath);
+        }
+
+        Optional<ReadOnlyClinicConnectSystem> cachedData = readCache(fingerprint);
+        if (cachedData.isPresent()) {
+            cachedFingerprint = fingerprint;
+            return cachedData;
+        }
+
+        Optional<ReadOnlyClinicConnectSystem> data = dataStorage.readClinicConnectSystem(filePath);
+        if (data.isPresent()) {
+            writeCache(data.get(), fingerprint);
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data in the cache, or {@code Optional.empty()} if there is no cache for a data file with
+     * {@code fingerprint}, or the cache cannot be read.
+     */
+    private Optional<ReadOnlyClinicConnectSystem> readCache(DataFileFingerprint fingerprint) {
+        if (!Files.exists(cacheFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            // Not memory-mapped, as the mapping would stop the cache from being replaced on Windows
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(cacheFilePath));
+            if (buffer.getInt() != CACHE_MAGIC || buffer.getInt() != CACHE_VERSION
+                    || !DataFileFingerprint.readFrom(buffer).equals(fingerprint)) {
+                logger.info("Cache file " + cacheFilePath + " is out of date.");
+                return Optional.empty();
+            }
+            ReadOnlyClinicConnectSystem data = BinaryClinicConnectSystemStorage.readModelType(buffer.slice());
+            logger.info("Read data from cache file " + cacheFilePath);
+            return Optional.of(data);
+        } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+            logger.warning("Error reading from cache file " + cacheFilePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Replaces the cache with {@code clinicConnectSystem}, stamped with {@code fingerprint}.
+     * Errors are logged instead, as the data can still be read from the data file.
+     */
+    private void writeCache(ReadOnlyClinicConnectSystem clinicConnectSystem, DataFileFingerprint fingerprint) {
+        try {
+            FileUtil.writeToFileAtomically(cacheFilePath, outputStream -> {
+                DataOutputStream output = new DataOutputStream(outputStream);
+                output.writeInt(CACHE_MAGIC);
+                output.writeInt(CACHE_VERSION);
+                fingerprint.writeTo(output);
+                BinaryClinicConnectSystemStorage.writeModelType(clinicConnectSystem.getPatientList(), output);
+            });
+            cachedFingerprint = fingerprint;
+        } catch (IOException ioe) {
+            logger.warning("Error writing to cache file " + cacheFilePath + ": " + ioe);
+        }
+    }
+
+    @Override
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException {
+        saveClinicConnectSystem(clinicConnectSystem, getClinicConnectSystemFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveClinicConnectSystem(ReadOnlyClinicConnectSystem)}.
+     * The cache is left as it is, and no longer matches the data file once it has been written.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem, Path filePath)
+            throws IOException {
+        requireAllNonNull(clinicConnectSystem, filePath);
+        if (!filePath.equals(getClinicConnectSystemFilePath())) {
+            dataStorage.saveClinicConnectSystem(clinicConnectSystem, filePath);
+            return;
+        }
+
+        try {
+            dataStorage.saveClinicConnectSystem(clinicConnectSystem, filePath);
+            isDataSaved = true;
+        } catch (IOException ioe) {
+            isDataSaved = false;
+            throw ioe;
+        }
+    }
+
+    @Override
+    public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+            List<ClinicConnectSystemChange> changes) throws IOException {
+        requireAllNonNull(clinicConnectSystem, changes);
+        try {
+            dataStorage.saveClinicConnectSystemChanges(clinicConnectSystem, changes);
+            isDataSaved = true;
+        } catch (IOException ioe) {
+            isDataSaved = false;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Checkpoints the data file, then rewrites the cache with {@code clinicConnectSystem} if the data file has
+     * changed since the cache was written, so that the next start can read the cache.
+     * The cache is only rewritten if the data was saved through this storage and the last save succeeded, as the
+     * data file may not hold {@code clinicConnectSystem} otherwise.
+     */
+    @Override
+    public CompletableFuture<Void> saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem snapshot,
+            List<ClinicConnectSystemChange> changes) {
+        return backgroundSaver.save(snapshot, changes);
+    }
+
+    @Override
+    public void flushClinicConnectSystemSaves() {
+        backgroundSaver.flush();
+    }
+
+    @Override
+    public void checkpointClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException {
+        requireNonNull(clinicConnectSystem);
+        dataStorage.checkpointClinicConnectSystem(clinicConnectSystem);
+
+        Path filePath = getClinicConnectSystemFilePath();
+        if (!isDataSaved || !Files.exists(filePath)
+                || (cachedFingerprint != null && cachedFingerprint.isSizeAndTimeOf(filePath))) {
+            return;
+        }
+        writeCache(clinicConnectSystem, DataFileFingerprint.of(filePath));
+    }
+}
@@ -0,0 +1,213 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * An append-only file of changes made to the address book.
+ * Each record is written as the length and CRC-32 checksum of its compact JSON, followed by the JSON itself,
+ * so that a final record that was only partly written, e.g. because the app was killed while writing it,
+ * can be told apart from the complete records before it.
+ * Appended records are forced to the disk in batches, instead of after every record.
+ */
+class ChangeJournal implements Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(ChangeJournal.class);
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final Path journalPath;
+    private final int syncBatchSize;
+    private FileChannel channel;
+    private int unsyncedRecords;
+
+    /**
+     * Creates a {@code ChangeJournal} that appends to the file at {@code journalPath}, and forces the records
+     * to the disk after every {@code syncBatchSize} records.
+     */
+    ChangeJournal(Path journalPath, int syncBatchSize) {
+        assert syncBatchSize > 0;
+        this.journalPath = journalPath;
+        this.syncBatchSize = syncBatchSize;
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns the records in the journal at {@code journalPath} in the order they were appended,
+     * or an empty list if there is no journal.
+     * An incomplete record at the end of the journal is discarded, and cut off from the file so that
+     * records can be appended after the complete ones.
+     *
+     * @throws IOException if the journal could not be read, or a record before the end of the journal is invalid.
+     */
+    static List<JsonAdaptedClinicConnectSystemChange> read(Path journalPath) throws IOException {
+        List<JsonAdaptedClinicConnectSystemChange> records = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return records;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(journalPath));
+        while (buffer.hasRemaining()) {
+            int recordStart = buffer.position();
+            byte[] payload = readPayload(buffer);
+            if (payload == null) {
+                logger.warning("Discarding incomplete record at the end of journal " + journalPath);
+                truncate(journalPath, recordStart);
+                break;
+            }
+            records.add(JsonUtil.fromJsonString(new String(payload, StandardCharsets.UTF_8),
+                    JsonAdaptedClinicConnectSystemChange.class));
+        }
+        return records;
+    }
+
+    /**
+     * Reads the record at the position of {@code buffer} and returns its JSON,
+     * or null if the record is the last one and is incomplete.
+     *
+     * @throws IOException if the record is complete but its checksum does not match its JSON.
+     */
+    private static byte[] readPayload(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int length = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            return null;
+        }
+
+        byte[] payload = new byte[length];
+        buffer.get(payload);
+        if (checksumOf(payload) != checksum) {
+            if (!buffer.hasRemaining()) {
+                return null;
+            }
+            throw new IOException("Journal record at byte " + (buffer.position() - length - HEADER_BYTES)
+                    + " is corrupted");
+        }
+        return payload;
+    }
+
+    private static void truncate(Path journalPath, long size) throws IOException {
+        try (FileChannel truncatedChannel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            truncatedChannel.truncate(size);
+            truncatedChannel.force(false);
+        }
+    }
+
+    private static int checksumOf(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Appends {@code records} to the journal in a single write.
+     * The records are forced to the disk once {@code syncBatchSize} records have been appended since the last time.
+     */
+    public void append(List<JsonAdaptedClinicConnectSystemChange> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        for (JsonAdaptedClinicConnectSystemChange record : records) {
+            byte[] payload = toJsonBytes(record);
+            output.writeInt(payload.length);
+            output.writeInt(checksumOf(payload));
+            output.write(payload);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+        FileChannel openChannel = getChannel();
+        while (buffer.hasRemaining()) {
+            openChannel.write(buffer);
+        }
+
+        unsyncedRecords += records.size();
+        if (unsyncedRecords >= syncBatchSize) {
+            sync();
+        }
+    }
+
+    private static byte[] toJsonBytes(JsonAdaptedClinicConnectSystemChange record) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(json, false)) {
+            generator.writeObject(record);
+        }
+        return json.toByteArray();
+    }
+
+    private FileChannel getChannel() throws IOException {
+        if (channel == null) {
+            FileUtil.createParentDirsOfFile(journalPath);
+            channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    /**
+     * Returns the size of the journal in bytes, or 0 if there is no journal.
+     */
+    public long size() throws IOException {
+        if (channel != null) {
+            return channel.size();
+        }
+        return Files.exists(journalPath) ? Files.size(journalPath) : 0;
+    }
+
+    /**
+     * Forces the records appended so far to the disk.
+     */
+    public void sync() throws IOException {
+        if (channel != null && unsyncedRecords > 0) {
+            channel.force(false);
+        }
+        unsyncedRecords = 0;
+    }
+
+    /**
+     * Deletes the journal, e.g. once all of its records have been saved elsewhere.
+     */
+    public void delete() throws IOException {
+        close();
+        Files.deleteIfExists(journalPath);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            sync();
+        } finally {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+
+/**
+ * Converts ClinicConnectSystem data files from one format to another, e.g. from json to binary and back.
+ */
+public class ClinicConnectSystemFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(ClinicConnectSystemFileConverter.class);
+
+    /**
+     * Reads the data file of {@code source} and saves it as the data file of {@code target}.
+     * Any journal kept next to the data file of {@code source} is replayed before saving, and any journal kept next
+     * to the data file of {@code target} is deleted, as its changes were made to older data.
+     *
+     * @return true if the data file of {@code source} was found and converted.
+     * @throws DataLoadingException if the data file of {@code source} could not be read.
+     * @throws IOException if the data file of {@code target} could not be written.
+     */
+    public static boolean convert(ClinicConnectSystemStorage source, ClinicConnectSystemStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyClinicConnectSystem> data = new JournaledClinicConnectSystemStorage(source)
+                .readClinicConnectSystem();
+        if (data.isEmpty()) {
+            return false;
+        }
+        new JournaledClinicConnectSystemStorage(target).saveClinicConnectSystem(data.get());
+        logger.info("Converted data file " + source.getClinicConnectSystemFilePath() + " into "
+                + target.getClinicConnectSystemFilePath());
+        return true;
+    }
+
+    /**
+     * Converts the most recently modified data file among {@code sources} into the data file of {@code target} as in
+     * {@link #convert(ClinicConnectSystemStorage, ClinicConnectSystemStorage)}, but only if it was modified after the
+     * data file of {@code target}, e.g. when the user has switched back to the format of {@code target} after
+     * editing the data in another format. A journal kept next to a data file counts as part of it.
+     * Errors are logged instead, leaving the data file of {@code target} as it is.
+     */
+    public static void convertIfNewer(List<ClinicConnectSystemStorage> sources, ClinicConnectSystemStorage target) {
+        requireAllNonNull(sources, target);
+
+        Optional<ClinicConnectSystemStorage> newestSource = sources.stream()
+                .filter(source -> getLastModifiedTime(source).isPresent())
+                .max(Comparator.comparing(source -> getLastModifiedTime(source).get()));
+        if (newestSource.isEmpty()) {
+            return;
+        }
+        Optional<FileTime> targetModifiedTime = getLastModifiedTime(target);
+        if (targetModifiedTime.isPresent()
+                && getLastModifiedTime(newestSource.get()).get().compareTo(targetModifiedTime.get()) <= 0) {
+            return;
+        }
+
+        try {
+            convert(newestSource.get(), target);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert data file " + newestSource.get().getClinicConnectSystemFilePath()
+                    + " into " + target.getClinicConnectSystemFilePath() + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the time the data file of {@code storage}, or the journal kept next to it, was last modified,
+     * or an empty {@code Optional} if there is no data file or its time could not be read.
+     */
+    private static Optional<FileTime> getLastModifiedTime(ClinicConnectSystemStorage storage) {
+        Path filePath = storage.getClinicConnectSystemFilePath();
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            FileTime lastModifiedTime = Files.getLastModifiedTime(filePath);
+            Path journalPath = JournaledClinicConnectSystemStorage.getJournalFilePath(filePath);
+            if (Files.exists(journalPath)) {
+                FileTime journalModifiedTime = Files.getLastModifiedTime(journalPath);
+                if (journalModifiedTime.compareTo(lastModifiedTime) > 0) {
+                    lastModifiedTime = journalModifiedTime;
+                }
+            }
+            return Optional.of(lastModifiedTime);
+        } catch (IOException ioe) {
+            logger.warning("Could not read the modified time of " + filePath + ": " + ioe);
+            return Optional.empty();
+        }
+    }
+}
@@ -2,9 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ClinicConnectSystemChange;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
 
 /**
@@ -42,4 +45,43 @@ public interface ClinicConnectSystemStorage {
      */
     void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem, Path filePath) throws IOException;
 
+    /**
+     * Saves the {@code changes} made to the given {@link ReadOnlyClinicConnectSystem} since it was last saved.
+     * Storages that do not keep track of changes save the whole {@code clinicConnectSystem} instead.
+     * @param clinicConnectSystem cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+            List<ClinicConnectSystemChange> changes) throws IOException;
+
+    /**
+     * Saves the {@code changes} made to the address book, as in
+     * {@link #saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem, List)}, on a background thread
+     * without waiting for them to be written.
+     * Saves requested while an earlier save is being written are combined into a single save of the latest
+     * {@code snapshot}, together with all of their changes.
+     *
+     * @param snapshot the address book after the changes, which must not change anymore.
+     * @param changes the changes made since the last save, which must not change anymore.
+     * @return a future that is completed once the changes have been written,
+     *     or completed exceptionally with the {@code IOException} if they could not be written.
+     */
+    CompletableFuture<Void> saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem snapshot,
+            List<ClinicConnectSystemChange> changes);
+
+    /**
+     * Waits until every save requested through
+     * {@link #saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem, List)} has been written or has failed.
+     */
+    void flushClinicConnectSystemSaves();
+
+    /**
+     * Saves the given {@link ReadOnlyClinicConnectSystem} as a whole if the storage holds changes that have
+     * not been saved into the data file yet, e.g. before the app exits.
+     * @param clinicConnectSystem cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void checkpointClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException;
+
 }
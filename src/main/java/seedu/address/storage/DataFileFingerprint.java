@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Identifies the content of a data file by its size, last modified time and a checksum of its bytes,
+ * so that data derived from the file can be reused for as long as the file is not changed.
+ */
+class DataFileFingerprint {
+
+    static final int BYTES = 3 * Long.BYTES;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final long size;
+    private final long lastModifiedMillis;
+    private final long checksum;
+
+    DataFileFingerprint(long size, long lastModifiedMillis, long checksum) {
+        this.size = size;
+        this.lastModifiedMillis = lastModifiedMillis;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the fingerprint of the file at {@code filePath}, reading the whole file to compute its checksum.
+     */
+    public static DataFileFingerprint of(Path filePath) throws IOException {
+        long lastModifiedMillis = Files.getLastModifiedTime(filePath).toMillis();
+        CRC32C crc = new CRC32C();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                size += buffer.remaining();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return new DataFileFingerprint(size, lastModifiedMillis, crc.getValue());
+    }
+
+    /**
+     * Returns true if the size and last modified time of the file at {@code filePath} match this fingerprint.
+     * This is a quick check that does not read the file, so a match still has to be confirmed with {@link #of(Path)}.
+     */
+    public boolean isSizeAndTimeOf(Path filePath) throws IOException {
+        return Files.size(filePath) == size && Files.getLastModifiedTime(filePath).toMillis() == lastModifiedMillis;
+    }
+
+    /**
+     * Reads a fingerprint written by {@link #writeTo(DataOutputStream)} from the position of {@code buffer}.
+     */
+    public static DataFileFingerprint readFrom(ByteBuffer buffer) {
+        return new DataFileFingerprint(buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Writes this fingerprint into {@code output}, in {@value #BYTES} bytes.
+     */
+    public void writeTo(DataOutputStream output) throws IOException {
+        output.writeLong(size);
+        output.writeLong(lastModifiedMillis);
+        output.writeLong(checksum);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DataFileFingerprint)) {
+            return false;
+        }
+
+        DataFileFingerprint otherFingerprint = (DataFileFingerprint) other;
+        return size == otherFingerprint.size
+                && lastModifiedMillis == otherFingerprint.lastModifiedMillis
+                && checksum == otherFingerprint.checksum;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, lastModifiedMillis, checksum);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size)
+                .add("lastModifiedMillis", lastModifiedMillis)
+                .add("checksum", Long.toHexString(checksum))
+                .toString();
+    }
+}
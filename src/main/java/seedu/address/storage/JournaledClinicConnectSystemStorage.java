@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ClinicConnectSystemChange;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+
+/**
+ * A class to access ClinicConnectSystem data stored as a data file on the hard disk, e.g. a json file, together
+ * with a journal of the changes made since the data file was last written.
+ * Changes are saved by appending them to the journal, instead of rewriting the whole data file after every command.
+ * The data file is only rewritten, and the journal deleted, on a checkpoint: when the whole data is saved,
+ * on the first save after the storage is created or after a failed save, when all patients are replaced,
+ * when the journal has grown past a threshold, or when the app exits.
+ */
+public class JournaledClinicConnectSystemStorage implements ClinicConnectSystemStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /** Size of the journal in bytes, from which changes are saved by rewriting the data file instead. */
+    static final long DEFAULT_CHECKPOINT_THRESHOLD_BYTES = 1024 * 1024;
+
+    /** Number of records appended to the journal between each time it is forced to the disk. */
+    static final int DEFAULT_SYNC_BATCH_SIZE = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledClinicConnectSystemStorage.class);
+
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver(this);
+    private final ClinicConnectSystemStorage snapshotStorage;
+    private final long checkpointThresholdBytes;
+    private final ChangeJournal journal;
+    private boolean isCheckpointed;
+    private boolean hasLostChanges;
+
+    /**
+     * Creates a {@code JournaledClinicConnectSystemStorage} that keeps a journal next to the data file
+     * of {@code snapshotStorage}.
+     */
+    public JournaledClinicConnectSystemStorage(ClinicConnectSystemStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_CHECKPOINT_THRESHOLD_BYTES, DEFAULT_SYNC_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a {@code JournaledClinicConnectSystemStorage} with the given checkpoint threshold and sync batch size.
+     */
+    JournaledClinicConnectSystemStorage(ClinicConnectSystemStorage snapshotStorage, long checkpointThresholdBytes,
+            int syncBatchSize) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.checkpointThresholdBytes = checkpointThresholdBytes;
+        this.journal = new ChangeJournal(getJournalFilePath(snapshotStorage.getClinicConnectSystemFilePath()),
+                syncBatchSize);
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getClinicConnectSystemFilePath() {
+        return snapshotStorage.getClinicConnectSystemFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem() throws DataLoadingException {
+        return readClinicConnectSystem(getClinicConnectSystemFilePath());
+    }
+
+    /**
+     * Similar to {@link #readClinicConnectSystem()}.
+     * The changes in the journal of the data file are made to the data read from the data file, in order.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyClinicConnectSystem> snapshot = snapshotStorage.readClinicConnectSystem(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        List<JsonAdaptedClinicConnectSystemChange> records;
+        try {
+            records = ChangeJournal.read(journalPath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        if (records.isEmpty()) {
+            return snapshot;
+        }
+
+        ClinicConnectSystem clinicConnectSystem = snapshot.map(ClinicConnectSystem::new)
+                .orElseGet(ClinicConnectSystem::new);
+        try {
+            for (JsonAdaptedClinicConnectSystemChange record : records) {
+                record.toModelType().applyTo(clinicConnectSystem);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        clinicConnectSystem.takeChanges();
+        logger.info("Replayed " + records.size() + " change(s) from journal file " + journalPath);
+        return Optional.of(clinicConnectSystem);
+    }
+
+    @Override
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException {
+        saveClinicConnectSystem(clinicConnectSystem, getClinicConnectSystemFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveClinicConnectSystem(ReadOnlyClinicConnectSystem)}.
+     * The journal of the data file is deleted once the data file has been written, as it holds no further changes.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem, Path filePath)
+            throws IOException {
+        requireAllNonNull(clinicConnectSystem, filePath);
+
+        snapshotStorage.saveClinicConnectSystem(clinicConnectSystem, filePath);
+        if (filePath.equals(getClinicConnectSystemFilePath())) {
+            journal.delete();
+            isCheckpointed = true;
+            hasLostChanges = false;
+        } else {
+            Files.deleteIfExists(getJournalFilePath(filePath));
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, or saves the whole {@code clinicConnectSystem} if a checkpoint is due.
+     */
+    @Override
+    public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+            List<ClinicConnectSystemChange> changes) throws IOException {
+        requireAllNonNull(clinicConnectSystem, changes);
+        if (changes.isEmpty() && !hasLostChanges) {
+            return;
+        }
+
+        try {
+            if (isCheckpointDue(changes)) {
+                saveClinicConnectSystem(clinicConnectSystem);
+                return;
+            }
+            journal.append(changes.stream()
+                    .map(JsonAdaptedClinicConnectSystemChange::new)
+                    .collect(Collectors.toList()));
+        } catch (IOException ioe) {
+            // The changes are no longer held anywhere else, so the next save has to write the whole data
+            hasLostChanges = true;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Saves {@code clinicConnectSystem} as a whole if the journal holds any changes, or changes could not be
+     * appended to it, then checkpoints the storage of the data file.
+     */
+    @Override
+    public CompletableFuture<Void> saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem snapshot,
+            List<ClinicConnectSystemChange> changes) {
+        return backgroundSaver.save(snapshot, changes);
+    }
+
+    @Override
+    public void flushClinicConnectSystemSaves() {
+        backgroundSaver.flush();
+    }
+
+    @Override
+    public void checkpointClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException {
+        requireNonNull(clinicConnectSystem);
+        if (hasLostChanges || journal.size() > 0) {
+            saveClinicConnectSystem(clinicConnectSystem);
+        }
+        snapshotStorage.checkpointClinicConnectSystem(clinicConnectSystem);
+    }
+
+    private boolean isCheckpointDue(List<ClinicConnectSystemChange> changes) throws IOException {
+        return !isCheckpointed
+                || hasLostChanges
+                || !Files.exists(getClinicConnectSystemFilePath())
+                || changes.stream().anyMatch(change -> change.getType() == ClinicConnectSystemChange.Type.RESET)
+                || journal.size() >= checkpointThresholdBytes;
+    }
+}
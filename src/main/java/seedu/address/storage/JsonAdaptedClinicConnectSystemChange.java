@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ClinicConnectSystemChange;
+import seedu.address.model.ClinicConnectSystemChange.Type;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
+
+/**
+ * Jackson-friendly version of {@link ClinicConnectSystemChange}, as a record of the journal.
+ * Only the fields used by the type of change are written. A {@link Type#RESET} replaces all patients, so it is
+ * saved by rewriting the data file instead, and has no record type.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedClinicConnectSystemChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String INVALID_TYPE_MESSAGE = "Change's type is not a patient or appointment change!";
+
+    /**
+     * The types of changes that can be recorded in the journal, which are those of a single patient.
+     */
+    enum RecordType {
+        PUT_PATIENT, REMOVE_PATIENT, ADD_APPT, DELETE_APPT;
+
+        /**
+         * Returns the record type of changes of {@code type}.
+         *
+         * @throws IllegalArgumentException if {@code type} is a {@link Type#RESET}.
+         */
+        static RecordType of(Type type) {
+            switch (type) {
+            case PUT_PATIENT:
+                return PUT_PATIENT;
+            case REMOVE_PATIENT:
+                return REMOVE_PATIENT;
+            case ADD_APPT:
+                return ADD_APPT;
+            case DELETE_APPT:
+                return DELETE_APPT;
+            default:
+                throw new IllegalArgumentException("A reset cannot be recorded in the journal.");
+            }
+        }
+    }
+
+    private final String type;
+    private final String nric;
+    private final JsonAdaptedPatient patient;
+    private final JsonAdaptedAppt appt;
+
+    /**
+     * Constructs a {@code JsonAdaptedClinicConnectSystemChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedClinicConnectSystemChange(@JsonProperty("type") String type, @JsonProperty("nric") String nric,
+            @JsonProperty("patient") JsonAdaptedPatient patient, @JsonProperty("appt") JsonAdaptedAppt appt) {
+        this.type = type;
+        this.nric = nric;
+        this.patient = patient;
+        this.appt = appt;
+    }
+
+    /**
+     * Converts a given {@code ClinicConnectSystemChange} into this class for Jackson use.
+     *
+     * @throws IllegalArgumentException if the change is a {@link Type#RESET}.
+     */
+    public JsonAdaptedClinicConnectSystemChange(ClinicConnectSystemChange source) {
+        type = RecordType.of(source.getType()).name();
+        nric = source.getType() == Type.PUT_PATIENT ? null : source.getNric().value;
+        patient = source.getPatient() == null ? null : new JsonAdaptedPatient(source.getPatient());
+        appt = source.getAppt() == null ? null : new JsonAdaptedAppt(source.getAppt());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code ClinicConnectSystemChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public ClinicConnectSystemChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        RecordType recordType;
+        try {
+            recordType = RecordType.valueOf(type);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(INVALID_TYPE_MESSAGE);
+        }
+
+        switch (recordType) {
+        case PUT_PATIENT:
+            if (patient == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "patient"));
+            }
+            return ClinicConnectSystemChange.putPatient(patient.toModelType());
+        case REMOVE_PATIENT:
+            return ClinicConnectSystemChange.removePatient(toModelNric());
+        case ADD_APPT:
+            return ClinicConnectSystemChange.addAppt(toModelNric(), toModelAppt());
+        default:
+            return ClinicConnectSystemChange.deleteAppt(toModelNric(), toModelAppt());
+        }
+    }
+
+    private Nric toModelNric() throws IllegalValueException {
+        if (nric == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Nric.class.getSimpleName()));
+        }
+        if (!Nric.isValidNric(nric)) {
+            throw new IllegalValueException(Nric.MESSAGE_CONSTRAINTS);
+        }
+        return new Nric(nric);
+    }
+
+    private Appt toModelAppt() throws IllegalValueException {
+        if (appt == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "appt"));
+        }
+        return appt.toModelType();
+    }
+}
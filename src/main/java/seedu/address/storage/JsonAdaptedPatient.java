@@ -29,7 +29,7 @@ import seedu.address.model.patient.Sex;
 /**
  * Jackson-friendly version of {@link Patient}.
  */
-class JsonAdaptedPatient {
+public class JsonAdaptedPatient {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Patient's %s field is missing!";
 
@@ -206,11 +206,11 @@ class JsonAdaptedPatient {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Appt.class.getSimpleName()));
         }
-        final ApptList modelAppts = new ApptList();
-
+        final List<Appt> modelApptList = new ArrayList<>(appts.size());
         for (JsonAdaptedAppt appt : appts) {
-            modelAppts.addAppt(appt.toModelType());
+            modelApptList.add(appt.toModelType());
         }
+        final ApptList modelAppts = new ApptList(modelApptList);
 
         final AllergyList modelAllergies = new AllergyList();
 
@@ -2,16 +2,25 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClinicConnectSystemChange;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
 
 /**
@@ -21,10 +30,22 @@ public class JsonClinicConnectSystemStorage implements ClinicConnectSystemStorag
 
     private static final Logger logger = LogsCenter.getLogger(JsonClinicConnectSystemStorage.class);
 
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver(this);
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonClinicConnectSystemStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonClinicConnectSystemStorage} for the data file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether saved data files are indented for reading, or written without any whitespace.
+     */
+    public JsonClinicConnectSystemStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getClinicConnectSystemFilePath() {
@@ -38,6 +59,8 @@ public class JsonClinicConnectSystemStorage implements ClinicConnectSystemStorag
 
     /**
      * Similar to {@link #readClinicConnectSystem()}.
+     * The file is streamed into the model patient by patient, instead of being read into memory as a whole first.
+     * If the file cannot be read, the previous version of the file kept by the last save is read instead.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +68,18 @@ public class JsonClinicConnectSystemStorage implements ClinicConnectSystemStorag
     public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableClinicConnectSystem> jsonClinicConnectSystem = JsonUtil.readJsonFile(
-                filePath, JsonSerializableClinicConnectSystem.class);
-        if (!jsonClinicConnectSystem.isPresent()) {
-            return Optional.empty();
-        }
+        return FileUtil.readFileWithBackup(filePath, this::readFile);
+    }
+
+    private ReadOnlyClinicConnectSystem readFile(Path filePath) throws DataLoadingException {
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonClinicConnectSystem.get().toModelType());
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath));
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            return JsonSerializableClinicConnectSystem.readModelType(parser);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +93,8 @@ public class JsonClinicConnectSystemStorage implements ClinicConnectSystemStorag
 
     /**
      * Similar to {@link #saveClinicConnectSystem(ReadOnlyClinicConnectSystem)}.
+     * The patients are written to the file one at a time, instead of being converted into a single string first.
+     * The file is replaced atomically once all patients are written, and its previous version is kept as a backup.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -74,8 +103,40 @@ public class JsonClinicConnectSystemStorage implements ClinicConnectSystemStorag
         requireNonNull(clinicConnectSystem);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableClinicConnectSystem(clinicConnectSystem), filePath);
+        FileUtil.writeToFileAtomicallyWithBackup(filePath, outputStream -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(outputStream, isPrettyPrinted)) {
+                JsonSerializableClinicConnectSystem.writeModelType(clinicConnectSystem, generator);
+            }
+        });
+    }
+
+    /**
+     * Saves the whole {@code clinicConnectSystem}, as a JSON file cannot be updated with only the changes.
+     */
+    @Override
+    public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+            List<ClinicConnectSystemChange> changes) throws IOException {
+        requireNonNull(changes);
+        saveClinicConnectSystem(clinicConnectSystem);
+    }
+
+    /**
+     * Does nothing, as every save writes the whole {@code clinicConnectSystem} into the data file.
+     */
+    @Override
+    public CompletableFuture<Void> saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem snapshot,
+            List<ClinicConnectSystemChange> changes) {
+        return backgroundSaver.save(snapshot, changes);
+    }
+
+    @Override
+    public void flushClinicConnectSystemSaves() {
+        backgroundSaver.flush();
+    }
+
+    @Override
+    public void checkpointClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
     }
 
 }
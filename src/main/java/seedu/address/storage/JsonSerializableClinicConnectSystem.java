@@ -1,16 +1,25 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ClinicConnectSystem;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
 
 /**
@@ -21,6 +30,14 @@ class JsonSerializableClinicConnectSystem {
 
     public static final String MESSAGE_DUPLICATE_PATIENT = "Patients list contains duplicate patient(s).";
 
+    /** Number of patients from which conversion is spread across the common fork-join pool. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 512;
+
+    /** Number of patients held as {@code JsonAdaptedPatient}s at a time when reading through a parser. */
+    static final int STREAMING_CHUNK_SIZE = 4096;
+
+    private static final String PATIENTS_FIELD = "patients";
+
     private final List<JsonAdaptedPatient> patients = new ArrayList<>();
 
     /**
@@ -42,19 +59,134 @@ class JsonSerializableClinicConnectSystem {
 
     /**
      * Converts this address book into the model's {@code ClinicConnectSystem} object.
+     * Large address books have their patients converted and validated in parallel; the patients keep their
+     * order in the file, and the error reported is the one for the earliest invalid or duplicate patient.
+     * The patients are then loaded into the address book in a single step.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public ClinicConnectSystem toModelType() throws IllegalValueException {
-        ClinicConnectSystem clinicConnectSystem = new ClinicConnectSystem();
-        for (JsonAdaptedPatient jsonAdaptedPatient : patients) {
-            Patient patient = jsonAdaptedPatient.toModelType();
-            if (clinicConnectSystem.hasPatient(patient)) {
+        List<Patient> modelPatients = new ArrayList<>(patients.size());
+        addModelPatients(patients, modelPatients, new HashSet<>());
+        return new ClinicConnectSystem(modelPatients);
+    }
+
+    /**
+     * Reads an address book in this class's JSON format from {@code parser} into the model's
+     * {@code ClinicConnectSystem} object, without building a {@code JsonSerializableClinicConnectSystem}.
+     * Patients are read and converted in chunks of {@link #STREAMING_CHUNK_SIZE}, so only the model and one
+     * chunk of {@code JsonAdaptedPatient}s are held in memory at a time.
+     *
+     * @throws IOException if the JSON data could not be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ClinicConnectSystem readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object containing the patients list");
+        }
+
+        List<Patient> modelPatients = new ArrayList<>();
+        Set<Nric> seenNrics = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!PATIENTS_FIELD.equals(fieldName) || valueToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            List<JsonAdaptedPatient> chunk = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                chunk.add(parser.readValueAs(JsonAdaptedPatient.class));
+                if (chunk.size() == STREAMING_CHUNK_SIZE) {
+                    addModelPatients(chunk, modelPatients, seenNrics);
+                    chunk.clear();
+                }
+            }
+            addModelPatients(chunk, modelPatients, seenNrics);
+        }
+        return new ClinicConnectSystem(modelPatients);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in this class's JSON format, without building a
+     * {@code JsonSerializableClinicConnectSystem}.
+     * Each patient is converted into a {@code JsonAdaptedPatient} only while it is being written.
+     *
+     * @throws IOException if the JSON data could not be written.
+     */
+    public static void writeModelType(ReadOnlyClinicConnectSystem source, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(PATIENTS_FIELD);
+        generator.writeStartArray();
+        for (Patient patient : source.getPatientList()) {
+            generator.writeObject(new JsonAdaptedPatient(patient));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Converts {@code jsonPatients} and appends them to {@code modelPatients}.
+     * Large lists are converted in parallel; the patients keep their order, and the error reported is
+     * the one for the earliest invalid patient, or patient whose NRIC is already in {@code seenNrics}.
+     */
+    private static void addModelPatients(List<JsonAdaptedPatient> jsonPatients, List<Patient> modelPatients,
+            Set<Nric> seenNrics) throws IllegalValueException {
+        Conversion[] conversions = new Conversion[jsonPatients.size()];
+        IntStream indices = IntStream.range(0, jsonPatients.size());
+        if (jsonPatients.size() >= PARALLEL_CONVERSION_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> conversions[i] = new Conversion(jsonPatients.get(i)));
+
+        for (Conversion conversion : conversions) {
+            Patient patient = conversion.getPatient();
+            if (!seenNrics.add(patient.getNric())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PATIENT);
             }
-            clinicConnectSystem.addPatient(patient);
+            modelPatients.add(patient);
+        }
+    }
+
+    /**
+     * The outcome of converting one {@code JsonAdaptedPatient}, holding either the patient or the error,
+     * so that errors can be reported in file order after all patients have been converted.
+     */
+    private static class Conversion {
+        private final Patient patient;
+        private final IllegalValueException illegalValueException;
+        private final RuntimeException runtimeException;
+
+        Conversion(JsonAdaptedPatient jsonAdaptedPatient) {
+            Patient convertedPatient = null;
+            IllegalValueException convertedIllegalValueException = null;
+            RuntimeException convertedRuntimeException = null;
+            try {
+                convertedPatient = jsonAdaptedPatient.toModelType();
+            } catch (IllegalValueException ive) {
+                convertedIllegalValueException = ive;
+            } catch (RuntimeException re) {
+                convertedRuntimeException = re;
+            }
+            patient = convertedPatient;
+            illegalValueException = convertedIllegalValueException;
+            runtimeException = convertedRuntimeException;
+        }
+
+        /**
+         * Returns the converted patient, or rethrows the error raised while converting it.
+         */
+        Patient getPatient() throws IllegalValueException {
+            if (illegalValueException != null) {
+                throw illegalValueException;
+            }
+            if (runtimeException != null) {
+                throw runtimeException;
+            }
+            return patient;
         }
-        return clinicConnectSystem;
     }
 
 }
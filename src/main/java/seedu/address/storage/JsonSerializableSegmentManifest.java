@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * The manifest of a segmented data folder, which lists the file holding the patients of each segment.
+ * A segment without patients has no file, and is listed as null.
+ */
+class JsonSerializableSegmentManifest {
+
+    public static final String MESSAGE_INVALID_MANIFEST = "Segment manifest is invalid!";
+
+    private final long generation;
+    private final List<String> segmentFiles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegmentManifest} with the given generation and segment files.
+     */
+    @JsonCreator
+    public JsonSerializableSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("segmentFiles") List<String> segmentFiles) {
+        this.generation = generation;
+        if (segmentFiles != null) {
+            this.segmentFiles.addAll(segmentFiles);
+        }
+    }
+
+    /**
+     * Returns the manifest of a new segmented data folder with {@code segmentCount} segments and no patients.
+     */
+    public static JsonSerializableSegmentManifest empty(int segmentCount) {
+        return new JsonSerializableSegmentManifest(0, Collections.nCopies(segmentCount, null));
+    }
+
+    /**
+     * Checks that this manifest lists at least one segment, and that none of its files lie outside the folder.
+     *
+     * @throws IllegalValueException if this manifest is not valid.
+     */
+    public void validate() throws IllegalValueException {
+        if (generation < 0 || segmentFiles.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+        for (String segmentFile : segmentFiles) {
+            if (segmentFile != null && (segmentFile.isEmpty() || segmentFile.contains("/")
+                    || segmentFile.contains("\\") || segmentFile.startsWith("."))) {
+                throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+            }
+        }
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public int getSegmentCount() {
+        return segmentFiles.size();
+    }
+
+    /**
+     * Returns the name of the file holding the patients of {@code segment}, or null if it has no patients.
+     */
+    public String getSegmentFile(int segment) {
+        return segmentFiles.get(segment);
+    }
+
+    /**
+     * Returns the names of the files of all segments, with null for segments without patients.
+     */
+    public List<String> getSegmentFiles() {
+        return Collections.unmodifiableList(segmentFiles);
+    }
+}
@@ -39,9 +39,12 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
         return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
     }
 
+    /**
+     * Saves {@code userPrefs} to the json file, unless the file already holds them.
+     */
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFileIfChanged(userPrefs, filePath);
     }
 
 }
@@ -0,0 +1,567 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ClinicConnectSystemChange;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.patient.Nric;
+import seedu.address.model.patient.Patient;
+
+/**
+ * A class to access ClinicConnectSystem data stored as a folder of segment files on the hard disk.
+ * Patients are spread over segments by the hash of their NRIC. Each segment file holds an order key for each of
+ * its patients, followed by the patients in the format of {@link BinaryClinicConnectSystemStorage}. A manifest
+ * lists the current file of each segment.
+ * Saving changes only rewrites the segments of the patients that changed. The number of segments grows with
+ * the number of patients whenever every segment is rewritten, so that each segment holds about
+ * {@value #PATIENTS_PER_SEGMENT} patients. The new segment files are written under new names before the manifest
+ * is replaced, so that a crash while saving leaves the previous segments and manifest in place.
+ * Segments are read in parallel, and the patients are then put back in list order by their order keys. The keys
+ * increase along the patient list with gaps between them, so that a new patient can be given a key between its
+ * neighbours without changing the keys of other patients.
+ */
+public class SegmentedClinicConnectSystemStorage implements ClinicConnectSystemStorage {
+
+    public static final String SEGMENTS_FOLDER_SUFFIX = ".segments";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    public static final String MESSAGE_PATIENT_IN_WRONG_SEGMENT = "Segment %d contains a patient of another segment!";
+
+    /** Smallest number of segments of a segmented data folder. */
+    static final int DEFAULT_SEGMENT_COUNT = 64;
+
+    /** Number of patients that a segment is sized to hold, and so about the number rewritten per change. */
+    static final int PATIENTS_PER_SEGMENT = 128;
+
+    /** The bytes "CCSS", which every segment file with order keys starts with. */
+    static final int SEGMENT_MAGIC = 0x43435353;
+
+    /** Difference between the order keys of neighbouring patients when every segment is rewritten. */
+    static final long ORDER_KEY_GAP = 1L << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedClinicConnectSystemStorage.class);
+
+    private final BackgroundSaver backgroundSaver = new BackgroundSaver(this);
+    private final Path manifestPath;
+    private final int minSegmentCount;
+
+    /** The manifest last read from or written to {@code manifestPath}, or null if neither has happened yet. */
+    private JsonSerializableSegmentManifest manifest;
+    /**
+     * The order key of each patient in the segments at {@code manifestPath}, or null if they are not known, e.g.
+     * before the segments are first read or when they were written without order keys.
+     */
+    private Map<Nric, Long> orderKeys;
+    private boolean hasLostChanges;
+
+    public SegmentedClinicConnectSystemStorage(Path manifestPath) {
+        this(manifestPath, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Creates a {@code SegmentedClinicConnectSystemStorage} for the manifest at {@code manifestPath}, that
+     * splits the data into at least {@code minSegmentCount} segments.
+     */
+    SegmentedClinicConnectSystemStorage(Path manifestPath, int minSegmentCount) {
+        assert minSegmentCount > 0;
+        this.manifestPath = manifestPath;
+        this.minSegmentCount = minSegmentCount;
+    }
+
+    /**
+     * Returns the path of the manifest of the segmented data folder kept for the json data file at
+     * {@code jsonFilePath}, which is in a folder named after the json data file.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(".json")) {
+            fileName = fileName.substring(0, fileName.length() - ".json".length());
+        }
+        return jsonFilePath.resolveSibling(fileName + SEGMENTS_FOLDER_SUFFIX).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the segment that the patient with {@code nric} is stored in, out of {@code segmentCount} segments.
+     */
+    static int getSegment(Nric nric, int segmentCount) {
+        return Math.floorMod(nric.value.hashCode(), segmentCount);
+    }
+
+    /**
+     * Returns the number of segments to split {@code patientCount} patients into when every segment is rewritten.
+     */
+    int getSegmentCountFor(int patientCount) {
+        return Math.max(minSegmentCount, (patientCount + PATIENTS_PER_SEGMENT - 1) / PATIENTS_PER_SEGMENT);
+    }
+
+    @Override
+    public Path getClinicConnectSystemFilePath() {
+        return manifestPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem() throws DataLoadingException {
+        return readClinicConnectSystem(manifestPath);
+    }
+
+    /**
+     * Similar to {@link #readClinicConnectSystem()}.
+     *
+     * @param manifestPath location of the manifest of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem(Path manifestPath)
+            throws DataLoadingException {
+        requireNonNull(manifestPath);
+
+        Optional<JsonSerializableSegmentManifest> readManifest =
+                JsonUtil.readJsonFile(manifestPath, JsonSerializableSegmentManifest.class);
+        if (readManifest.isEmpty()) {
+            return Optional.empty();
+        }
+        JsonSerializableSegmentManifest segmentManifest = readManifest.get();
+        try {
+            segmentManifest.validate();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        SegmentRead[] segmentReads = IntStream.range(0, segmentManifest.getSegmentCount())
+                .parallel()
+                .mapToObj(segment -> new SegmentRead(manifestPath.resolveSibling(""), segmentManifest, segment))
+                .toArray(SegmentRead[]::new);
+        List<KeyedPatient> keyedPatients = new ArrayList<>();
+        boolean hasAllOrderKeys = true;
+        for (SegmentRead segmentRead : segmentReads) {
+            keyedPatients.addAll(segmentRead.getPatients());
+            hasAllOrderKeys &= segmentRead.hasOrderKeys();
+        }
+        // Patients of segments without order keys have the largest key, and so stay last in the order they were read
+        keyedPatients.sort(Comparator.comparingLong(keyedPatient -> keyedPatient.orderKey));
+        List<Patient> patients = new ArrayList<>(keyedPatients.size());
+        Map<Nric, Long> readOrderKeys = hasAllOrderKeys ? new HashMap<>() : null;
+        for (KeyedPatient keyedPatient : keyedPatients) {
+            patients.add(keyedPatient.patient);
+            if (readOrderKeys != null) {
+                readOrderKeys.put(keyedPatient.patient.getNric(), keyedPatient.orderKey);
+            }
+        }
+
+        if (manifestPath.equals(this.manifestPath)) {
+            manifest = segmentManifest;
+            orderKeys = readOrderKeys;
+        }
+        return Optional.of(new ClinicConnectSystem(patients));
+    }
+
+    @Override
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException {
+        saveClinicConnectSystem(clinicConnectSystem, manifestPath);
+    }
+
+    /**
+     * Similar to {@link #saveClinicConnectSystem(ReadOnlyClinicConnectSystem)}.
+     * Every segment is rewritten.
+     *
+     * @param manifestPath location of the manifest of the data. Cannot be null.
+     */
+    @Override
+    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem, Path manifestPath)
+            throws IOException {
+        requireAllNonNull(clinicConnectSystem, manifestPath);
+
+        List<Patient> patients = clinicConnectSystem.getPatientList();
+        int segmentCount = getSegmentCountFor(patients.size());
+        long[] newOrderKeys = getSpacedOrderKeys(patients.size());
+        if (!manifestPath.equals(this.manifestPath)) {
+            JsonSerializableSegmentManifest otherManifest = JsonSerializableSegmentManifest.empty(segmentCount);
+            saveSegments(patients, newOrderKeys, manifestPath, otherManifest, segmentCount,
+                    allSegments(segmentCount));
+            return;
+        }
+        manifest = saveSegments(patients, newOrderKeys, manifestPath, getCurrentManifest(), segmentCount,
+                allSegments(segmentCount));
+        orderKeys = toOrderKeyMap(patients, newOrderKeys);
+        hasLostChanges = false;
+    }
+
+    /**
+     * Rewrites only the segments of the patients in {@code changes}, or every segment if all patients were replaced,
+     * earlier changes could not be saved, the segments hold twice as many patients as they are sized for, or the
+     * patients could not be given order keys without changing the keys of unchanged patients.
+     */
+    @Override
+    public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+            List<ClinicConnectSystemChange> changes) throws IOException {
+        requireAllNonNull(clinicConnectSystem, changes);
+        if (changes.isEmpty() && !hasLostChanges) {
+            return;
+        }
+
+        List<Patient> patients = clinicConnectSystem.getPatientList();
+        JsonSerializableSegmentManifest currentManifest = getCurrentManifest();
+        int wholeSaveSegmentCount = getSegmentCountFor(patients.size());
+        boolean isWholeSaveDue = hasLostChanges || !Files.exists(manifestPath)
+                || wholeSaveSegmentCount >= 2 * currentManifest.getSegmentCount()
+                || changes.stream().anyMatch(change -> change.getType() == ClinicConnectSystemChange.Type.RESET);
+        long[] newOrderKeys = isWholeSaveDue ? null : getOrderKeys(patients);
+        if (newOrderKeys == null) {
+            isWholeSaveDue = true;
+            newOrderKeys = getSpacedOrderKeys(patients.size());
+        }
+        int segmentCount = isWholeSaveDue ? wholeSaveSegmentCount : currentManifest.getSegmentCount();
+        Set<Integer> dirtySegments = isWholeSaveDue ? allSegments(segmentCount) : new TreeSet<>();
+        if (!isWholeSaveDue) {
+            for (ClinicConnectSystemChange change : changes) {
+                dirtySegments.add(getSegment(change.getNric(), segmentCount));
+            }
+        }
+
+        try {
+            manifest = saveSegments(patients, newOrderKeys, manifestPath, currentManifest, segmentCount,
+                    dirtySegments);
+            if (isWholeSaveDue) {
+                orderKeys = toOrderKeyMap(patients, newOrderKeys);
+            } else {
+                updateOrderKeys(patients, newOrderKeys, segmentCount, dirtySegments, changes);
+            }
+            hasLostChanges = false;
+        } catch (IOException ioe) {
+            // The changes are no longer held anywhere else, so the next save has to rewrite every segment
+            hasLostChanges = true;
+            throw ioe;
+        }
+    }
+
+    /**
+     * Does nothing, as every save leaves the segments up to date.
+     */
+    @Override
+    public CompletableFuture<Void> saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem snapshot,
+            List<ClinicConnectSystemChange> changes) {
+        return backgroundSaver.save(snapshot, changes);
+    }
+
+    @Override
+    public void flushClinicConnectSystemSaves() {
+        backgroundSaver.flush();
+    }
+
+    @Override
+    public void checkpointClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) {
+        requireNonNull(clinicConnectSystem);
+    }
+
+    /**
+     * Returns the manifest at {@code manifestPath}, reading it if it has not been read yet, or the manifest of
+     * a new segmented data folder if there is none.
+     */
+    private JsonSerializableSegmentManifest getCurrentManifest() throws IOException {
+        if (manifest != null) {
+            return manifest;
+        }
+        try {
+            Optional<JsonSerializableSegmentManifest> readManifest =
+                    JsonUtil.readJsonFile(manifestPath, JsonSerializableSegmentManifest.class);
+            if (readManifest.isPresent()) {
+                readManifest.get().validate();
+                return readManifest.get();
+            }
+        } catch (DataLoadingException | IllegalValueException e) {
+            logger.warning("Could not read manifest " + manifestPath + ", replacing it: " + e);
+        }
+        return JsonSerializableSegmentManifest.empty(minSegmentCount);
+    }
+
+    private static Set<Integer> allSegments(int segmentCount) {
+        Set<Integer> segments = new TreeSet<>();
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    /**
+     * Returns order keys for {@code patientCount} patients that are {@value #ORDER_KEY_GAP} apart.
+     */
+    private static long[] getSpacedOrderKeys(int patientCount) {
+        long[] keys = new long[patientCount];
+        for (int i = 0; i < patientCount; i++) {
+            keys[i] = i * ORDER_KEY_GAP;
+        }
+        return keys;
+    }
+
+    private static Map<Nric, Long> toOrderKeyMap(List<Patient> patients, long[] keys) {
+        Map<Nric, Long> keyMap = new HashMap<>();
+        for (int i = 0; i < patients.size(); i++) {
+            keyMap.put(patients.get(i).getNric(), keys[i]);
+        }
+        return keyMap;
+    }
+
+    /**
+     * Returns the order keys of {@code patients}, which keep the known keys of patients already saved and give
+     * each other patient a key between those of its neighbours.
+     *
+     * @return null if the keys are not known, the known keys no longer increase along the list, e.g. as a patient
+     *     was removed and added back, or there is no gap left between two neighbours for the new patients.
+     */
+    private long[] getOrderKeys(List<Patient> patients) {
+        if (orderKeys == null) {
+            return null;
+        }
+        long[] keys = new long[patients.size()];
+        int runStart = 0;
+        Long previousKey = null;
+        for (int i = 0; i <= patients.size(); i++) {
+            Long key = i < patients.size() ? orderKeys.get(patients.get(i).getNric()) : null;
+            if (i < patients.size() && key == null) {
+                continue;
+            }
+            if (key != null && previousKey != null && key <= previousKey) {
+                return null;
+            }
+
+            // Give the patients from runStart to i, which have no keys yet, keys between previousKey and key
+            int runLength = i - runStart;
+            long step = ORDER_KEY_GAP;
+            long base;
+            if (previousKey == null) {
+                base = (key == null ? 0 : key) - (runLength + 1) * ORDER_KEY_GAP;
+            } else {
+                base = previousKey;
+                if (key != null) {
+                    step = (key - previousKey) / (runLength + 1);
+                }
+            }
+            if (runLength > 0 && step == 0) {
+                return null;
+            }
+            for (int j = 0; j < runLength; j++) {
+                keys[runStart + j] = base + (j + 1) * step;
+            }
+
+            if (key != null) {
+                keys[i] = key;
+                previousKey = key;
+            }
+            runStart = i + 1;
+        }
+        return keys;
+    }
+
+    /**
+     * Updates the known order keys after the patients of {@code dirtySegments} were saved with {@code keys}.
+     */
+    private void updateOrderKeys(List<Patient> patients, long[] keys, int segmentCount, Set<Integer> dirtySegments,
+            List<ClinicConnectSystemChange> changes) {
+        for (ClinicConnectSystemChange change : changes) {
+            if (change.getType() == ClinicConnectSystemChange.Type.REMOVE_PATIENT) {
+                orderKeys.remove(change.getNric());
+            }
+        }
+        for (int i = 0; i < patients.size(); i++) {
+            Nric nric = patients.get(i).getNric();
+            if (dirtySegments.contains(getSegment(nric, segmentCount))) {
+                orderKeys.put(nric, keys[i]);
+            }
+        }
+    }
+
+    /**
+     * Writes the patients of {@code dirtySegments} in {@code patients}, split into {@code segmentCount} segments,
+     * into new segment files with their order keys in {@code keys}, then replaces the manifest at {@code manifestPath} with one listing them in
+     * place of the files of {@code baseManifest}, and finally deletes the files no longer listed.
+     * If {@code segmentCount} differs from that of {@code baseManifest}, every segment must be dirty.
+     *
+     * @return the new manifest.
+     */
+    private JsonSerializableSegmentManifest saveSegments(List<Patient> patients, long[] keys, Path manifestPath,
+            JsonSerializableSegmentManifest baseManifest, int segmentCount, Set<Integer> dirtySegments)
+            throws IOException {
+        boolean isResized = segmentCount != baseManifest.getSegmentCount();
+        assert !isResized || dirtySegments.size() == segmentCount;
+        List<List<KeyedPatient>> segmentPatients = new ArrayList<>(Collections.nCopies(segmentCount, null));
+        for (int segment : dirtySegments) {
+            segmentPatients.set(segment, new ArrayList<>());
+        }
+        for (int i = 0; i < patients.size(); i++) {
+            Patient patient = patients.get(i);
+            List<KeyedPatient> keyedPatients = segmentPatients.get(getSegment(patient.getNric(), segmentCount));
+            if (keyedPatients != null) {
+                keyedPatients.add(new KeyedPatient(patient, keys[i]));
+            }
+        }
+
+        Path folder = manifestPath.resolveSibling("");
+        long generation = baseManifest.getGeneration() + 1;
+        List<String> segmentFiles = isResized
+                ? new ArrayList<>(Collections.nCopies(segmentCount, null))
+                : new ArrayList<>(baseManifest.getSegmentFiles());
+        for (int segment : dirtySegments) {
+            List<KeyedPatient> keyedPatients = segmentPatients.get(segment);
+            String segmentFile = keyedPatients.isEmpty() ? null : getSegmentFileName(segment, generation);
+            if (segmentFile != null) {
+                FileUtil.writeToFileAtomically(folder.resolve(segmentFile), outputStream ->
+                        writeSegment(keyedPatients, outputStream));
+            }
+            segmentFiles.set(segment, segmentFile);
+        }
+
+        JsonSerializableSegmentManifest newManifest = new JsonSerializableSegmentManifest(generation, segmentFiles);
+        JsonUtil.saveJsonFile(newManifest, manifestPath);
+        logger.fine("Rewrote " + dirtySegments.size() + " of " + segmentCount + " segments of " + manifestPath);
+
+        Set<String> listedFiles = new HashSet<>(segmentFiles);
+        for (String replacedFile : baseManifest.getSegmentFiles()) {
+            if (replacedFile != null && !listedFiles.contains(replacedFile)) {
+                Files.deleteIfExists(folder.resolve(replacedFile));
+            }
+        }
+        return newManifest;
+    }
+
+    private static String getSegmentFileName(int segment, long generation) {
+        return String.format("segment-%03d-%d%s", segment, generation, BinaryClinicConnectSystemStorage.FILE_EXTENSION);
+    }
+
+    /**
+     * Writes {@value #SEGMENT_MAGIC}, the number of {@code keyedPatients} and their order keys, followed by the
+     * patients in the format of {@link BinaryClinicConnectSystemStorage}, into {@code outputStream}.
+     */
+    private static void writeSegment(List<KeyedPatient> keyedPatients, OutputStream outputStream)
+            throws IOException {
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(SEGMENT_MAGIC);
+        output.writeInt(keyedPatients.size());
+        List<Patient> patients = new ArrayList<>(keyedPatients.size());
+        for (KeyedPatient keyedPatient : keyedPatients) {
+            output.writeLong(keyedPatient.orderKey);
+            patients.add(keyedPatient.patient);
+        }
+        BinaryClinicConnectSystemStorage.writeModelType(patients, output);
+    }
+
+    /**
+     * A patient together with its order key.
+     */
+    private static class KeyedPatient {
+        private final Patient patient;
+        private final long orderKey;
+
+        KeyedPatient(Patient patient, long orderKey) {
+            this.patient = patient;
+            this.orderKey = orderKey;
+        }
+    }
+
+    /**
+     * The outcome of reading one segment, holding either its patients or the error, so that segments can be read
+     * in parallel and errors reported in segment order afterwards.
+     */
+    private static class SegmentRead {
+        private final List<KeyedPatient> patients;
+        private final boolean hasOrderKeys;
+        private final DataLoadingException dataLoadingException;
+
+        SegmentRead(Path folder, JsonSerializableSegmentManifest segmentManifest, int segment) {
+            List<KeyedPatient> readPatients = new ArrayList<>();
+            boolean readOrderKeys = true;
+            DataLoadingException readException = null;
+            String segmentFile = segmentManifest.getSegmentFile(segment);
+            Path segmentPath = segmentFile == null ? null : folder.resolve(segmentFile);
+            try {
+                if (segmentPath != null) {
+                    readOrderKeys = readSegment(segmentPath, segment, segmentManifest.getSegmentCount(),
+                            readPatients);
+                }
+            } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+                logger.warning("Error reading segment file " + segmentPath + ": " + e);
+                readException = new DataLoadingException(e);
+            }
+            this.patients = readPatients;
+            this.hasOrderKeys = readOrderKeys;
+            this.dataLoadingException = readException;
+        }
+
+        /**
+         * Reads the patients in the segment file at {@code segmentPath} into {@code patients}. A segment file
+         * written before order keys were kept holds only the patients, which are given the largest order key.
+         *
+         * @return whether the segment file holds order keys.
+         */
+        private static boolean readSegment(Path segmentPath, int segment, int segmentCount,
+                List<KeyedPatient> patients) throws IOException, IllegalValueException {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(segmentPath));
+            boolean hasOrderKeys = buffer.remaining() >= Integer.BYTES && buffer.getInt(0) == SEGMENT_MAGIC;
+            long[] keys = null;
+            if (hasOrderKeys) {
+                buffer.position(Integer.BYTES);
+                int count = buffer.getInt();
+                if (count < 0 || count > buffer.remaining() / Long.BYTES) {
+                    throw new IllegalValueException(BinaryClinicConnectSystemStorage.MESSAGE_CORRUPTED_FILE);
+                }
+                keys = new long[count];
+                for (int i = 0; i < count; i++) {
+                    keys[i] = buffer.getLong();
+                }
+            }
+
+            List<Patient> readPatients = BinaryClinicConnectSystemStorage.readModelType(buffer.slice())
+                    .getPatientList();
+            if (keys != null && keys.length != readPatients.size()) {
+                throw new IllegalValueException(BinaryClinicConnectSystemStorage.MESSAGE_CORRUPTED_FILE);
+            }
+            for (int i = 0; i < readPatients.size(); i++) {
+                Patient patient = readPatients.get(i);
+                if (getSegment(patient.getNric(), segmentCount) != segment) {
+                    throw new IllegalValueException(String.format(MESSAGE_PATIENT_IN_WRONG_SEGMENT, segment));
+                }
+                patients.add(new KeyedPatient(patient, keys == null ? Long.MAX_VALUE : keys[i]));
+            }
+            return hasOrderKeys;
+        }
+
+        List<KeyedPatient> getPatients() throws DataLoadingException {
+            if (dataLoadingException != null) {
+                throw dataLoadingException;
+            }
+            return patients;
+        }
+
+        boolean hasOrderKeys() {
+            return hasOrderKeys;
+        }
+    }
+}
@@ -2,11 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ClinicConnectSystemChange;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -76,4 +79,32 @@ public class StorageManager implements Storage {
         clinicConnectSystemStorage.saveClinicConnectSystem(clinicConnectSystem, filePath);
     }
 
+    @Override
+    public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+            List<ClinicConnectSystemChange> changes) throws IOException {
+        logger.fine("Attempting to save " + changes.size() + " change(s) to data file: "
+                + clinicConnectSystemStorage.getClinicConnectSystemFilePath());
+        clinicConnectSystemStorage.saveClinicConnectSystemChanges(clinicConnectSystem, changes);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveClinicConnectSystemAsync(ReadOnlyClinicConnectSystem snapshot,
+            List<ClinicConnectSystemChange> changes) {
+        logger.fine("Queueing " + changes.size() + " change(s) to be saved to data file: "
+                + clinicConnectSystemStorage.getClinicConnectSystemFilePath());
+        return clinicConnectSystemStorage.saveClinicConnectSystemAsync(snapshot, changes);
+    }
+
+    @Override
+    public void flushClinicConnectSystemSaves() {
+        clinicConnectSystemStorage.flushClinicConnectSystemSaves();
+    }
+
+    @Override
+    public void checkpointClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem) throws IOException {
+        logger.fine("Attempting to checkpoint data file: "
+                + clinicConnectSystemStorage.getClinicConnectSystemFilePath());
+        clinicConnectSystemStorage.checkpointClinicConnectSystem(clinicConnectSystem);
+    }
+
 }
@@ -1,8 +1,10 @@
 package seedu.address.ui;
 
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,10 +15,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandWorker;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.commandresult.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.filteredappointment.FilteredAppointment;
 import seedu.address.model.patient.Patient;
 
@@ -32,10 +33,12 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandWorker commandWorker;
 
     // Independent Ui parts residing in this Ui container
     private PatientListPanel patientListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -54,14 +57,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are run by
+     * {@code commandWorker}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandWorker commandWorker) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandWorker = commandWorker;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -113,14 +118,17 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        patientListPanel = new PatientListPanel(logic.getFilteredPatientList());
+        patientListPanel = new PatientListPanel(commandWorker.getPatientList());
         guiPanelPlaceholder.getChildren().add(patientListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getClinicConnectSystemFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getClinicConnectSystemFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        statusBarFooter.setLoading(!logic.isClinicConnectSystemLoaded());
+        logic.setClinicConnectSystemLoadedHandler(() -> Platform.runLater(() -> statusBarFooter.setLoading(false)));
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -202,7 +210,7 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     public void hidePatientInfo() {
         guiPanelPlaceholder.getChildren().remove(0);
-        patientListPanel = new PatientListPanel(logic.getFilteredPatientList());
+        patientListPanel = new PatientListPanel(commandWorker.getPatientList());
         guiPanelPlaceholder.getChildren().add(patientListPanel.getRoot());
     }
 
@@ -224,41 +232,51 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the command worker, and shows its result once it has finished.
+     * The window keeps rendering while the command runs, and the status bar shows that it is running.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandWorker#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp(commandResult.getKeyword());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        statusBarFooter.setBusy(true);
+        CompletableFuture<CommandResult> result = commandWorker.submit(commandText);
+        result.whenComplete((commandResult, error) -> {
+            statusBarFooter.setBusy(false);
+            if (error == null) {
+                showCommandResult(commandResult);
+            } else {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
             }
+        });
+        return result;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the result of a command that has finished.
+     */
+    private void showCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isShowPatientInfo()) {
-                showPatientInfo(commandResult.getPatient());
-                logger.info("Showing patient info for: " + commandResult.getPatient().getName());
-            } else {
-                hidePatientInfo();
-                logger.info("Hiding patient info panel");
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp(commandResult.getKeyword());
+        }
 
-            if (commandResult.isShowFilteredAppts()) {
-                showAppts(logic.getFilteredAppts());
-            }
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        if (commandResult.isShowPatientInfo()) {
+            showPatientInfo(commandResult.getPatient());
+            logger.info("Showing patient info for: " + commandResult.getPatient().getName());
+        } else {
+            hidePatientInfo();
+            logger.info("Hiding patient info panel");
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowFilteredAppts()) {
+            showAppts(commandWorker.getFilteredAppts());
         }
     }
 }
@@ -12,11 +12,20 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String LOADING_STATUS = "Loading patient data...";
+    public static final String BUSY_STATUS = "Running command...";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
+    private boolean isLoading;
+    private boolean isBusy;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +34,30 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that the patient data is still being loaded if {@code isLoading} is true, or clears it otherwise.
+     */
+    public void setLoading(boolean isLoading) {
+        this.isLoading = isLoading;
+        updateStatus();
+    }
+
+    /**
+     * Shows that a command is running if {@code isBusy} is true, or clears it otherwise.
+     */
+    public void setBusy(boolean isBusy) {
+        this.isBusy = isBusy;
+        updateStatus();
+    }
+
+    private void updateStatus() {
+        if (isLoading) {
+            loadingStatus.setText(LOADING_STATUS);
+        } else if (isBusy) {
+            loadingStatus.setText(BUSY_STATUS);
+        } else {
+            loadingStatus.setText("");
+        }
+    }
+
 }
@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWorker;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,13 +24,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/clinic_connect_system_32.png";
 
     private Logic logic;
+    private CommandWorker commandWorker;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose commands are run by {@code commandWorker}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandWorker commandWorker) {
         this.logic = logic;
+        this.commandWorker = commandWorker;
     }
 
     @Override
@@ -40,7 +43,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandWorker);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -0,0 +1,86 @@
+package seedu.address.ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Prepares the loading of the FXML files of the main window ahead of time, so that it can be done on another
+ * thread while the rest of the app is starting.
+ * The FXML and CSS files are read once, and the classes imported by the FXML files are loaded, so that loading
+ * them again on the JavaFX application thread finds them in the caches of the class loader and the file system.
+ * The scene graphs themselves are still built on the JavaFX application thread, as windows cannot be created
+ * on any other thread.
+ */
+public class UiPreloader {
+
+    static final List<String> FXML_FILES = List.of("MainWindow.fxml", "PatientListPanel.fxml",
+            "PatientListCard.fxml", "HelpWindow.fxml");
+
+    static final List<String> CSS_FILES = List.of("DarkTheme.css", "Extensions.css", "HelpWindow.css");
+
+    static final List<Class<?>> UI_PART_CLASSES = List.of(MainWindow.class, PatientListPanel.class,
+            PatientCard.class, HelpWindow.class);
+
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("<\\?import\\s+([\\w.]+)\\s*\\?>");
+
+    private static final Logger logger = LogsCenter.getLogger(UiPreloader.class);
+
+    /**
+     * Reads the FXML and CSS files of the main window, the patient list and the help window, and loads the classes
+     * they need. Files and classes that cannot be loaded are skipped, as they are loaded again when used.
+     *
+     * @return the number of classes loaded.
+     */
+    public static int preload() {
+        int classCount = 0;
+        for (String fxmlFile : FXML_FILES) {
+            String fxml = readResource(UiPart.FXML_FILE_FOLDER + fxmlFile);
+            Matcher matcher = IMPORT_PATTERN.matcher(fxml);
+            while (matcher.find()) {
+                classCount += loadClass(matcher.group(1)) ? 1 : 0;
+            }
+        }
+        for (String cssFile : CSS_FILES) {
+            readResource(UiPart.FXML_FILE_FOLDER + cssFile);
+        }
+        for (Class<?> uiPartClass : UI_PART_CLASSES) {
+            classCount += loadClass(uiPartClass.getName()) ? 1 : 0;
+        }
+        return classCount;
+    }
+
+    private static String readResource(String resourcePath) {
+        try (InputStream inputStream = MainApp.class.getResourceAsStream(resourcePath)) {
+            if (inputStream == null) {
+                logger.fine("UI resource " + resourcePath + " not found.");
+                return "";
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException ioe) {
+            logger.fine("Could not preload UI resource " + resourcePath + ": " + ioe);
+            return "";
+        }
+    }
+
+    /**
+     * Loads the class named {@code className} without initializing it, as JavaFX classes may only be initialized
+     * once the JavaFX toolkit is ready.
+     */
+    private static boolean loadClass(String className) {
+        try {
+            Class.forName(className, false, UiPreloader.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            logger.fine("Could not preload class " + className + ": " + e);
+            return false;
+        }
+    }
+}
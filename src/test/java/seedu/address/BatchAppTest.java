@@ -0,0 +1,125 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.BIRTHDATE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.BIRTHDATE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NRIC_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NRIC_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.SEX_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.SEX_DESC_BOB;
+import static seedu.address.testutil.TypicalPatients.AMY;
+import static seedu.address.testutil.TypicalPatients.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.VersionedModel;
+import seedu.address.storage.JsonClinicConnectSystemStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchAppTest {
+
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + SEX_DESC_AMY
+            + BIRTHDATE_DESC_AMY + PHONE_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + NRIC_DESC_BOB + SEX_DESC_BOB
+            + BIRTHDATE_DESC_BOB + PHONE_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final VersionedModel model = new ModelManager();
+    private final AtomicInteger saveCount = new AtomicInteger();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private JsonClinicConnectSystemStorage clinicConnectSystemStorage;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        clinicConnectSystemStorage = new JsonClinicConnectSystemStorage(
+                temporaryFolder.resolve("clinicConnectSystem.json")) {
+            @Override
+            public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem, Path filePath)
+                    throws IOException {
+                saveCount.incrementAndGet();
+                super.saveClinicConnectSystem(clinicConnectSystem, filePath);
+            }
+        };
+        storage = new StorageManager(clinicConnectSystemStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    private boolean runScript(int saveInterval, String... lines) throws IOException {
+        BatchApp batchApp = new BatchApp(model, storage, saveInterval,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+        return batchApp.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    private String getOutput() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void run_validScript_savedOnceAtEnd() throws Exception {
+        assertTrue(runScript(0, "# Patients of the partner clinic", ADD_AMY, "", ADD_BOB));
+
+        assertTrue(model.hasPatient(AMY));
+        assertTrue(model.hasPatient(BOB));
+        assertEquals(1, saveCount.get());
+        ReadOnlyClinicConnectSystem saved = clinicConnectSystemStorage.readClinicConnectSystem().get();
+        assertEquals(2, saved.getPatientList().size());
+        assertTrue(getOutput().contains(String.format(BatchApp.MESSAGE_SUMMARY, 2, 0)));
+    }
+
+    @Test
+    public void run_invalidLine_reportedAndRestRun() throws Exception {
+        assertFalse(runScript(0, ADD_AMY, "unknowncommand", ADD_BOB));
+
+        assertTrue(model.hasPatient(BOB));
+        assertTrue(getOutput().contains(String.format(BatchApp.MESSAGE_LINE_FAILED, 2, "")));
+        assertTrue(getOutput().contains(String.format(BatchApp.MESSAGE_SUMMARY, 3, 1)));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        assertTrue(runScript(0, ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB));
+
+        assertTrue(model.hasPatient(AMY));
+        assertFalse(model.hasPatient(BOB));
+    }
+
+    @Test
+    public void run_noChanges_notSaved() throws Exception {
+        assertTrue(runScript(1, "# Nothing to do"));
+        assertEquals(0, saveCount.get());
+    }
+
+    @Test
+    public void run_saveInterval_savedDuringScript() throws Exception {
+        assertTrue(runScript(1, ADD_AMY, ADD_BOB));
+
+        // The saves made during the script may be coalesced with the final one, but are not all deferred to it
+        assertTrue(saveCount.get() >= 1);
+        assertEquals(2, clinicConnectSystemStorage.readClinicConnectSystem().get().getPatientList().size());
+    }
+}
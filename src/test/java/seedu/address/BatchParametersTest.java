@@ -0,0 +1,72 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchParametersTest {
+
+    private final BatchParameters expected = new BatchParameters();
+
+    @Test
+    public void isBatch() {
+        assertTrue(BatchParameters.isBatch(new String[] {"--batch", "script.txt"}));
+        assertTrue(BatchParameters.isBatch(new String[] {"--config=config.json", "--batch=script.txt"}));
+        assertTrue(BatchParameters.isBatch(new String[] {"--batch"}));
+        assertFalse(BatchParameters.isBatch(new String[] {}));
+        assertFalse(BatchParameters.isBatch(new String[] {"--config=config.json"}));
+        assertFalse(BatchParameters.isBatch(new String[] {"--batches"}));
+    }
+
+    @Test
+    public void parse_scriptPathSeparateOrJoined_success() {
+        expected.setScriptPath(Paths.get("script.txt"));
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch", "script.txt"}));
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch=script.txt"}));
+    }
+
+    @Test
+    public void parse_noScriptPath_readsStandardInput() {
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch"}));
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch", "-"}));
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch", "--save-every=0"}));
+    }
+
+    @Test
+    public void parse_allParameters_success() {
+        expected.setScriptPath(Paths.get("script.txt"));
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setSaveInterval(500);
+        assertEquals(expected, BatchParameters.parse(
+                new String[] {"--batch", "script.txt", "--save-every", "500", "--config=config.json"}));
+    }
+
+    @Test
+    public void parse_invalidValues_defaultsUsed() {
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch", "--save-every=-1", "--config=a\0"}));
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch", "--save-every=often", "--unknown"}));
+    }
+
+    @Test
+    public void equals() {
+        BatchParameters batchParameters = new BatchParameters();
+
+        // same values -> returns true
+        assertTrue(batchParameters.equals(new BatchParameters()));
+
+        // same object -> returns true
+        assertTrue(batchParameters.equals(batchParameters));
+
+        // null -> returns false
+        assertFalse(batchParameters.equals(null));
+
+        // different save interval -> returns false
+        BatchParameters otherBatchParameters = new BatchParameters();
+        otherBatchParameters.setSaveInterval(1);
+        assertFalse(batchParameters.equals(otherBatchParameters));
+    }
+}
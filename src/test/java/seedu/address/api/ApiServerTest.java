@@ -0,0 +1,290 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.getTypicalPatients;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BookApptCommand;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.JsonAdaptedPatient;
+import seedu.address.storage.JsonClinicConnectSystemStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PatientBuilder;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService logicExecutor = Executors.newSingleThreadExecutor();
+    private VersionedModel model;
+    private StorageManager storage;
+    private ApiServer apiServer;
+
+    /**
+     * Starts an {@code ApiServer} over the typical patients, whose data is loaded if {@code isLoaded} is true.
+     */
+    private void startServer(boolean isLoaded, int maxConcurrentRequests) throws Exception {
+        // The typical patients are shared, so copies of them are booked instead
+        List<Patient> patients = new ArrayList<>();
+        for (Patient patient : getTypicalPatients()) {
+            patients.add(new PatientBuilder(patient).build());
+        }
+        model = new ModelManager(new ClinicConnectSystem(patients), new UserPrefs());
+        storage = new StorageManager(new JsonClinicConnectSystemStorage(temporaryFolder.resolve("data.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("prefs.json")));
+        apiServer = new ApiServer(new LogicManager(model, storage, isLoaded), logicExecutor, 0,
+                maxConcurrentRequests);
+        apiServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        logicExecutor.shutdownNow();
+    }
+
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + apiServer.getPort() + pathAndQuery);
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(pathAndQuery)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String pathAndQuery, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(pathAndQuery))
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void getPatient_existingNric_returnsPatient() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        HttpResponse<String> response = get("/api/patients/" + ALICE.getNric());
+        assertEquals(ApiHandler.STATUS_OK, response.statusCode());
+        assertEquals(JsonUtil.toJsonString(new JsonAdaptedPatient(ALICE)), response.body());
+    }
+
+    @Test
+    public void getPatient_unknownNric_notFound() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        HttpResponse<String> response = get("/api/patients/S1234567A");
+        assertEquals(ApiHandler.STATUS_NOT_FOUND, response.statusCode());
+        assertTrue(response.body().contains(String.format(PatientHandler.MESSAGE_PATIENT_NOT_FOUND, "S1234567A")));
+    }
+
+    @Test
+    public void getPatient_invalidRequest_rejected() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST, get("/api/patients/A0000000Z").statusCode());
+        assertEquals(ApiHandler.STATUS_NOT_FOUND, get("/api/patients/").statusCode());
+        assertEquals(ApiHandler.STATUS_METHOD_NOT_ALLOWED,
+                post("/api/patients/" + ALICE.getNric(), "{}").statusCode());
+    }
+
+    @Test
+    public void findAppts_dateRangeAndService_returnsMatchingAppointments() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        HttpResponse<String> response = get("/api/appointments?start=2030-01-01&end=2030-12-31");
+        assertEquals(ApiHandler.STATUS_OK, response.statusCode());
+        assertTrue(response.body().contains(DANIEL.getNric().toString()));
+        assertTrue(response.body().contains("2030-06-06 22:00"));
+
+        response = get("/api/appointments?start=2030-01-01&end=2030-12-31&service=Vaccination");
+        assertEquals(ApiHandler.STATUS_OK, response.statusCode());
+        assertEquals("[ ]", response.body());
+
+        // the appointments shown in the app are not changed
+        assertTrue(model.getFilteredAppts().isEmpty());
+    }
+
+    @Test
+    public void findAppts_limit_returnsUpcomingAppointmentsOfService() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        HttpResponse<String> response = get("/api/appointments?service=Cancer%20Screening&limit=50");
+        assertEquals(ApiHandler.STATUS_OK, response.statusCode());
+        assertTrue(response.body().contains(DANIEL.getNric().toString()));
+        assertTrue(response.body().contains("2030-06-06 22:00"));
+
+        response = get("/api/appointments?service=Cancer%20Screening&limit=50&end=2030-06-05");
+        assertEquals(ApiHandler.STATUS_OK, response.statusCode());
+        assertEquals("[ ]", response.body());
+
+        response = get("/api/appointments?limit=50");
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST, response.statusCode());
+        assertTrue(response.body().contains(AppointmentHandler.MESSAGE_MISSING_HEALTH_SERVICE));
+
+        response = get("/api/appointments?service=Cancer%20Screening&limit=0");
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST, response.statusCode());
+        assertTrue(response.body().contains(AppointmentHandler.MESSAGE_INVALID_LIMIT));
+    }
+
+    @Test
+    public void findAppts_invalidQuery_badRequest() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        HttpResponse<String> response = get("/api/appointments?start=2030-01-01");
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST, response.statusCode());
+        assertTrue(response.body().contains(AppointmentHandler.MESSAGE_MISSING_END_DATE));
+
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST,
+                get("/api/appointments?start=2030-12-31&end=2030-01-01").statusCode());
+    }
+
+    @Test
+    public void bookAppt_validRequest_bookedAndSaved() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        HttpResponse<String> response = post("/api/appointments", "{\"nric\": \"" + ALICE.getNric()
+                + "\", \"dateTime\": \"2099-01-01 10:00\", \"healthService\": \"Blood Test\"}");
+        assertEquals(ApiHandler.STATUS_CREATED, response.statusCode());
+
+        Appt bookedAppt = new PatientBuilder().withAppts("2099-01-01 10:00", "Blood Test").build()
+                .getImmutableApptList().get(0);
+        assertTrue(model.findPatient(ALICE.getNric()).get().getImmutableApptList().contains(bookedAppt));
+
+        storage.flushClinicConnectSystemSaves();
+        assertTrue(storage.readClinicConnectSystem().get().getPatientList().stream()
+                .filter(patient -> patient.isSamePatient(ALICE))
+                .anyMatch(patient -> patient.getImmutableApptList().contains(bookedAppt)));
+
+        // booking the same appointment again fails
+        response = post("/api/appointments", "{\"nric\": \"" + ALICE.getNric()
+                + "\", \"dateTime\": \"2099-01-01 10:00\", \"healthService\": \"Blood Test\"}");
+        assertEquals(ApiHandler.STATUS_UNPROCESSABLE, response.statusCode());
+        assertTrue(response.body().contains(BookApptCommand.MESSAGE_DUPLICATE_APPT));
+    }
+
+    @Test
+    public void bookAppt_invalidRequest_badRequest() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST, post("/api/appointments", "not json").statusCode());
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST, post("/api/appointments", "").statusCode());
+
+        HttpResponse<String> response = post("/api/appointments", "{\"nric\": \"" + ALICE.getNric() + "\"}");
+        assertEquals(ApiHandler.STATUS_BAD_REQUEST, response.statusCode());
+        assertTrue(response.body().contains(
+                String.format(JsonApiBookingRequest.MISSING_FIELD_MESSAGE_FORMAT, "dateTime")));
+    }
+
+    @Test
+    public void request_dataStillLoading_unavailable() throws Exception {
+        startServer(false, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        HttpResponse<String> response = get("/api/patients/" + ALICE.getNric());
+        assertEquals(ApiHandler.STATUS_UNAVAILABLE, response.statusCode());
+        assertTrue(response.body().contains(LogicManager.MESSAGE_STILL_LOADING));
+    }
+
+    @Test
+    public void getPatient_logicBusy_servedFromSnapshot() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        CountDownLatch isLogicReleased = new CountDownLatch(1);
+        logicExecutor.execute(() -> {
+            try {
+                isLogicReleased.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // reads do not wait for the command being executed
+        try {
+            assertEquals(ApiHandler.STATUS_OK, get("/api/patients/" + ALICE.getNric()).statusCode());
+            assertEquals(ApiHandler.STATUS_OK, get("/api/appointments?start=2030-01-01&end=2030-12-31").statusCode());
+        } finally {
+            isLogicReleased.countDown();
+        }
+    }
+
+    @Test
+    public void callLogic_timedOutBeforeStarting_taskCancelled() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        ApiHandler handler = new AppointmentHandler(new LogicManager(model, storage, true), logicExecutor);
+        CountDownLatch isLogicReleased = new CountDownLatch(1);
+        logicExecutor.execute(() -> {
+            try {
+                isLogicReleased.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        AtomicBoolean hasRun = new AtomicBoolean();
+        ApiException thrown = assertThrows(ApiException.class, () -> handler.callLogic(logic -> {
+            hasRun.set(true);
+            return null;
+        }, 50));
+        assertEquals(ApiHandler.STATUS_UNAVAILABLE, thrown.getStatusCode());
+        assertEquals(ApiHandler.MESSAGE_TIMED_OUT, thrown.getMessage());
+
+        isLogicReleased.countDown();
+        logicExecutor.submit(() -> { }).get();
+        assertFalse(hasRun.get());
+    }
+
+    @Test
+    public void callLogic_timedOutWhileRunning_outcomeUnknown() throws Exception {
+        startServer(true, ApiServer.DEFAULT_MAX_CONCURRENT_REQUESTS);
+        ApiHandler handler = new AppointmentHandler(new LogicManager(model, storage, true), logicExecutor);
+        CountDownLatch isTaskReleased = new CountDownLatch(1);
+
+        try {
+            ApiException thrown = assertThrows(ApiException.class, () -> handler.callLogic(logic -> {
+                try {
+                    isTaskReleased.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }, 50));
+            assertEquals(ApiHandler.STATUS_TIMED_OUT, thrown.getStatusCode());
+            assertEquals(ApiHandler.MESSAGE_OUTCOME_UNKNOWN, thrown.getMessage());
+        } finally {
+            isTaskReleased.countDown();
+        }
+    }
+
+    @Test
+    public void request_manyConcurrentRequests_allServed() throws Exception {
+        startServer(true, 2);
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(client.sendAsync(HttpRequest.newBuilder(uri("/api/patients/" + ALICE.getNric()))
+                    .GET().build(), HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(ApiHandler.STATUS_OK, response.get().statusCode());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupTimerTest {
+
+    @Test
+    public void getBreakdown_noPhaseEnded_onlyHeader() {
+        StartupTimer timer = new StartupTimer();
+        timer.startPhase("Read config");
+        assertEquals(1, timer.getBreakdown().lines().count());
+    }
+
+    @Test
+    public void getBreakdown_phasesEnded_listedInOrderOfEnding() {
+        StartupTimer timer = new StartupTimer();
+        StartupTimer.Phase first = timer.startPhase("Load data file");
+        StartupTimer.Phase second = timer.startPhase("Read config");
+        second.end();
+        first.end();
+
+        String breakdown = timer.getBreakdown();
+        assertTrue(breakdown.indexOf("Read config: ") < breakdown.indexOf("Load data file: "));
+        assertTrue(breakdown.contains(" ms (ended at "));
+    }
+
+    @Test
+    public void end_phaseEndedTwice_listedOnce() {
+        StartupTimer timer = new StartupTimer();
+        StartupTimer.Phase phase = timer.startPhase("Read config");
+        phase.end();
+        phase.end();
+
+        String breakdown = timer.getBreakdown();
+        assertEquals(2, breakdown.lines().count());
+        assertEquals(breakdown.indexOf("Read config"), breakdown.lastIndexOf("Read config"));
+    }
+}
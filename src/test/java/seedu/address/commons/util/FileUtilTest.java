@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,77 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectories_fileWritten() throws Exception {
+        Path file = testFolder.resolve("parent").resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+
+        assertEquals("content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writerThrows_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "previous content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, outputStream -> {
+            outputStream.write("partial".getBytes());
+            throw new IOException("dummy IO exception");
+        }));
+        assertEquals("previous content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTempFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomicallyWithBackup_existingFile_previousVersionKept() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomicallyWithBackup(file, outputStream -> outputStream.write("first".getBytes()));
+        assertFalse(Files.exists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeToFileAtomicallyWithBackup(file, outputStream -> outputStream.write("second".getBytes()));
+        FileUtil.writeToFileAtomicallyWithBackup(file, outputStream -> outputStream.write("third".getBytes()));
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    /**
+     * Reads a file as a string, and fails on a file with the content "corrupted".
+     */
+    private static String readUnlessCorrupted(Path file) throws DataLoadingException {
+        try {
+            String content = FileUtil.readFromFile(file);
+            if (content.equals("corrupted")) {
+                throw new DataLoadingException(new IOException("corrupted"));
+            }
+            return content;
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Test
+    public void readFileWithBackup_noFiles_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(),
+                FileUtil.readFileWithBackup(testFolder.resolve("file.txt"), FileUtilTest::readUnlessCorrupted));
+    }
+
+    @Test
+    public void readFileWithBackup_corruptedFile_readsBackup() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "previous");
+        FileUtil.writeToFileAtomicallyWithBackup(file, outputStream -> outputStream.write("corrupted".getBytes()));
+
+        assertEquals(Optional.of("previous"), FileUtil.readFileWithBackup(file, FileUtilTest::readUnlessCorrupted));
+    }
+
+    @Test
+    public void readFileWithBackup_corruptedFileWithoutBackup_throwsDataLoadingException() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "corrupted");
+
+        assertThrows(DataLoadingException.class, () ->
+                FileUtil.readFileWithBackup(file, FileUtilTest::readUnlessCorrupted));
+    }
+
 }
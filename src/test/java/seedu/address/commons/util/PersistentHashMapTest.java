@@ -0,0 +1,117 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    private final PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+
+    @Test
+    public void put_newKey_originalNotChanged() {
+        PersistentHashMap<String, Integer> map = empty.put("one", 1);
+        PersistentHashMap<String, Integer> updatedMap = map.put("two", 2);
+
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey("two"));
+        assertEquals(2, updatedMap.size());
+        assertEquals(Integer.valueOf(2), updatedMap.get("two"));
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void put_sameValue_returnsSameMap() {
+        Integer value = 1000;
+        PersistentHashMap<String, Integer> map = empty.put("one", value);
+        assertSame(map, map.put("one", value));
+    }
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> empty.put(null, 1));
+        assertThrows(NullPointerException.class, () -> empty.put("one", null));
+    }
+
+    @Test
+    public void remove_lastKey_returnsEmptyMap() {
+        assertSame(empty, empty.put("one", 1).remove("one"));
+        assertSame(empty, empty.remove("one"));
+    }
+
+    @Test
+    public void collidingKeys_keptApart() {
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.<CollidingKey, Integer>empty()
+                .put(new CollidingKey("a"), 1).put(new CollidingKey("b"), 2).put(new CollidingKey("c"), 3);
+        assertEquals(3, map.size());
+        assertEquals(Integer.valueOf(2), map.get(new CollidingKey("b")));
+
+        PersistentHashMap<CollidingKey, Integer> removed = map.remove(new CollidingKey("b"));
+        assertEquals(2, removed.size());
+        assertNull(removed.get(new CollidingKey("b")));
+        assertEquals(Integer.valueOf(3), removed.get(new CollidingKey("c")));
+        assertEquals(Integer.valueOf(2), map.get(new CollidingKey("b")));
+        assertEquals(Set.of(1, 3), removed.values().collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void randomOperations_sameAsHashMap() {
+        Random random = new Random(0);
+        Map<Integer, String> expected = new HashMap<>();
+        PersistentHashMap<Integer, String> map = PersistentHashMap.empty();
+        for (int i = 0; i < 5000; i++) {
+            // Multiples of a large power of two share their low bits, so they branch deep into the trie
+            int key = random.nextInt(500) * (random.nextBoolean() ? 1 : 1 << 20);
+            if (random.nextInt(3) > 0) {
+                expected.put(key, "v" + i);
+                map = map.put(key, "v" + i);
+            } else {
+                expected.remove(key);
+                map = map.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(new HashSet<>(expected.values()), map.values().collect(Collectors.toSet()));
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        for (int key : new HashSet<>(expected.keySet())) {
+            map = map.remove(key);
+        }
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * A key whose hash code is the same as that of every other key.
+     */
+    private static class CollidingKey {
+        private final String name;
+
+        CollidingKey(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+}
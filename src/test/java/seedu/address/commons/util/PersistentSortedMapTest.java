@@ -0,0 +1,116 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentSortedMapTest {
+
+    private final PersistentSortedMap<Integer, String> empty = PersistentSortedMap.empty();
+
+    @Test
+    public void put_newKey_originalNotChanged() {
+        PersistentSortedMap<Integer, String> map = empty.put(2, "two");
+        PersistentSortedMap<Integer, String> updatedMap = map.put(1, "one");
+
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey(1));
+        assertEquals(2, updatedMap.size());
+        assertEquals("one", updatedMap.get(1));
+        assertTrue(empty.isEmpty());
+    }
+
+    @Test
+    public void put_sameValue_returnsSameMap() {
+        String value = "one";
+        PersistentSortedMap<Integer, String> map = empty.put(1, value);
+        assertSame(map, map.put(1, value));
+    }
+
+    @Test
+    public void put_nullKeyOrValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> empty.put(null, "one"));
+        assertThrows(NullPointerException.class, () -> empty.put(1, null));
+    }
+
+    @Test
+    public void remove_absentKey_returnsSameMap() {
+        PersistentSortedMap<Integer, String> map = empty.put(1, "one");
+        assertSame(map, map.remove(2));
+    }
+
+    @Test
+    public void values_keptInKeyOrder() {
+        PersistentSortedMap<Integer, String> map = empty.put(3, "c").put(1, "a").put(2, "b");
+        assertEquals(List.of("a", "b", "c"), map.values().collect(Collectors.toList()));
+        assertEquals(List.of("b"), map.values(2, 3).collect(Collectors.toList()));
+        assertEquals(List.of("b", "c"), map.values(2, null).collect(Collectors.toList()));
+        assertEquals(List.of("a"), map.values(null, 2).collect(Collectors.toList()));
+        assertEquals("{1=a, 2=b, 3=c}", map.toString());
+    }
+
+    @Test
+    public void lowerValueAndHigherValue() {
+        PersistentSortedMap<Integer, String> map = empty.put(10, "ten").put(20, "twenty");
+        assertNull(map.lowerValue(10));
+        assertEquals("ten", map.lowerValue(15));
+        assertEquals("twenty", map.higherValue(10));
+        assertNull(map.higherValue(20));
+    }
+
+    @Test
+    public void ofSorted_unsortedKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersistentSortedMap.ofSorted(List.of(2, 1),
+                List.of("b", "a")));
+        assertThrows(IllegalArgumentException.class, () -> PersistentSortedMap.ofSorted(List.of(1),
+                List.of("a", "b")));
+    }
+
+    @Test
+    public void randomOperations_sameAsTreeMap() {
+        Random random = new Random(0);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentSortedMap<Integer, String> map = empty;
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(200);
+            if (random.nextBoolean()) {
+                expected.put(key, "v" + i);
+                map = map.put(key, "v" + i);
+            } else {
+                expected.remove(key);
+                map = map.remove(key);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        assertEquals(new ArrayList<>(expected.values()), map.values().collect(Collectors.toList()));
+        List<Integer> keys = new ArrayList<>(expected.keySet());
+        for (int key = 0; key < 200; key++) {
+            assertEquals(expected.get(key), map.get(key));
+            int index = Collections.binarySearch(keys, key);
+            assertEquals(index < 0 ? -1 : index, map.indexOf(key));
+        }
+        assertEquals(new ArrayList<>(expected.subMap(50, 150).values()),
+                map.values(50, 150).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void keyAtAndValueAt_inKeyOrder() {
+        PersistentSortedMap<Integer, String> map = empty.put(3, "c").put(1, "a").put(2, "b");
+        assertEquals(Integer.valueOf(2), map.keyAt(1));
+        assertEquals("c", map.valueAt(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.valueAt(3));
+    }
+}
@@ -0,0 +1,193 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.commandresult.CommandResult;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
+import seedu.address.model.patient.Patient;
+import seedu.address.storage.JsonClinicConnectSystemStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PatientBuilder;
+
+public class CommandWorkerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final VersionedModel model = new ModelManager(getTypicalClinicConnectSystem(), new UserPrefs());
+    private final List<Runnable> uiTasks = Collections.synchronizedList(new ArrayList<>());
+    private CommandWorker commandWorker;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonClinicConnectSystemStorage(temporaryFolder.resolve("clinicConnectSystem.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        commandWorker = new CommandWorker(new LogicManager(model, storage), Executors.newSingleThreadExecutor(),
+                uiTasks::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandWorker.shutdown();
+    }
+
+    /**
+     * Waits for the tasks submitted to the worker to finish, and then runs the tasks they gave the UI thread.
+     */
+    private void finishTasks() {
+        commandWorker.shutdown();
+        runUiTasks();
+    }
+
+    /**
+     * Waits for the tasks submitted to the worker so far to finish, without shutting it down, and then runs the
+     * tasks they gave the UI thread.
+     *
+     * @return the number of tasks given to the UI thread.
+     */
+    private int waitForTasks() {
+        CompletableFuture.runAsync(() -> {}, commandWorker).join();
+        return runUiTasks();
+    }
+
+    private int runUiTasks() {
+        List<Runnable> tasks;
+        synchronized (uiTasks) {
+            tasks = new ArrayList<>(uiTasks);
+            uiTasks.clear();
+        }
+        tasks.forEach(Runnable::run);
+        return tasks.size();
+    }
+
+    @Test
+    public void constructor_patientListCopiedToUi() {
+        finishTasks();
+        assertEquals(model.getFilteredPatientList(), commandWorker.getPatientList());
+    }
+
+    @Test
+    public void submit_validCommand_resultGivenOnUiThreadAfterPatientList() {
+        CompletableFuture<CommandResult> result = commandWorker.submit(ClearCommand.COMMAND_WORD);
+        List<Boolean> isPatientListEmptyOnResult = new ArrayList<>();
+        result.thenRun(() -> isPatientListEmptyOnResult.add(commandWorker.getPatientList().isEmpty()));
+
+        commandWorker.shutdown();
+        assertFalse(result.isDone());
+        assertTrue(model.getFilteredPatientList().isEmpty());
+
+        finishTasks();
+        assertEquals(ClearCommand.MESSAGE_SUCCESS, result.join().getFeedbackToUser());
+        assertEquals(List.of(true), isPatientListEmptyOnResult);
+    }
+
+    @Test
+    public void submit_invalidCommand_failsWithParseException() {
+        CompletableFuture<CommandResult> result = commandWorker.submit("uicfhmowqewca");
+        finishTasks();
+
+        Throwable error = result.handle((unused, e) -> e).join();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void execute_taskChangesPatientList_patientListCopiedToUi() {
+        commandWorker.execute(() -> model.deletePatient(ALICE));
+        finishTasks();
+
+        assertFalse(commandWorker.getPatientList().contains(ALICE));
+        assertEquals(model.getFilteredPatientList(), commandWorker.getPatientList());
+    }
+
+    @Test
+    public void execute_taskChangesNothing_nothingGivenToUi() {
+        waitForTasks();
+        commandWorker.execute(() -> model.getFilteredPatientList().size());
+        assertEquals(0, waitForTasks());
+    }
+
+    @Test
+    public void execute_taskEditsPatient_patientReplacedInPlace() {
+        waitForTasks();
+        List<Patient> patientsBefore = List.copyOf(commandWorker.getPatientList());
+        Patient editedBenson = new PatientBuilder(BENSON).withName("Benson Edited").build();
+        commandWorker.execute(() -> model.setPatient(BENSON, editedBenson));
+        waitForTasks();
+
+        List<Patient> patientsAfter = commandWorker.getPatientList();
+        assertEquals(model.getFilteredPatientList(), patientsAfter);
+        int editedIndex = patientsBefore.indexOf(BENSON);
+        assertTrue(patientsAfter.get(editedIndex) == editedBenson);
+        for (int i = 0; i < patientsAfter.size(); i++) {
+            if (i != editedIndex) {
+                assertTrue(patientsAfter.get(i) == patientsBefore.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void execute_taskChangesFilter_filteredPatientsCopiedToUi() {
+        waitForTasks();
+        commandWorker.execute(() -> model.updateFilteredPatientList(patient -> patient.equals(ALICE)));
+        waitForTasks();
+        assertEquals(List.of(ALICE), commandWorker.getPatientList());
+
+        commandWorker.execute(() -> model.updateFilteredPatientList(Model.PREDICATE_SHOW_ALL_PATIENTS));
+        waitForTasks();
+        assertEquals(model.getFilteredPatientList(), commandWorker.getPatientList());
+    }
+
+    @Test
+    public void execute_taskFails_laterTasksStillRun() {
+        List<String> ranTasks = Collections.synchronizedList(new ArrayList<>());
+        commandWorker.execute(() -> {
+            throw new IllegalStateException();
+        });
+        commandWorker.execute(() -> ranTasks.add("second"));
+        finishTasks();
+
+        assertEquals(List.of("second"), ranTasks);
+    }
+
+    @Test
+    public void execute_afterShutdown_throwsRejectedExecutionException() {
+        commandWorker.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> commandWorker.execute(() -> {}));
+    }
+
+    @Test
+    public void shutdown_tasksFinished_returnsTrueAfterRunningThem() {
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        commandWorker.execute(() -> ran.add("task"));
+        assertTrue(commandWorker.shutdown());
+        assertEquals(List.of("task"), ran);
+    }
+}
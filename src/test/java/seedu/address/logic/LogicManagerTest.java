@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.BIRTHDATE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
@@ -14,13 +16,20 @@ import static seedu.address.testutil.TypicalPatients.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.HomeCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.commandresult.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -28,6 +37,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
 import seedu.address.model.patient.Patient;
 import seedu.address.storage.JsonClinicConnectSystemStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -42,7 +52,8 @@ public class LogicManagerTest {
     @TempDir
     public Path temporaryFolder;
 
-    private Model model = new ModelManager();
+    private VersionedModel model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -50,7 +61,7 @@ public class LogicManagerTest {
         JsonClinicConnectSystemStorage clinicConnectSystemStorage =
                 new JsonClinicConnectSystemStorage(temporaryFolder.resolve("clinicConnectSystem.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(clinicConnectSystemStorage, userPrefsStorage);
+        storage = new StorageManager(clinicConnectSystemStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -69,17 +80,104 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() throws Exception {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        useStorageThrowing(DUMMY_IO_EXCEPTION);
+        assertCommandSuccess(HomeCommand.COMMAND_WORD, successMessageCreator(model), model);
+    }
+
+    @Test
+    public void execute_dataStillLoading_throwsCommandException() {
+        logic = new LogicManager(model, storage, false);
+        assertCommandFailure(HomeCommand.COMMAND_WORD, CommandException.class, LogicManager.MESSAGE_STILL_LOADING);
+    }
+
+    @Test
+    public void setLoadedClinicConnectSystem_dataStillLoading_publishesDataWithoutSaving() throws Exception {
+        useStorageThrowing(DUMMY_IO_EXCEPTION);
+        logic = new LogicManager(model, storage, false);
+        AtomicReference<String> reportedMessage = new AtomicReference<>();
+        logic.setSaveFailureHandler(reportedMessage::set);
+        AtomicBoolean isLoadedHandlerRun = new AtomicBoolean();
+        logic.setClinicConnectSystemLoadedHandler(() -> isLoadedHandlerRun.set(true));
+
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPatient(new PatientBuilder(AMY).build());
+        logic.setLoadedClinicConnectSystem(expectedModel.getClinicConnectSystem());
+        assertTrue(logic.isClinicConnectSystemLoaded());
+        assertTrue(isLoadedHandlerRun.get());
+        assertEquals(expectedModel.getClinicConnectSystem(), model.getClinicConnectSystem());
+
+        // The loaded data is already in the data file, so a command that changes nothing does not save it again
+        logic.execute(HomeCommand.COMMAND_WORD);
+        storage.flushClinicConnectSystemSaves();
+        assertNull(reportedMessage.get());
+    }
+
+    @Test
+    public void execute_undoAfterBatch_undoesWholeBatch() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY
+                + SEX_DESC_AMY + BIRTHDATE_DESC_AMY + PHONE_DESC_AMY;
+        logic.execute(addCommand);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPatient(new PatientBuilder(AMY).build());
+
+        logic.execute(ClearCommand.COMMAND_WORD + " " + BatchCommand.COMMAND_SEPARATOR + " " + addCommand
+                + " " + BatchCommand.COMMAND_SEPARATOR + " " + ClearCommand.COMMAND_WORD);
+        assertEquals(0, model.getClinicConnectSystem().getPatientList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(expectedModel, model);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(new ModelManager(), model);
+        assertCommandFailure(UndoCommand.COMMAND_WORD, CommandException.class, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_batchWithUndo_historyUnchanged() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY
+                + SEX_DESC_AMY + BIRTHDATE_DESC_AMY + PHONE_DESC_AMY;
+        logic.execute(addCommand);
+
+        assertThrows(ParseException.class, () -> logic.execute(BatchCommand.COMMAND_WORD + " "
+                + UndoCommand.COMMAND_WORD + " " + BatchCommand.COMMAND_SEPARATOR + " delete S9999999Z"));
+        assertCommandFailure(RedoCommand.COMMAND_WORD, CommandException.class, RedoCommand.MESSAGE_FAILURE);
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void flushChanges_lastSaveFailed_savesWholeAddressBook() throws Exception {
+        useStorageThrowing(DUMMY_IO_EXCEPTION, 1);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + SEX_DESC_AMY + BIRTHDATE_DESC_AMY
+                + PHONE_DESC_AMY);
+
+        logic.flushChanges();
+        assertEquals(model.getClinicConnectSystem().getPatientList(),
+                storage.readClinicConnectSystem().get().getPatientList());
+    }
+
+    @Test
+    public void flushChanges_saveKeepsFailing_throwsIoException() throws Exception {
+        useStorageThrowing(DUMMY_IO_EXCEPTION);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY + SEX_DESC_AMY + BIRTHDATE_DESC_AMY
+                + PHONE_DESC_AMY);
+
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::flushChanges);
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPatientList().remove(0));
@@ -132,11 +230,42 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command succeeds, as the data is saved after it returns, and the save failure is reported afterwards.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be given to the save failure handler of the Logic component
+     */
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) throws Exception {
+        useStorageThrowing(e);
+        AtomicReference<String> reportedMessage = new AtomicReference<>();
+        logic.setSaveFailureHandler(reportedMessage::set);
+
+        // Triggers the saveClinicConnectSystem method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY
+                + SEX_DESC_AMY + BIRTHDATE_DESC_AMY + PHONE_DESC_AMY;
+        Patient expectedPatient = new PatientBuilder(AMY).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPatient(expectedPatient);
+        logic.execute(addCommand);
+        assertEquals(expectedModel, model);
+
+        storage.flushClinicConnectSystemSaves();
+        assertEquals(expectedMessage, reportedMessage.get());
+    }
+
+    /**
+     * Replaces {@code logic} with one whose storage throws the IOException {@code e} when saving.
+     */
+    private void useStorageThrowing(IOException e) {
+        useStorageThrowing(e, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Replaces {@code logic} with one whose storage throws the IOException {@code e} the first {@code failureCount}
+     * times it saves, and saves normally after that.
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void useStorageThrowing(IOException e, int failureCount) {
+        AtomicInteger remainingFailures = new AtomicInteger(failureCount);
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an ClinicConnectSystemStorage that throws the IOException e when saving
@@ -144,22 +273,17 @@ public class LogicManagerTest {
             @Override
             public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem clinicConnectSystem, Path filePath)
                     throws IOException {
-                throw e;
+                if (remainingFailures.getAndDecrement() > 0) {
+                    throw e;
+                }
+                super.saveClinicConnectSystem(clinicConnectSystem, filePath);
             }
         };
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(clinicConnectSystemStorage, userPrefsStorage);
+        storage = new StorageManager(clinicConnectSystemStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
-
-        // Triggers the saveClinicConnectSystem method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NRIC_DESC_AMY
-                + SEX_DESC_AMY + BIRTHDATE_DESC_AMY + PHONE_DESC_AMY;
-        Patient expectedPatient = new PatientBuilder(AMY).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPatient(expectedPatient);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 }
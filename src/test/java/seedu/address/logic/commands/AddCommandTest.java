@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPatients.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Optional;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 
@@ -26,6 +27,8 @@ import seedu.address.model.ReadOnlyClinicConnectSystem;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
 import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
 import seedu.address.testutil.PatientBuilder;
 
@@ -142,6 +145,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Patient> findPatient(Nric nric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInFilteredPatientList(Patient patient) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePatient(Patient target) {
             throw new AssertionError("This method should not be called.");
@@ -152,6 +165,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Patient addAppt(Patient patient, Appt appt) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Patient deleteAppt(Patient patient, Appt appt) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Patient> getFilteredPatientList() {
             throw new AssertionError("This method should not be called.");
@@ -162,6 +185,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<? super Patient> getFilteredPatientListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void filterAppts(AppointmentDateFilter dateFilter) {
             throw new AssertionError("This method should not be called.");
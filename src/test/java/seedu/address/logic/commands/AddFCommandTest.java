@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.TreeSet;
 import java.util.function.Predicate;
 
@@ -22,6 +23,8 @@ import seedu.address.model.ReadOnlyClinicConnectSystem;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
 import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
 import seedu.address.testutil.PatientBuilder;
 
@@ -125,6 +128,16 @@ public class AddFCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Patient> findPatient(Nric nric) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInFilteredPatientList(Patient patient) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePatient(Patient target) {
             throw new AssertionError("This method should not be called.");
@@ -140,6 +153,16 @@ public class AddFCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Patient addAppt(Patient patient, Appt appt) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Patient deleteAppt(Patient patient, Appt appt) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Patient> getFilteredPatientList() {
             throw new AssertionError("This method should not be called.");
@@ -150,6 +173,11 @@ public class AddFCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<? super Patient> getFilteredPatientListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void filterAppts(AppointmentDateFilter dateFilter) {
             throw new AssertionError("This method should not be called.");
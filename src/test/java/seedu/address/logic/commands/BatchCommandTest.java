@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.KEANU;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
+import seedu.address.model.patient.Nric;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code BatchCommand}.
+ */
+public class BatchCommandTest {
+    private VersionedModel model;
+    private Nric unregisteredNric;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalClinicConnectSystem(), new UserPrefs());
+        model.takeClinicConnectSystemChanges();
+        unregisteredNric = new Nric("S1234567A");
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_success() {
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(KEANU.getNric()),
+                new DeleteCommand(ALICE.getNric())));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PATIENT_SUCCESS, Messages.format(KEANU))
+                + "\n" + String.format(DeleteCommand.MESSAGE_DELETE_PATIENT_SUCCESS, Messages.format(ALICE));
+
+        ModelManager expectedModel = new ModelManager(model.getClinicConnectSystem(), new UserPrefs());
+        expectedModel.deletePatient(KEANU);
+        expectedModel.deletePatient(ALICE);
+
+        assertCommandSuccess(batchCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_commandFails_rollsBackEarlierCommands() {
+        long originalVersion = model.getClinicConnectSystemVersion();
+        BatchCommand batchCommand = new BatchCommand(List.of(new DeleteCommand(KEANU.getNric()),
+                new DeleteCommand(unregisteredNric), new DeleteCommand(ALICE.getNric())));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                String.format(Messages.MESSAGE_INVALID_PATIENT_NRIC, unregisteredNric)));
+        assertTrue(model.hasPatient(KEANU));
+
+        // nothing is left to be saved
+        assertEquals(originalVersion, model.getClinicConnectSystemVersion());
+        assertEquals(List.of(), model.takeClinicConnectSystemChanges());
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand firstBatchCommand = new BatchCommand(List.of(new DeleteCommand(KEANU.getNric())));
+        BatchCommand secondBatchCommand = new BatchCommand(List.of(new DeleteCommand(KEANU.getNric()),
+                new DeleteCommand(ALICE.getNric())));
+
+        // same object -> returns true
+        assertTrue(firstBatchCommand.equals(firstBatchCommand));
+
+        // same values -> returns true
+        assertTrue(firstBatchCommand.equals(new BatchCommand(List.of(new DeleteCommand(KEANU.getNric())))));
+
+        // different types -> returns false
+        assertFalse(firstBatchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstBatchCommand.equals(null));
+
+        // different commands -> returns false
+        assertFalse(firstBatchCommand.equals(secondBatchCommand));
+    }
+}
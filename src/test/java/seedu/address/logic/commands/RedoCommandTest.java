@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.UndoCommandTest.deleteFirstPatient;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
+
+public class RedoCommandTest {
+
+    private final VersionedModel model = new ModelManager(getTypicalClinicConnectSystem(), new UserPrefs());
+    private final VersionedModel expectedModel = new ModelManager(getTypicalClinicConnectSystem(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of both models' undo/redo history
+        deleteFirstPatient(model);
+        deleteFirstPatient(model);
+        model.undoClinicConnectSystem();
+        model.undoClinicConnectSystem();
+
+        deleteFirstPatient(expectedModel);
+        deleteFirstPatient(expectedModel);
+        expectedModel.undoClinicConnectSystem();
+        expectedModel.undoClinicConnectSystem();
+    }
+
+    @Test
+    public void execute() {
+        // multiple redoable states in model
+        expectedModel.redoClinicConnectSystem();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single redoable state in model
+        expectedModel.redoClinicConnectSystem();
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no redoable state in model
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
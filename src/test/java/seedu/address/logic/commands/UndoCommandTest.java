@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedModel;
+import seedu.address.model.patient.Patient;
+
+public class UndoCommandTest {
+
+    private final VersionedModel model = new ModelManager(getTypicalClinicConnectSystem(), new UserPrefs());
+    private final VersionedModel expectedModel = new ModelManager(getTypicalClinicConnectSystem(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of undo history
+        deleteFirstPatient(model);
+        deleteFirstPatient(model);
+        deleteFirstPatient(expectedModel);
+        deleteFirstPatient(expectedModel);
+    }
+
+    /**
+     * Deletes the first patient in the address book of {@code model}, and commits the change.
+     */
+    static void deleteFirstPatient(VersionedModel model) {
+        Patient firstPatient = model.getClinicConnectSystem().getPatientList().get(0);
+        model.deletePatient(firstPatient);
+        model.commitClinicConnectSystem();
+    }
+
+    @Test
+    public void execute() {
+        // multiple undoable states in model
+        expectedModel.undoClinicConnectSystem();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model
+        expectedModel.undoClinicConnectSystem();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
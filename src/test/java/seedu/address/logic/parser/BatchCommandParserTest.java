@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.model.patient.Nric;
+
+public class BatchCommandParserTest {
+
+    private BatchCommandParser parser = new BatchCommandParser(new ClinicConnectSystemParser());
+
+    @Test
+    public void parse_validArgs_returnsBatchCommand() {
+        assertParseSuccess(parser, " delete S1234567A ;;delete S1234567B", new BatchCommand(List.of(
+                new DeleteCommand(new Nric("S1234567A")), new DeleteCommand(new Nric("S1234567B")))));
+        assertParseSuccess(parser, "delete S1234567A",
+                new BatchCommand(List.of(new DeleteCommand(new Nric("S1234567A")))));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_emptyCommand_throwsParseException() {
+        assertParseFailure(parser, "delete S1234567A ;; ;; delete S1234567B",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE)));
+    }
+
+    @Test
+    public void parse_invalidCommand_throwsParseException() {
+        assertParseFailure(parser, "delete S1234567A ;; unknownCommand",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 2, MESSAGE_UNKNOWN_COMMAND));
+        assertParseFailure(parser, "delete A0000000Z ;; delete S1234567A",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 1,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE)));
+    }
+
+    @Test
+    public void parse_nestedBatch_throwsParseException() {
+        assertParseFailure(parser, "delete S1234567A ;; batch delete S1234567B",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                        BatchCommandParser.MESSAGE_NESTED_BATCH));
+    }
+
+    @Test
+    public void parse_exitOrHelp_throwsParseException() {
+        assertParseFailure(parser, "exit ;; delete S1234567A",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 1,
+                        String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_IN_BATCH, ExitCommand.COMMAND_WORD)));
+        assertParseFailure(parser, "delete S1234567A ;; HELP",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                        String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_IN_BATCH, HelpCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void parse_undoOrRedo_throwsParseException() {
+        assertParseFailure(parser, "undo ;; delete S1234567A",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 1,
+                        String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_IN_BATCH, UndoCommand.COMMAND_WORD)));
+        assertParseFailure(parser, "delete S1234567A ;; redo",
+                String.format(BatchCommandParser.MESSAGE_INVALID_BATCH_COMMAND, 2,
+                        String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_IN_BATCH, RedoCommand.COMMAND_WORD)));
+    }
+}
@@ -4,11 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -16,6 +20,8 @@ import seedu.address.logic.commands.EditCommand.EditPatientDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HomeCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.patient.Nric;
 import seedu.address.model.patient.Patient;
@@ -40,6 +46,23 @@ public class ClinicConnectSystemParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_batch() throws Exception {
+        BatchCommand expectedCommand = new BatchCommand(List.of(new DeleteCommand(new Nric("S1234567A")),
+                new DeleteCommand(new Nric("S1234567B"))));
+        assertEquals(expectedCommand, parser.parseCommand(
+                BatchCommand.COMMAND_WORD + " delete S1234567A ;; delete S1234567B"));
+        assertEquals(expectedCommand, parser.parseCommand("delete S1234567A;;delete S1234567B"));
+    }
+
+    @Test
+    public void parseCommand_separatorInFieldValue_notBatch() throws Exception {
+        Nric targetNric = new Nric("T0123456A");
+        EditPatientDescriptor descriptor = new EditPatientDescriptorBuilder().withAddress("Blk 1 ;; Unit 2").build();
+        assertEquals(new EditCommand(targetNric, descriptor), parser.parseCommand(
+                EditCommand.COMMAND_WORD + " " + targetNric + " " + PREFIX_ADDRESS + "Blk 1 ;; Unit 2"));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         Patient patientToDelete = new PatientBuilder().build();
@@ -66,6 +89,18 @@ public class ClinicConnectSystemParserTest {
         assertEquals(new EditCommand(targetNric, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undoCommandWord_returnsUndoCommand() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand("undo 1") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redoCommandWord_returnsRedoCommand() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand("redo 1") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -0,0 +1,165 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_BIRTHDATE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.CARL;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class ClinicConnectSystemHistoryTest {
+
+    private static final Appt APPT = new Appt(LocalDateTime.of(2099, 1, 1, 10, 0), new HealthService("Blood Test"));
+    private static final AppointmentDateFilter ALL_DATES = new AppointmentDateFilter(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2200, 1, 1), null);
+
+    private final ClinicConnectSystem clinicConnectSystem = new ClinicConnectSystem(List.of(ALICE, BENSON, CARL));
+    private final ClinicConnectSystemHistory history = new ClinicConnectSystemHistory();
+    private final long initialApptCount = clinicConnectSystem.filterAppts(ALL_DATES).count();
+
+    private void commit() {
+        history.commit(clinicConnectSystem.takeInverseChanges());
+    }
+
+    @Test
+    public void undoRedo_deletePatient_restoresPosition() {
+        clinicConnectSystem.removePatient(BENSON);
+        commit();
+
+        history.undo(clinicConnectSystem);
+        assertEquals(List.of(ALICE, BENSON, CARL), clinicConnectSystem.getPatientList());
+        assertFalse(history.canUndo());
+
+        history.redo(clinicConnectSystem);
+        assertEquals(List.of(ALICE, CARL), clinicConnectSystem.getPatientList());
+        assertTrue(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undoRedo_editPatientNric_restoresPatient() {
+        Patient editedBenson = new PatientBuilder(BENSON).withNric(VALID_NRIC_BOB).withBirthdate(VALID_BIRTHDATE_BOB)
+                .build();
+        clinicConnectSystem.setPatient(BENSON, editedBenson);
+        commit();
+
+        history.undo(clinicConnectSystem);
+        assertEquals(List.of(ALICE, BENSON, CARL), clinicConnectSystem.getPatientList());
+        assertEquals(BENSON.getBirthdate(), clinicConnectSystem.findPatient(BENSON.getNric()).get().getBirthdate());
+
+        history.redo(clinicConnectSystem);
+        assertEquals(List.of(ALICE, editedBenson, CARL), clinicConnectSystem.getPatientList());
+    }
+
+    @Test
+    public void undo_severalChangesInOneStep_allUndone() {
+        clinicConnectSystem.addPatient(BOB);
+        clinicConnectSystem.addAppt(BOB, APPT);
+        clinicConnectSystem.removePatient(ALICE);
+        commit();
+
+        history.undo(clinicConnectSystem);
+        assertEquals(List.of(ALICE, BENSON, CARL), clinicConnectSystem.getPatientList());
+        assertEquals(initialApptCount, clinicConnectSystem.filterAppts(ALL_DATES).count());
+
+        history.redo(clinicConnectSystem);
+        assertEquals(List.of(BENSON, CARL, BOB), clinicConnectSystem.getPatientList());
+        assertTrue(clinicConnectSystem.findPatient(BOB.getNric()).get().getImmutableApptList().contains(APPT));
+    }
+
+    @Test
+    public void undo_stepsUndoneInReverseOrder() {
+        clinicConnectSystem.addAppt(ALICE, APPT);
+        commit();
+        clinicConnectSystem.deleteAppt(ALICE, APPT);
+        commit();
+
+        history.undo(clinicConnectSystem);
+        assertTrue(clinicConnectSystem.findPatient(ALICE.getNric()).get().getImmutableApptList().contains(APPT));
+        history.undo(clinicConnectSystem);
+        assertEquals(ALICE.getImmutableApptList(),
+                clinicConnectSystem.findPatient(ALICE.getNric()).get().getImmutableApptList());
+        assertThrows(IllegalStateException.class, () -> history.undo(clinicConnectSystem));
+    }
+
+    @Test
+    public void undo_clear_restoresAllPatients() {
+        clinicConnectSystem.addAppt(ALICE, APPT);
+        commit();
+        clinicConnectSystem.resetData(new ClinicConnectSystem());
+        commit();
+
+        history.undo(clinicConnectSystem);
+        assertEquals(List.of(ALICE, BENSON, CARL), clinicConnectSystem.getPatientList());
+        assertEquals(initialApptCount + 1, clinicConnectSystem.filterAppts(ALL_DATES).count());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedo() {
+        clinicConnectSystem.removePatient(ALICE);
+        commit();
+        history.undo(clinicConnectSystem);
+        assertTrue(history.canRedo());
+
+        clinicConnectSystem.removePatient(CARL);
+        commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        commit();
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void commit_overMaxBytes_oldestStepsDiscarded() {
+        ClinicConnectSystemHistory smallHistory = new ClinicConnectSystemHistory(2 * InverseChange.CHANGE_BYTES);
+        for (Patient patient : List.of(ALICE, BENSON, CARL)) {
+            clinicConnectSystem.addAppt(patient, APPT);
+            smallHistory.commit(clinicConnectSystem.takeInverseChanges());
+        }
+        assertEquals(2 * InverseChange.CHANGE_BYTES, smallHistory.getBytes());
+
+        smallHistory.undo(clinicConnectSystem);
+        smallHistory.undo(clinicConnectSystem);
+        assertFalse(smallHistory.canUndo());
+        assertTrue(clinicConnectSystem.findPatient(ALICE.getNric()).get().getImmutableApptList().contains(APPT));
+        assertFalse(clinicConnectSystem.findPatient(CARL.getNric()).get().getImmutableApptList().contains(APPT));
+
+        // a step that does not fit on its own cannot be undone
+        clinicConnectSystem.removePatient(ALICE);
+        smallHistory.commit(clinicConnectSystem.takeInverseChanges());
+        assertFalse(smallHistory.canUndo());
+        assertEquals(0, smallHistory.getBytes());
+    }
+
+    @Test
+    public void rollBackTo_changesSinceSavepointNotUndone() {
+        clinicConnectSystem.removePatient(ALICE);
+        ClinicConnectSystem.Savepoint savepoint = clinicConnectSystem.createSavepoint();
+        clinicConnectSystem.removePatient(BENSON);
+        clinicConnectSystem.rollBackTo(savepoint);
+        commit();
+
+        history.undo(clinicConnectSystem);
+        assertEquals(List.of(ALICE, BENSON, CARL), clinicConnectSystem.getPatientList());
+        assertFalse(history.canUndo());
+    }
+}
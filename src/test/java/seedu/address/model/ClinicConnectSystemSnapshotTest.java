@@ -0,0 +1,185 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class ClinicConnectSystemSnapshotTest {
+
+    private static final HealthService BLOOD_TEST = new HealthService("Blood Test");
+    private static final HealthService CONSULT = new HealthService("Consult");
+    private static final LocalDateTime FIRST_DATE_TIME = LocalDateTime.of(2099, 1, 1, 10, 0);
+    private static final AppointmentDateFilter ALL_DATES = new AppointmentDateFilter(LocalDate.of(2000, 1, 1),
+            LocalDate.of(2200, 1, 1), null);
+
+    private static Appt bloodTest(int round) {
+        return new Appt(FIRST_DATE_TIME.plusHours(round), BLOOD_TEST);
+    }
+
+    private static Appt consult(int round) {
+        return new Appt(FIRST_DATE_TIME.plusHours(round).plusMinutes(30), CONSULT);
+    }
+
+    @Test
+    public void snapshot_laterChanges_notSeen() {
+        ClinicConnectSystem clinicConnectSystem = new ClinicConnectSystem();
+        Patient patient = new PatientBuilder().build();
+        clinicConnectSystem.addPatient(patient);
+        ClinicConnectSystemSnapshot snapshot = clinicConnectSystem.snapshot();
+
+        clinicConnectSystem.addAppt(patient, bloodTest(0));
+        clinicConnectSystem.addPatient(new PatientBuilder().withNric("S9876543B").build());
+
+        assertEquals(1, snapshot.getPatientList().size());
+        assertTrue(snapshot.findPatient(patient.getNric()).get().getImmutableApptList().isEmpty());
+        assertTrue(snapshot.filterAppts(ALL_DATES).isEmpty());
+        assertTrue(snapshot.getVersion() < clinicConnectSystem.getVersion());
+        assertEquals(2, clinicConnectSystem.snapshot().getPatientList().size());
+        assertEquals(1, clinicConnectSystem.snapshot().filterAppts(ALL_DATES).size());
+    }
+
+    @Test
+    public void resetData_fromSnapshot_sharesData() {
+        Patient patient = new PatientBuilder().build();
+        ClinicConnectSystem clinicConnectSystem = new ClinicConnectSystem(List.of(patient));
+        clinicConnectSystem.addAppt(patient, bloodTest(0));
+        ClinicConnectSystemSnapshot snapshot = clinicConnectSystem.snapshot();
+
+        ClinicConnectSystem copy = new ClinicConnectSystem(snapshot);
+        assertEquals(clinicConnectSystem, copy);
+        assertSame(snapshot.findPatient(patient.getNric()).get(), copy.findPatient(patient.getNric()).get());
+        assertEquals(1, copy.filterAppts(ALL_DATES).count());
+
+        // changing the copy changes neither the snapshot nor the original
+        copy.deleteAppt(patient, bloodTest(0));
+        assertEquals(1, snapshot.filterAppts(ALL_DATES).size());
+        assertEquals(1, clinicConnectSystem.filterAppts(ALL_DATES).count());
+    }
+
+    @Test
+    public void findPatient() {
+        Patient patient = new PatientBuilder().build();
+        ClinicConnectSystemSnapshot snapshot = new ClinicConnectSystem(List.of(patient)).snapshot();
+        // patients are immutable, so the snapshot shares them with the address book
+        assertSame(patient, snapshot.findPatient(patient.getNric()).get());
+        assertFalse(snapshot.findPatient(new PatientBuilder().withNric("S9876543B").build().getNric()).isPresent());
+        assertThrows(NullPointerException.class, () -> snapshot.findPatient(null));
+    }
+
+    @Test
+    public void filterAppts_sortedByDateTime() {
+        Patient patient = new PatientBuilder().build();
+        ClinicConnectSystem clinicConnectSystem = new ClinicConnectSystem(List.of(patient));
+        clinicConnectSystem.addAppt(patient, consult(2));
+        clinicConnectSystem.addAppt(patient, bloodTest(1));
+        ClinicConnectSystemSnapshot snapshot = clinicConnectSystem.snapshot();
+
+        List<FilteredAppointment> appointments = snapshot.filterAppts(ALL_DATES);
+        assertEquals(List.of(bloodTest(1), consult(2)),
+                List.of(appointments.get(0).getAppt(), appointments.get(1).getAppt()));
+        assertEquals(List.of(consult(2)), List.of(snapshot.filterAppts(new AppointmentDateFilter(
+                LocalDate.of(2000, 1, 1), LocalDate.of(2200, 1, 1), CONSULT)).get(0).getAppt()));
+    }
+
+    @Test
+    public void getPatientList_modify_throwsUnsupportedOperationException() {
+        ClinicConnectSystemSnapshot snapshot = new ClinicConnectSystem().snapshot();
+        assertThrows(UnsupportedOperationException.class, () ->
+                snapshot.getPatientList().add(new PatientBuilder().build()));
+    }
+
+    @Test
+    public void publishClinicConnectSystemSnapshot_onlyWhenChanged() {
+        Patient patient = new PatientBuilder().build();
+        ModelManager modelManager = new ModelManager(new ClinicConnectSystem(List.of(patient)), new UserPrefs());
+        ClinicConnectSystemSnapshot published = modelManager.getClinicConnectSystemSnapshot();
+
+        // unchanged address book, same snapshot
+        assertSame(published, modelManager.publishClinicConnectSystemSnapshot());
+
+        // changes are not seen until they are published
+        modelManager.addAppt(modelManager.findPatient(patient.getNric()).get(), bloodTest(0));
+        assertSame(published, modelManager.getClinicConnectSystemSnapshot());
+        ClinicConnectSystemSnapshot republished = modelManager.publishClinicConnectSystemSnapshot();
+        assertSame(republished, modelManager.getClinicConnectSystemSnapshot());
+        assertEquals(1, republished.findPatient(patient.getNric()).get().getImmutableApptList().size());
+    }
+
+    @Test
+    public void getClinicConnectSystemSnapshot_concurrentWriter_readersSeeOnlyPublishedStates() throws Exception {
+        Patient patient = new PatientBuilder().build();
+        ModelManager modelManager = new ModelManager(new ClinicConnectSystem(List.of(patient)), new UserPrefs());
+        Patient modelPatient = modelManager.findPatient(patient.getNric()).get();
+        modelManager.addAppt(modelPatient, bloodTest(0));
+        modelManager.addAppt(modelPatient, consult(0));
+        modelManager.publishClinicConnectSystemSnapshot();
+
+        int readerCount = 4;
+        int rounds = 300;
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(readerCount);
+        List<Future<Integer>> readCounts = new ArrayList<>();
+        for (int i = 0; i < readerCount; i++) {
+            readCounts.add(readers.submit(() -> {
+                long lastVersion = Long.MIN_VALUE;
+                int readCount = 0;
+                do {
+                    ClinicConnectSystemSnapshot snapshot = modelManager.getClinicConnectSystemSnapshot();
+                    assertTrue(snapshot.getVersion() >= lastVersion);
+                    lastVersion = snapshot.getVersion();
+
+                    // Every command replaces both appointments, so a snapshot never has one without the other
+                    List<Appt> appts = snapshot.findPatient(patient.getNric()).get().getImmutableApptList();
+                    assertEquals(2, appts.size());
+                    assertEquals(appts.get(0).getDateTime().plusMinutes(30), appts.get(1).getDateTime());
+                    assertEquals(2, snapshot.filterAppts(ALL_DATES).size());
+                    readCount++;
+                } while (isWriting.get());
+                return readCount;
+            }));
+        }
+
+        try {
+            for (int round = 1; round <= rounds; round++) {
+                modelManager.deleteAppt(modelPatient, bloodTest(round - 1));
+                modelManager.deleteAppt(modelPatient, consult(round - 1));
+                modelManager.addAppt(modelPatient, bloodTest(round));
+                modelManager.addAppt(modelPatient, consult(round));
+                modelManager.publishClinicConnectSystemSnapshot();
+            }
+            isWriting.set(false);
+            for (Future<Integer> readCount : readCounts) {
+                assertTrue(readCount.get(30, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            isWriting.set(false);
+            readers.shutdownNow();
+        }
+
+        assertEquals(Set.of(bloodTest(rounds), consult(rounds)), modelManager.getClinicConnectSystemSnapshot()
+                .filterAppts(ALL_DATES).stream().map(FilteredAppointment::getAppt).collect(Collectors.toSet()));
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,6 +18,8 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Appt;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.patient.exceptions.DuplicatePatientException;
 import seedu.address.testutil.PatientBuilder;
@@ -30,6 +33,17 @@ public class ClinicConnectSystemTest {
         assertEquals(Collections.emptyList(), clinicConnectSystem.getPatientList());
     }
 
+    @Test
+    public void constructor_patientList_containsAllPatients() {
+        List<Patient> patients = getTypicalClinicConnectSystem().getPatientList();
+        assertEquals(patients, new ClinicConnectSystem(patients).getPatientList());
+    }
+
+    @Test
+    public void constructor_patientListWithDuplicates_throwsDuplicatePatientException() {
+        assertThrows(DuplicatePatientException.class, () -> new ClinicConnectSystem(Arrays.asList(ALICE, ALICE)));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> clinicConnectSystem.resetData(null));
@@ -80,6 +94,91 @@ public class ClinicConnectSystemTest {
         assertThrows(UnsupportedOperationException.class, () -> clinicConnectSystem.getPatientList().remove(0));
     }
 
+    @Test
+    public void takeChanges_patientAndApptOperations_returnsChangesInOrder() {
+        Patient patient = new PatientBuilder().withNric("S1234567J").build();
+        Patient editedPatient = new PatientBuilder().withNric("T0101280Z").build();
+        Appt appt = new Appt(LocalDateTime.parse("2030-01-01T10:00"), new HealthService("Consult"));
+
+        clinicConnectSystem.addPatient(patient);
+        clinicConnectSystem.addAppt(patient, appt);
+        clinicConnectSystem.deleteAppt(patient, appt);
+        clinicConnectSystem.setPatient(patient, editedPatient);
+        clinicConnectSystem.removePatient(editedPatient);
+
+        assertEquals(List.of(ClinicConnectSystemChange.putPatient(patient),
+                ClinicConnectSystemChange.addAppt(patient.getNric(), appt),
+                ClinicConnectSystemChange.deleteAppt(patient.getNric(), appt),
+                ClinicConnectSystemChange.removePatient(patient.getNric()),
+                ClinicConnectSystemChange.putPatient(editedPatient),
+                ClinicConnectSystemChange.removePatient(editedPatient.getNric())),
+                clinicConnectSystem.takeChanges());
+        assertEquals(List.of(), clinicConnectSystem.takeChanges());
+    }
+
+    @Test
+    public void takeChanges_resetAfterOtherChanges_returnsOnlyReset() {
+        clinicConnectSystem.addPatient(new PatientBuilder().build());
+        clinicConnectSystem.resetData(new ClinicConnectSystem());
+        assertEquals(List.of(ClinicConnectSystemChange.reset()), clinicConnectSystem.takeChanges());
+    }
+
+    @Test
+    public void takeChanges_newlyConstructed_returnsEmpty() {
+        assertEquals(List.of(), new ClinicConnectSystem(getTypicalClinicConnectSystem()).takeChanges());
+    }
+
+    @Test
+    public void getVersion_changes_increasesVersion() {
+        long initialVersion = clinicConnectSystem.getVersion();
+        Patient patient = new PatientBuilder().build();
+
+        clinicConnectSystem.hasPatient(patient);
+        assertEquals(initialVersion, clinicConnectSystem.getVersion());
+
+        clinicConnectSystem.addPatient(patient);
+        long addedVersion = clinicConnectSystem.getVersion();
+        assertTrue(addedVersion > initialVersion);
+
+        clinicConnectSystem.addAppt(patient, new Appt(LocalDateTime.parse("2030-01-01T10:00"),
+                new HealthService("Consult")));
+        assertTrue(clinicConnectSystem.getVersion() > addedVersion);
+    }
+
+    @Test
+    public void rollBackTo_noPendingChangesAtSavepoint_restoresStateAndVersion() {
+        Patient patient = new PatientBuilder().withNric("S1234567J").build();
+        Patient otherPatient = new PatientBuilder().withNric("S0123456B").build();
+        clinicConnectSystem.addPatient(patient);
+        clinicConnectSystem.addPatient(otherPatient);
+        clinicConnectSystem.takeChanges();
+        long originalVersion = clinicConnectSystem.getVersion();
+        ClinicConnectSystem.Savepoint savepoint = clinicConnectSystem.createSavepoint();
+
+        Appt appt = new Appt(LocalDateTime.parse("2030-01-01T10:00"), new HealthService("Consult"));
+        clinicConnectSystem.addAppt(patient, appt);
+        clinicConnectSystem.removePatient(otherPatient);
+        clinicConnectSystem.addPatient(new PatientBuilder().withNric("T0101280Z").build());
+
+        clinicConnectSystem.rollBackTo(savepoint);
+        assertEquals(List.of(patient, otherPatient), clinicConnectSystem.getPatientList());
+        assertFalse(clinicConnectSystem.getPatientList().get(0).getImmutableApptList().contains(appt));
+        assertEquals(originalVersion, clinicConnectSystem.getVersion());
+        assertEquals(List.of(), clinicConnectSystem.takeChanges());
+    }
+
+    @Test
+    public void rollBackTo_pendingChangesAtSavepoint_recordsReset() {
+        Patient patient = new PatientBuilder().build();
+        clinicConnectSystem.addPatient(patient);
+        ClinicConnectSystem.Savepoint savepoint = clinicConnectSystem.createSavepoint();
+        clinicConnectSystem.removePatient(patient);
+
+        clinicConnectSystem.rollBackTo(savepoint);
+        assertEquals(List.of(patient), clinicConnectSystem.getPatientList());
+        assertEquals(List.of(ClinicConnectSystemChange.reset()), clinicConnectSystem.takeChanges());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = ClinicConnectSystem.class.getCanonicalName()
@@ -10,11 +10,20 @@ import static seedu.address.testutil.TypicalPatients.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.filteredappointment.FilteredAppointment;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Patient;
 import seedu.address.testutil.ClinicConnectSystemBuilder;
+import seedu.address.testutil.PatientBuilder;
 
 public class ModelManagerTest {
 
@@ -86,6 +95,53 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPatient(ALICE));
     }
 
+    @Test
+    public void findPatient_nullNric_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPatient(null));
+    }
+
+    @Test
+    public void findPatient_patientNotInClinicConnectSystem_returnsEmpty() {
+        modelManager.addPatient(ALICE);
+        assertEquals(Optional.empty(), modelManager.findPatient(BENSON.getNric()));
+    }
+
+    @Test
+    public void findPatient_patientInClinicConnectSystem_returnsPatient() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        assertEquals(Optional.of(BENSON), modelManager.findPatient(BENSON.getNric()));
+    }
+
+    @Test
+    public void isInFilteredPatientList_patientFilteredOut_returnsFalse() {
+        modelManager.addPatient(ALICE);
+        modelManager.addPatient(BENSON);
+        modelManager.updateFilteredPatientList(patient -> patient.isSamePatient(ALICE));
+        assertTrue(modelManager.isInFilteredPatientList(ALICE));
+        assertFalse(modelManager.isInFilteredPatientList(BENSON));
+    }
+
+    @Test
+    public void filterAppts_afterAddApptAndDeletePatient_reflectsChanges() {
+        Patient alice = new PatientBuilder(ALICE).build();
+        Patient benson = new PatientBuilder(BENSON).build();
+        modelManager.addPatient(alice);
+        modelManager.addPatient(benson);
+        Appt appt = new Appt(LocalDateTime.parse("2030-01-15T10:00"), new HealthService("Consult"));
+        AppointmentDateFilter dateFilter = new AppointmentDateFilter(LocalDate.parse("2030-01-01"),
+                LocalDate.parse("2030-01-31"), null);
+
+        modelManager.addAppt(benson, appt);
+        modelManager.filterAppts(dateFilter);
+        assertEquals(1, modelManager.getFilteredAppts().size());
+        assertEquals(new FilteredAppointment(appt, benson), modelManager.getFilteredAppts().first());
+
+        modelManager.deletePatient(benson);
+        modelManager.filterAppts(dateFilter);
+        assertTrue(modelManager.getFilteredAppts().isEmpty());
+    }
+
     @Test
     public void getFilteredPatientList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPatientList().remove(0));
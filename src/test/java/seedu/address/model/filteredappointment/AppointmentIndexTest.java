@@ -0,0 +1,122 @@
+package seedu.address.model.filteredappointment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class AppointmentIndexTest {
+
+    private static final LocalDate START_DATE = LocalDate.parse("2030-01-01");
+    private static final LocalDate END_DATE = LocalDate.parse("2030-01-31");
+
+    private final AppointmentIndex appointmentIndex = new AppointmentIndex();
+
+    private final Patient alice = new PatientBuilder().withName("Alice Pauline").withNric("S1234567J")
+            .withAppts("2029-12-31 23:59", "Blood Test")
+            .withAppts("2030-01-01 00:00", "Blood Test")
+            .withAppts("2030-01-31 23:59", "Vaccination")
+            .withAppts("2030-02-01 00:00", "Blood Test").build();
+    private final Patient benson = new PatientBuilder().withName("Benson Meier").withNric("T0101280Z")
+            .withAppts("2030-01-01 00:00", "Consult").build();
+
+    @Test
+    public void filter_nullFilter_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> appointmentIndex.filter(null));
+    }
+
+    @Test
+    public void filter_dateRange_returnsOnlyAppointmentsWithinInclusiveDates() {
+        appointmentIndex.addPatient(alice);
+        appointmentIndex.addPatient(benson);
+
+        List<LocalDateTime> expected = List.of(LocalDateTime.parse("2030-01-01T00:00"),
+                LocalDateTime.parse("2030-01-01T00:00"), LocalDateTime.parse("2030-01-31T23:59"));
+        assertEquals(expected, filterDateTimes(new AppointmentDateFilter(START_DATE, END_DATE, null)));
+    }
+
+    @Test
+    public void filter_dateRangeAndService_returnsOnlyMatchingService() {
+        appointmentIndex.addPatient(alice);
+        appointmentIndex.addPatient(benson);
+
+        AppointmentDateFilter dateFilter = new AppointmentDateFilter(START_DATE, END_DATE,
+                new HealthService("Consult"));
+        List<FilteredAppointment> filtered = appointmentIndex.filter(dateFilter).collect(Collectors.toList());
+        assertEquals(1, filtered.size());
+        assertEquals(benson, filtered.get(0).getPatient());
+    }
+
+    @Test
+    public void filter_serviceWithNoAppointments_returnsEmpty() {
+        appointmentIndex.addPatient(alice);
+
+        AppointmentDateFilter dateFilter = new AppointmentDateFilter(START_DATE, END_DATE,
+                new HealthService("Cancer Screening"));
+        assertEquals(0, appointmentIndex.filter(dateFilter).count());
+    }
+
+    @Test
+    public void getUpcoming_service_returnsEarliestAppointmentsOfServiceInOrder() {
+        appointmentIndex.addPatient(alice);
+        appointmentIndex.addPatient(benson);
+
+        List<FilteredAppointment> upcoming = appointmentIndex.getUpcoming(new HealthService("Blood Test"),
+                LocalDateTime.parse("2030-01-01T00:00"), 1);
+        assertEquals(List.of(new FilteredAppointment(alice.getImmutableApptList().get(1), alice)), upcoming);
+
+        upcoming = appointmentIndex.getUpcoming(new HealthService("Blood Test"),
+                LocalDateTime.parse("2030-01-01T00:01"), 5);
+        assertEquals(List.of(new FilteredAppointment(alice.getImmutableApptList().get(3), alice)), upcoming);
+    }
+
+    @Test
+    public void getUpcoming_end_returnsOnlyAppointmentsBeforeEnd() {
+        appointmentIndex.addPatient(alice);
+
+        List<FilteredAppointment> upcoming = appointmentIndex.getUpcoming(new HealthService("Blood Test"),
+                LocalDateTime.parse("2029-12-31T00:00"), LocalDateTime.parse("2030-02-01T00:00"), 5);
+        assertEquals(List.of(new FilteredAppointment(alice.getImmutableApptList().get(0), alice),
+                new FilteredAppointment(alice.getImmutableApptList().get(1), alice)), upcoming);
+    }
+
+    @Test
+    public void remove_appointment_noLongerReturned() {
+        appointmentIndex.addPatient(alice);
+        appointmentIndex.remove(alice, new Appt(LocalDateTime.parse("2030-01-01T00:00"),
+                new HealthService("Blood Test")));
+
+        assertEquals(List.of(LocalDateTime.parse("2030-01-31T23:59")),
+                filterDateTimes(new AppointmentDateFilter(START_DATE, END_DATE, null)));
+    }
+
+    @Test
+    public void removePatient_sharedDateTime_keepsOtherPatientsAppointment() {
+        appointmentIndex.addPatient(alice);
+        appointmentIndex.addPatient(benson);
+        appointmentIndex.removePatient(alice);
+
+        List<FilteredAppointment> filtered = appointmentIndex
+                .filter(new AppointmentDateFilter(START_DATE, END_DATE, null))
+                .collect(Collectors.toList());
+        assertEquals(List.of(new FilteredAppointment(benson.getImmutableApptList().get(0), benson)), filtered);
+    }
+
+    private List<LocalDateTime> filterDateTimes(AppointmentDateFilter dateFilter) {
+        return appointmentIndex.filter(dateFilter)
+                .map(appointment -> appointment.getAppt().getDateTime())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -43,6 +43,20 @@ public class HealthServiceTest {
         assertFalse(HealthService.isValidHealthServiceName(" "));
     }
 
+    @Test
+    public void fromOrdinal_ordinalOfHealthService_sameHealthService() {
+        for (String name : new String[] {"BLOOD TEST", "CANCER SCREENING", "VACCINATION", "CONSULT"}) {
+            HealthService healthService = new HealthService(name);
+            assertEquals(healthService, HealthService.fromOrdinal(healthService.getOrdinal()));
+        }
+    }
+
+    @Test
+    public void fromOrdinal_invalidOrdinal_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> HealthService.fromOrdinal(-1));
+        assertThrows(IllegalArgumentException.class, () -> HealthService.fromOrdinal(4));
+    }
+
     @Test
     public void equals() {
         HealthService bloodTest = new HealthService("BLOOD TEST");
@@ -0,0 +1,89 @@
+package seedu.address.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointmentdatefilter.AppointmentDateFilter;
+import seedu.address.model.healthservice.HealthService;
+
+public class ApptListTest {
+
+    private static final Appt PAST_APPT = new Appt(LocalDateTime.now().minusDays(10),
+            new HealthService("Blood Test"));
+    private static final Appt RECENT_PAST_APPT = new Appt(LocalDateTime.now().minusDays(1),
+            new HealthService("Consult"));
+    private static final Appt NEAR_FUTURE_APPT = new Appt(LocalDateTime.now().plusDays(1),
+            new HealthService("Vaccination"));
+    private static final Appt FAR_FUTURE_APPT = new Appt(LocalDateTime.now().plusDays(10),
+            new HealthService("Consult"));
+
+    private final ApptList apptList = new ApptList();
+
+    @Test
+    public void withAppt_outOfOrder_keptSortedByDateTime() {
+        ApptList apptList = this.apptList.withAppt(FAR_FUTURE_APPT).withAppt(PAST_APPT)
+                .withAppt(NEAR_FUTURE_APPT).withAppt(RECENT_PAST_APPT);
+        assertEquals(List.of(PAST_APPT, RECENT_PAST_APPT, NEAR_FUTURE_APPT, FAR_FUTURE_APPT),
+                apptList.getImmutableApptList());
+    }
+
+    @Test
+    public void withAppt_originalList_notChanged() {
+        ApptList originalList = apptList.withAppt(PAST_APPT);
+        ApptList addedList = originalList.withAppt(NEAR_FUTURE_APPT);
+        ApptList deletedList = originalList.withoutAppt(PAST_APPT);
+
+        assertEquals(List.of(PAST_APPT), originalList.getImmutableApptList());
+        assertEquals(List.of(PAST_APPT, NEAR_FUTURE_APPT), addedList.getImmutableApptList());
+        assertEquals(List.of(), deletedList.getImmutableApptList());
+    }
+
+    @Test
+    public void constructor_unsortedAppts_keptSortedByDateTime() {
+        ApptList bulkApptList = new ApptList(List.of(FAR_FUTURE_APPT, PAST_APPT, NEAR_FUTURE_APPT));
+        assertEquals(List.of(PAST_APPT, NEAR_FUTURE_APPT, FAR_FUTURE_APPT), bulkApptList.getImmutableApptList());
+    }
+
+    @Test
+    public void getMostRecentAppts_emptyList_returnsNull() {
+        assertNull(apptList.getMostRecentPastAppt());
+        assertNull(apptList.getMostRecentFutureAppt());
+    }
+
+    @Test
+    public void getMostRecentAppts_pastAndFutureAppts_returnsClosestToNow() {
+        ApptList apptList = new ApptList(List.of(FAR_FUTURE_APPT, PAST_APPT, NEAR_FUTURE_APPT, RECENT_PAST_APPT));
+        assertEquals(RECENT_PAST_APPT, apptList.getMostRecentPastAppt());
+        assertEquals(NEAR_FUTURE_APPT, apptList.getMostRecentFutureAppt());
+    }
+
+    @Test
+    public void findAppt_deletedAppt_returnsEmpty() {
+        ApptList apptList = this.apptList.withAppt(NEAR_FUTURE_APPT);
+        assertEquals(Optional.of(NEAR_FUTURE_APPT), apptList.findAppt(NEAR_FUTURE_APPT.getDateTime()));
+        apptList = apptList.withoutAppt(NEAR_FUTURE_APPT);
+        assertEquals(Optional.empty(), apptList.findAppt(NEAR_FUTURE_APPT.getDateTime()));
+    }
+
+    @Test
+    public void filterAppts_dateRangeAndService_returnsMatchingApptsInRange() {
+        ApptList apptList = new ApptList(List.of(PAST_APPT, RECENT_PAST_APPT, NEAR_FUTURE_APPT, FAR_FUTURE_APPT));
+        LocalDate startDate = RECENT_PAST_APPT.getDateTime().toLocalDate();
+        LocalDate endDate = FAR_FUTURE_APPT.getDateTime().toLocalDate();
+
+        assertEquals(List.of(RECENT_PAST_APPT, NEAR_FUTURE_APPT, FAR_FUTURE_APPT),
+                apptList.filterAppts(new AppointmentDateFilter(startDate, endDate, null))
+                        .collect(Collectors.toList()));
+        assertEquals(List.of(RECENT_PAST_APPT, FAR_FUTURE_APPT),
+                apptList.filterAppts(new AppointmentDateFilter(startDate, endDate, new HealthService("Consult")))
+                        .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.patient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_BIRTHDATE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.patient.exceptions.DuplicatePatientException;
+import seedu.address.model.patient.exceptions.PatientNotFoundException;
+import seedu.address.testutil.PatientBuilder;
+
+public class PersistentPatientListTest {
+
+    private final PersistentPatientList patients = PersistentPatientList.of(List.of(ALICE, BENSON, CARL));
+
+    @Test
+    public void of_duplicatePatients_throwsDuplicatePatientException() {
+        assertThrows(DuplicatePatientException.class, () -> PersistentPatientList.of(List.of(ALICE, ALICE)));
+    }
+
+    @Test
+    public void add_originalNotChanged() {
+        PersistentPatientList updatedPatients = patients.add(BOB);
+        assertEquals(List.of(ALICE, BENSON, CARL, BOB), updatedPatients.toList());
+        assertEquals(3, updatedPatients.indexOf(BOB.getNric()));
+        assertFalse(patients.contains(BOB.getNric()));
+        assertEquals(List.of(ALICE, BENSON, CARL), patients.toList());
+    }
+
+    @Test
+    public void add_duplicatePatient_throwsDuplicatePatientException() {
+        assertThrows(DuplicatePatientException.class, () -> patients.add(ALICE));
+    }
+
+    @Test
+    public void add_atIndex_insertedThere() {
+        assertEquals(List.of(BOB, ALICE, BENSON, CARL), patients.add(0, BOB).toList());
+        assertEquals(List.of(ALICE, BENSON, CARL, BOB), patients.add(3, BOB).toList());
+
+        // no free position between Alice and Benson, so the patients are renumbered
+        PersistentPatientList updatedPatients = patients.add(1, BOB);
+        assertEquals(List.of(ALICE, BOB, BENSON, CARL), updatedPatients.toList());
+        assertEquals(1, updatedPatients.indexOf(BOB.getNric()));
+
+        // the position of a removed patient is free again
+        assertEquals(patients.toList(), patients.remove(BENSON).add(1, BENSON).toList());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> patients.add(4, BOB));
+        assertThrows(DuplicatePatientException.class, () -> patients.add(1, CARL));
+    }
+
+    @Test
+    public void set_keepsIndex() {
+        Patient editedBenson = new PatientBuilder(BENSON).withBirthdate(VALID_BIRTHDATE_BOB).build();
+        PersistentPatientList updatedPatients = patients.set(BENSON, editedBenson);
+        assertEquals(1, updatedPatients.indexOf(BENSON.getNric()));
+        assertEquals(editedBenson, updatedPatients.find(BENSON.getNric()).get());
+
+        PersistentPatientList renamedPatients = patients.set(BENSON, BOB);
+        assertEquals(List.of(ALICE, BOB, CARL), renamedPatients.toList());
+        assertFalse(renamedPatients.contains(BENSON.getNric()));
+    }
+
+    @Test
+    public void set_invalidPatients_throwsException() {
+        assertThrows(PatientNotFoundException.class, () -> patients.set(BOB, BOB));
+        assertThrows(DuplicatePatientException.class, () -> patients.set(BENSON, CARL));
+    }
+
+    @Test
+    public void remove_laterPatientsMoveUp() {
+        PersistentPatientList updatedPatients = patients.remove(ALICE);
+        assertEquals(List.of(BENSON, CARL), updatedPatients.toList());
+        assertEquals(0, updatedPatients.indexOf(BENSON.getNric()));
+        assertEquals(-1, updatedPatients.indexOf(ALICE.getNric()));
+        assertTrue(patients.contains(ALICE.getNric()));
+        assertThrows(PatientNotFoundException.class, () -> updatedPatients.remove(ALICE));
+    }
+
+    @Test
+    public void get_returnsPatientAtIndex() {
+        assertEquals(BENSON, patients.get(1));
+        assertEquals(CARL, patients.remove(ALICE).get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> patients.get(3));
+    }
+
+    @Test
+    public void asList_viewOfThisList() {
+        List<Patient> view = patients.asList();
+        assertEquals(List.of(ALICE, BENSON, CARL), view);
+        patients.add(BOB);
+        assertEquals(3, view.size());
+        assertThrows(UnsupportedOperationException.class, () -> view.add(BOB));
+    }
+}
@@ -106,6 +106,14 @@ public class UniquePatientListTest {
         assertThrows(DuplicatePatientException.class, () -> uniquePatientList.setPatient(ALICE, BOB));
     }
 
+    @Test
+    public void setPatient_editedPatientHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.setPatient(ALICE, BOB);
+        assertFalse(uniquePatientList.contains(ALICE));
+        assertTrue(uniquePatientList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPatient_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.remove(null));
@@ -124,6 +132,19 @@ public class UniquePatientListTest {
         assertEquals(expectedUniquePatientList, uniquePatientList);
     }
 
+    @Test
+    public void remove_firstOfManyPatients_remainingPatientsStillReplaceable() {
+        uniquePatientList.add(ALICE);
+        uniquePatientList.add(BOB);
+        uniquePatientList.remove(ALICE);
+        Patient editedBob = new PatientBuilder(BOB).withBirthdate(VALID_BIRTHDATE_BOB).build();
+        uniquePatientList.setPatient(BOB, editedBob);
+        UniquePatientList expectedUniquePatientList = new UniquePatientList();
+        expectedUniquePatientList.add(editedBob);
+        assertEquals(expectedUniquePatientList, uniquePatientList);
+        assertFalse(uniquePatientList.contains(ALICE));
+    }
+
     @Test
     public void setPatients_nullUniquePatientList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePatientList.setPatients((UniquePatientList) null));
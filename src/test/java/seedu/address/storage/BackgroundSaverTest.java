@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BENSON;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ClinicConnectSystemChange;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+
+public class BackgroundSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_burstWhileSaving_coalescesIntoOneSave() throws Exception {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch firstSaveAllowed = new CountDownLatch(1);
+        List<List<ClinicConnectSystemChange>> savedChanges = new ArrayList<>();
+        List<ReadOnlyClinicConnectSystem> savedData = new ArrayList<>();
+        JsonClinicConnectSystemStorage storage = new JsonClinicConnectSystemStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+                    List<ClinicConnectSystemChange> changes) throws IOException {
+                firstSaveStarted.countDown();
+                try {
+                    firstSaveAllowed.await();
+                } catch (InterruptedException ie) {
+                    throw new IOException(ie);
+                }
+                savedChanges.add(new ArrayList<>(changes));
+                savedData.add(clinicConnectSystem);
+            }
+        };
+        BackgroundSaver saver = new BackgroundSaver(storage);
+        ClinicConnectSystem first = new ClinicConnectSystem();
+        ClinicConnectSystem second = new ClinicConnectSystem();
+        ClinicConnectSystem third = new ClinicConnectSystem();
+
+        saver.save(first, List.of(ClinicConnectSystemChange.putPatient(ALICE)));
+        firstSaveStarted.await();
+        CompletableFuture<Void> secondSave = saver.save(second, List.of(ClinicConnectSystemChange.putPatient(BENSON)));
+        CompletableFuture<Void> thirdSave = saver.save(third, List.of(ClinicConnectSystemChange.putPatient(CARL)));
+        assertSame(secondSave, thirdSave);
+        firstSaveAllowed.countDown();
+        saver.flush();
+
+        assertTrue(thirdSave.isDone());
+        assertEquals(List.of(first, third), savedData);
+        assertEquals(List.of(List.of(ClinicConnectSystemChange.putPatient(ALICE)),
+                List.of(ClinicConnectSystemChange.putPatient(BENSON), ClinicConnectSystemChange.putPatient(CARL))),
+                savedChanges);
+    }
+
+    @Test
+    public void save_storageThrows_completesExceptionally() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        JsonClinicConnectSystemStorage storage = new JsonClinicConnectSystemStorage(testFolder.resolve("data.json")) {
+            @Override
+            public void saveClinicConnectSystemChanges(ReadOnlyClinicConnectSystem clinicConnectSystem,
+                    List<ClinicConnectSystemChange> changes) throws IOException {
+                throw exception;
+            }
+        };
+
+        CompletableFuture<Void> save = new BackgroundSaver(storage).save(new ClinicConnectSystem(), List.of());
+        assertSame(exception, save.handle((unused, error) -> error).get());
+    }
+
+    @Test
+    public void flush_afterSave_dataWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        BackgroundSaver saver = new BackgroundSaver(new JsonClinicConnectSystemStorage(filePath));
+        saver.save(getTypicalClinicConnectSystem(), List.of());
+        saver.flush();
+
+        assertEquals(getTypicalClinicConnectSystem(),
+                new JsonClinicConnectSystemStorage(filePath).readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void flush_nothingSaved_returns() {
+        new BackgroundSaver(new JsonClinicConnectSystemStorage(testFolder.resolve("data.json"))).flush();
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.patient.Nric;
+
+public class BinaryAdaptedPatientTest {
+
+    @Test
+    public void unpackNric_packedNric_sameNric() throws Exception {
+        for (String nric : new String[] {"S0000000A", "T1234567Z", "F7654321J", "G0000001B", "M9999999Z"}) {
+            long packedNric = BinaryAdaptedPatient.packNric(new Nric(nric));
+            assertEquals(new Nric(nric), BinaryAdaptedPatient.unpackNric(packedNric));
+        }
+    }
+
+    @Test
+    public void unpackNric_outOfRange_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> BinaryAdaptedPatient.unpackNric(-1));
+        assertThrows(IllegalValueException.class, () -> BinaryAdaptedPatient.unpackNric(Long.MAX_VALUE));
+    }
+}
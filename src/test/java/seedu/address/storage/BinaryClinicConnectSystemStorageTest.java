@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.JAKE;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.testutil.PatientBuilder;
+
+public class BinaryClinicConnectSystemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Asserts that {@code expected} and {@code actual} have the same patients with the same details.
+     */
+    private void assertSameDetails(ReadOnlyClinicConnectSystem expected, ReadOnlyClinicConnectSystem actual)
+            throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableClinicConnectSystem(expected)),
+                JsonUtil.toJsonString(new JsonSerializableClinicConnectSystem(actual)));
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "clinicconnectsystem.bin"),
+                BinaryClinicConnectSystemStorage.getBinaryFilePath(Paths.get("data", "clinicconnectsystem.json")));
+        assertEquals(Paths.get("data", "clinicconnectsystem.bin"),
+                BinaryClinicConnectSystemStorage.getBinaryFilePath(Paths.get("data", "clinicconnectsystem")));
+    }
+
+    @Test
+    public void readClinicConnectSystem_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryClinicConnectSystemStorage(testFolder.resolve("NonExistentFile.bin"))
+                .readClinicConnectSystem().isPresent());
+    }
+
+    @Test
+    public void readAndSaveClinicConnectSystem_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.bin");
+        BinaryClinicConnectSystemStorage storage = new BinaryClinicConnectSystemStorage(filePath);
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        original.addPatient(new PatientBuilder(JAKE).withAppts("2030-01-01 09:30", "Consult").build());
+
+        storage.saveClinicConnectSystem(original);
+        ReadOnlyClinicConnectSystem readBack = storage.readClinicConnectSystem().get();
+        assertEquals(original, new ClinicConnectSystem(readBack));
+        assertSameDetails(original, readBack);
+
+        // Modify data, overwrite exiting file, and read back
+        original.removePatient(ALICE);
+        storage.saveClinicConnectSystem(original);
+        assertSameDetails(original, storage.readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystem_typicalData_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempClinicConnectSystem.bin");
+        Path jsonFilePath = testFolder.resolve("TempClinicConnectSystem.json");
+        new BinaryClinicConnectSystemStorage(binaryFilePath).saveClinicConnectSystem(getTypicalClinicConnectSystem());
+        new JsonClinicConnectSystemStorage(jsonFilePath).saveClinicConnectSystem(getTypicalClinicConnectSystem());
+
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readClinicConnectSystem_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.bin");
+        new JsonClinicConnectSystemStorage(filePath).saveClinicConnectSystem(getTypicalClinicConnectSystem());
+
+        assertThrows(DataLoadingException.class, () ->
+                new BinaryClinicConnectSystemStorage(filePath).readClinicConnectSystem());
+    }
+
+    @Test
+    public void readClinicConnectSystem_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.bin");
+        BinaryClinicConnectSystemStorage storage = new BinaryClinicConnectSystemStorage(filePath);
+        storage.saveClinicConnectSystem(getTypicalClinicConnectSystem());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataLoadingException.class, storage::readClinicConnectSystem);
+    }
+
+    @Test
+    public void readClinicConnectSystem_truncatedFileWithBackup_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.bin");
+        BinaryClinicConnectSystemStorage storage = new BinaryClinicConnectSystemStorage(filePath);
+        storage.saveClinicConnectSystem(getTypicalClinicConnectSystem());
+        storage.saveClinicConnectSystem(new ClinicConnectSystem());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertEquals(getTypicalClinicConnectSystem(), new ClinicConnectSystem(storage.readClinicConnectSystem().get()));
+    }
+
+    @Test
+    public void readClinicConnectSystem_duplicatePatients_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.bin");
+        BinaryClinicConnectSystemStorage storage = new BinaryClinicConnectSystemStorage(filePath);
+        storage.saveClinicConnectSystem(() -> FXCollections.observableList(List.of(ALICE, ALICE)));
+
+        assertThrows(DataLoadingException.class, storage::readClinicConnectSystem);
+    }
+
+    @Test
+    public void saveClinicConnectSystem_nullClinicConnectSystem_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryClinicConnectSystemStorage(
+                testFolder.resolve("SomeFile.bin")).saveClinicConnectSystem(null));
+    }
+}
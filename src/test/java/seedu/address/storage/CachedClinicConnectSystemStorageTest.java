@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+
+public class CachedClinicConnectSystemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * A json storage that counts how many times its data file is read.
+     */
+    private static class JsonStorageCountingReads extends JsonClinicConnectSystemStorage {
+        private int readCount;
+
+        JsonStorageCountingReads(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public Optional<ReadOnlyClinicConnectSystem> readClinicConnectSystem(Path filePath)
+                throws DataLoadingException {
+            readCount++;
+            return super.readClinicConnectSystem(filePath);
+        }
+    }
+
+    /**
+     * Asserts that {@code expected} and {@code actual} have the same patients with the same details.
+     */
+    private void assertSameDetails(ReadOnlyClinicConnectSystem expected, ReadOnlyClinicConnectSystem actual)
+            throws Exception {
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableClinicConnectSystem(expected)),
+                JsonUtil.toJsonString(new JsonSerializableClinicConnectSystem(actual)));
+    }
+
+    @Test
+    public void getCacheFilePath() {
+        assertEquals(Paths.get("data", "clinicconnectsystem.json.cache"),
+                CachedClinicConnectSystemStorage.getCacheFilePath(Paths.get("data", "clinicconnectsystem.json")));
+    }
+
+    @Test
+    public void readClinicConnectSystem_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new CachedClinicConnectSystemStorage(new JsonClinicConnectSystemStorage(filePath))
+                .readClinicConnectSystem().isPresent());
+        assertFalse(Files.exists(CachedClinicConnectSystemStorage.getCacheFilePath(filePath)));
+    }
+
+    @Test
+    public void readClinicConnectSystem_unchangedDataFile_readsCache() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        new JsonClinicConnectSystemStorage(filePath).saveClinicConnectSystem(original);
+
+        // First read parses the data file and writes the cache
+        JsonStorageCountingReads jsonStorage = new JsonStorageCountingReads(filePath);
+        assertSameDetails(original, new CachedClinicConnectSystemStorage(jsonStorage).readClinicConnectSystem().get());
+        assertEquals(1, jsonStorage.readCount);
+        assertTrue(Files.exists(CachedClinicConnectSystemStorage.getCacheFilePath(filePath)));
+
+        // Next read is served from the cache
+        jsonStorage = new JsonStorageCountingReads(filePath);
+        assertSameDetails(original, new CachedClinicConnectSystemStorage(jsonStorage).readClinicConnectSystem().get());
+        assertEquals(0, jsonStorage.readCount);
+    }
+
+    @Test
+    public void readClinicConnectSystem_changedDataFile_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        new JsonClinicConnectSystemStorage(filePath).saveClinicConnectSystem(original);
+        new CachedClinicConnectSystemStorage(new JsonClinicConnectSystemStorage(filePath)).readClinicConnectSystem();
+
+        // Data file changed without going through the cached storage
+        original.addPatient(HOON);
+        new JsonClinicConnectSystemStorage(filePath).saveClinicConnectSystem(original);
+
+        JsonStorageCountingReads jsonStorage = new JsonStorageCountingReads(filePath);
+        assertSameDetails(original, new CachedClinicConnectSystemStorage(jsonStorage).readClinicConnectSystem().get());
+        assertEquals(1, jsonStorage.readCount);
+    }
+
+    @Test
+    public void readClinicConnectSystem_corruptedCache_readsDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        new JsonClinicConnectSystemStorage(filePath).saveClinicConnectSystem(original);
+        Files.write(CachedClinicConnectSystemStorage.getCacheFilePath(filePath), new byte[] {1, 2, 3});
+
+        JsonStorageCountingReads jsonStorage = new JsonStorageCountingReads(filePath);
+        assertSameDetails(original, new CachedClinicConnectSystemStorage(jsonStorage).readClinicConnectSystem().get());
+        assertEquals(1, jsonStorage.readCount);
+    }
+
+    @Test
+    public void checkpointClinicConnectSystem_afterSave_cacheMatchesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        CachedClinicConnectSystemStorage storage =
+                new CachedClinicConnectSystemStorage(new JsonClinicConnectSystemStorage(filePath));
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        storage.saveClinicConnectSystem(original);
+        storage.checkpointClinicConnectSystem(original);
+
+        JsonStorageCountingReads jsonStorage = new JsonStorageCountingReads(filePath);
+        assertSameDetails(original, new CachedClinicConnectSystemStorage(jsonStorage).readClinicConnectSystem().get());
+        assertEquals(0, jsonStorage.readCount);
+    }
+
+    @Test
+    public void checkpointClinicConnectSystem_withoutSave_cacheNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        new JsonClinicConnectSystemStorage(filePath).saveClinicConnectSystem(getTypicalClinicConnectSystem());
+
+        // The data given was never saved into the data file, so it must not be cached for it
+        new CachedClinicConnectSystemStorage(new JsonClinicConnectSystemStorage(filePath))
+                .checkpointClinicConnectSystem(new ClinicConnectSystem());
+        assertFalse(Files.exists(CachedClinicConnectSystemStorage.getCacheFilePath(filePath)));
+    }
+
+    @Test
+    public void readClinicConnectSystem_journaledStorage_replaysJournalOverCache() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        ClinicConnectSystem original = new ClinicConnectSystem(getTypicalClinicConnectSystem());
+        JournaledClinicConnectSystemStorage storage = new JournaledClinicConnectSystemStorage(
+                new CachedClinicConnectSystemStorage(new JsonClinicConnectSystemStorage(filePath)));
+        storage.saveClinicConnectSystem(original);
+        storage.checkpointClinicConnectSystem(original);
+
+        original.addPatient(HOON);
+        storage.saveClinicConnectSystemChanges(original, original.takeChanges());
+
+        JsonStorageCountingReads jsonStorage = new JsonStorageCountingReads(filePath);
+        assertSameDetails(original, new JournaledClinicConnectSystemStorage(
+                new CachedClinicConnectSystemStorage(jsonStorage)).readClinicConnectSystem().get());
+        assertEquals(0, jsonStorage.readCount);
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.testutil.PatientBuilder;
+
+public class ClinicConnectSystemFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        JsonClinicConnectSystemStorage jsonStorage =
+                new JsonClinicConnectSystemStorage(testFolder.resolve("data.json"));
+        BinaryClinicConnectSystemStorage binaryStorage =
+                new BinaryClinicConnectSystemStorage(testFolder.resolve("data.bin"));
+        jsonStorage.saveClinicConnectSystem(getTypicalClinicConnectSystem());
+
+        assertTrue(ClinicConnectSystemFileConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(getTypicalClinicConnectSystem(),
+                new ClinicConnectSystem(binaryStorage.readClinicConnectSystem().get()));
+
+        Files.delete(jsonStorage.getClinicConnectSystemFilePath());
+        assertTrue(ClinicConnectSystemFileConverter.convert(binaryStorage, jsonStorage));
+        assertEquals(getTypicalClinicConnectSystem(),
+                new ClinicConnectSystem(jsonStorage.readClinicConnectSystem().get()));
+    }
+
+    @Test
+    public void convert_targetHasOldJournal_journalNotReplayed() throws Exception {
+        JsonClinicConnectSystemStorage jsonStorage =
+                new JsonClinicConnectSystemStorage(testFolder.resolve("data.json"));
+        BinaryClinicConnectSystemStorage binaryStorage =
+                new BinaryClinicConnectSystemStorage(testFolder.resolve("data.bin"));
+
+        // Leave a journal of changes to older data next to the json file
+        JournaledClinicConnectSystemStorage journaledJsonStorage = new JournaledClinicConnectSystemStorage(jsonStorage);
+        ClinicConnectSystem oldData = new ClinicConnectSystem(getTypicalClinicConnectSystem());
+        journaledJsonStorage.saveClinicConnectSystem(oldData);
+        oldData.addPatient(new PatientBuilder().withNric("S7654321A").build());
+        journaledJsonStorage.saveClinicConnectSystemChanges(oldData, oldData.takeChanges());
+        assertTrue(Files.exists(JournaledClinicConnectSystemStorage.getJournalFilePath(
+                jsonStorage.getClinicConnectSystemFilePath())));
+
+        binaryStorage.saveClinicConnectSystem(getTypicalClinicConnectSystem());
+        assertTrue(ClinicConnectSystemFileConverter.convert(binaryStorage, jsonStorage));
+        assertEquals(getTypicalClinicConnectSystem(), new ClinicConnectSystem(
+                new JournaledClinicConnectSystemStorage(jsonStorage).readClinicConnectSystem().get()));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        BinaryClinicConnectSystemStorage binaryStorage =
+                new BinaryClinicConnectSystemStorage(testFolder.resolve("data.bin"));
+        assertFalse(ClinicConnectSystemFileConverter.convert(
+                new JsonClinicConnectSystemStorage(testFolder.resolve("data.json")), binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getClinicConnectSystemFilePath()));
+    }
+
+    /**
+     * Sets the modified time of the data file of {@code storage} to {@code epochSecond}, so that the tests do not
+     * depend on how finely the file system records modified times.
+     */
+    private static void setModifiedTime(ClinicConnectSystemStorage storage, long epochSecond) throws Exception {
+        Files.setLastModifiedTime(storage.getClinicConnectSystemFilePath(), 
+                FileTime.from(Instant.ofEpochSecond(epochSecond)));
+    }
+
+    @Test
+    public void convertIfNewer_olderSource_targetUnchanged() throws Exception {
+        JsonClinicConnectSystemStorage jsonStorage =
+                new JsonClinicConnectSystemStorage(testFolder.resolve("data.json"));
+        BinaryClinicConnectSystemStorage binaryStorage =
+                new BinaryClinicConnectSystemStorage(testFolder.resolve("data.bin"));
+        jsonStorage.saveClinicConnectSystem(getTypicalClinicConnectSystem());
+        binaryStorage.saveClinicConnectSystem(new ClinicConnectSystem());
+        setModifiedTime(jsonStorage, 1000);
+        setModifiedTime(binaryStorage, 2000);
+
+        ClinicConnectSystemFileConverter.convertIfNewer(List.of(jsonStorage), binaryStorage);
+        assertEquals(new ClinicConnectSystem(), binaryStorage.readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void convertIfNewer_editedBetweenSwitches_latestDataConverted() throws Exception {
+        JsonClinicConnectSystemStorage jsonStorage =
+                new JsonClinicConnectSystemStorage(testFolder.resolve("data.json"));
+        BinaryClinicConnectSystemStorage binaryStorage =
+                new BinaryClinicConnectSystemStorage(testFolder.resolve("data.bin"));
+        jsonStorage.saveClinicConnectSystem(getTypicalClinicConnectSystem());
+        setModifiedTime(jsonStorage, 1000);
+
+        // Switch to binary, which has no data file yet
+        ClinicConnectSystemFileConverter.convertIfNewer(List.of(jsonStorage), binaryStorage);
+        ClinicConnectSystem editedData = new ClinicConnectSystem(binaryStorage.readClinicConnectSystem().get());
+        assertEquals(getTypicalClinicConnectSystem(), editedData);
+
+        // Edit the data in binary, then switch back to json
+        editedData.removePatient(editedData.getPatientList().get(0));
+        binaryStorage.saveClinicConnectSystem(editedData);
+        setModifiedTime(binaryStorage, 2000);
+        ClinicConnectSystemFileConverter.convertIfNewer(List.of(binaryStorage), jsonStorage);
+        assertEquals(editedData, new ClinicConnectSystem(jsonStorage.readClinicConnectSystem().get()));
+    }
+
+    @Test
+    public void convertIfNewer_severalSources_newestConverted() throws Exception {
+        JsonClinicConnectSystemStorage jsonStorage =
+                new JsonClinicConnectSystemStorage(testFolder.resolve("data.json"));
+        BinaryClinicConnectSystemStorage binaryStorage =
+                new BinaryClinicConnectSystemStorage(testFolder.resolve("data.bin"));
+        SegmentedClinicConnectSystemStorage segmentedStorage =
+                new SegmentedClinicConnectSystemStorage(testFolder.resolve("segments").resolve("manifest.json"));
+        jsonStorage.saveClinicConnectSystem(new ClinicConnectSystem());
+        binaryStorage.saveClinicConnectSystem(getTypicalClinicConnectSystem());
+        segmentedStorage.saveClinicConnectSystem(new ClinicConnectSystem());
+        setModifiedTime(jsonStorage, 1000);
+        setModifiedTime(binaryStorage, 3000);
+        setModifiedTime(segmentedStorage, 2000);
+
+        ClinicConnectSystemFileConverter.convertIfNewer(List.of(binaryStorage, segmentedStorage), jsonStorage);
+        assertEquals(getTypicalClinicConnectSystem(),
+                new ClinicConnectSystem(jsonStorage.readClinicConnectSystem().get()));
+    }
+}
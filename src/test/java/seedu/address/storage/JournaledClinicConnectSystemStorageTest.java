@@ -0,0 +1,207 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.healthservice.HealthService;
+import seedu.address.model.patient.Appt;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournaledClinicConnectSystemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private ClinicConnectSystem clinicConnectSystem;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        journalPath = JournaledClinicConnectSystemStorage.getJournalFilePath(filePath);
+        clinicConnectSystem = new ClinicConnectSystem(getTypicalClinicConnectSystem());
+    }
+
+    private JournaledClinicConnectSystemStorage createStorage(long checkpointThresholdBytes) {
+        return new JournaledClinicConnectSystemStorage(new JsonClinicConnectSystemStorage(filePath),
+                checkpointThresholdBytes, 1);
+    }
+
+    /**
+     * Saves {@code clinicConnectSystem} in full, then makes a few changes to it that are saved to the journal.
+     */
+    private JournaledClinicConnectSystemStorage saveWithJournaledChanges() throws Exception {
+        JournaledClinicConnectSystemStorage storage =
+                createStorage(JournaledClinicConnectSystemStorage.DEFAULT_CHECKPOINT_THRESHOLD_BYTES);
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+
+        Patient patient = new PatientBuilder().withNric("S7654321A").build();
+        clinicConnectSystem.addPatient(patient);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+        clinicConnectSystem.addAppt(patient, new Appt(LocalDateTime.parse("2030-01-01T10:00"),
+                new HealthService("Consult")));
+        clinicConnectSystem.removePatient(clinicConnectSystem.getPatientList().get(0));
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+        return storage;
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_afterCheckpoint_appendsToJournal() throws Exception {
+        saveWithJournaledChanges();
+
+        assertTrue(Files.size(journalPath) > 0);
+        assertEquals(getTypicalClinicConnectSystem(),
+                new JsonClinicConnectSystemStorage(filePath).readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemAsync_afterCheckpoint_appendsToJournal() throws Exception {
+        JournaledClinicConnectSystemStorage storage =
+                createStorage(JournaledClinicConnectSystemStorage.DEFAULT_CHECKPOINT_THRESHOLD_BYTES);
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        clinicConnectSystem.addPatient(new PatientBuilder().withNric("S7654321A").build());
+
+        storage.saveClinicConnectSystemAsync(clinicConnectSystem, clinicConnectSystem.takeChanges()).join();
+        storage.flushClinicConnectSystemSaves();
+
+        assertTrue(Files.size(journalPath) > 0);
+        assertEquals(clinicConnectSystem, new ClinicConnectSystem(createStorage(0).readClinicConnectSystem().get()));
+    }
+
+    @Test
+    public void readClinicConnectSystem_journaledChanges_replaysChanges() throws Exception {
+        saveWithJournaledChanges();
+
+        ClinicConnectSystem readBack = new ClinicConnectSystem(createStorage(0).readClinicConnectSystem().get());
+        assertEquals(clinicConnectSystem, readBack);
+        assertEquals(clinicConnectSystem.getPatientList(), readBack.getPatientList());
+        Patient replayedPatient = readBack.getPatientList().get(readBack.getPatientList().size() - 1);
+        assertEquals(1, replayedPatient.getImmutableApptList().size());
+    }
+
+    @Test
+    public void readClinicConnectSystem_tornFinalRecord_discardsRecord() throws Exception {
+        saveWithJournaledChanges();
+        long journalSize = Files.size(journalPath);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, 10), StandardOpenOption.APPEND);
+
+        assertEquals(clinicConnectSystem, new ClinicConnectSystem(createStorage(0).readClinicConnectSystem().get()));
+        assertEquals(journalSize, Files.size(journalPath));
+    }
+
+    @Test
+    public void readClinicConnectSystem_corruptedRecordBeforeEnd_throwsDataLoadingException() throws Exception {
+        saveWithJournaledChanges();
+        byte[] journal = Files.readAllBytes(journalPath);
+        journal[12] ^= 1;
+        Files.write(journalPath, journal);
+
+        assertThrows(DataLoadingException.class, () -> createStorage(0).readClinicConnectSystem());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_firstSave_writesWholeData() throws Exception {
+        JournaledClinicConnectSystemStorage storage =
+                createStorage(JournaledClinicConnectSystemStorage.DEFAULT_CHECKPOINT_THRESHOLD_BYTES);
+        clinicConnectSystem.addPatient(new PatientBuilder().withNric("S7654321A").build());
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(clinicConnectSystem, new JsonClinicConnectSystemStorage(filePath).readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_journalPastThreshold_writesWholeData() throws Exception {
+        JournaledClinicConnectSystemStorage storage = createStorage(0);
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        clinicConnectSystem.addPatient(new PatientBuilder().withNric("S7654321A").build());
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(clinicConnectSystem, new JsonClinicConnectSystemStorage(filePath).readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_reset_writesWholeData() throws Exception {
+        JournaledClinicConnectSystemStorage storage = saveWithJournaledChanges();
+        clinicConnectSystem.resetData(new ClinicConnectSystem());
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(new ClinicConnectSystem(),
+                new JsonClinicConnectSystemStorage(filePath).readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_resetCheckpointFailed_nextSaveWritesWholeData() throws Exception {
+        boolean[] isFailing = {false};
+        JournaledClinicConnectSystemStorage storage = new JournaledClinicConnectSystemStorage(
+                new JsonClinicConnectSystemStorage(filePath) {
+                    @Override
+                    public void saveClinicConnectSystem(ReadOnlyClinicConnectSystem data, Path path)
+                            throws IOException {
+                        if (isFailing[0]) {
+                            isFailing[0] = false;
+                            throw new IOException("Disk full");
+                        }
+                        super.saveClinicConnectSystem(data, path);
+                    }
+                }, JournaledClinicConnectSystemStorage.DEFAULT_CHECKPOINT_THRESHOLD_BYTES, 1);
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+
+        isFailing[0] = true;
+        clinicConnectSystem.resetData(new ClinicConnectSystem());
+        assertThrows(IOException.class, () ->
+                storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges()));
+
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, List.of());
+        assertEquals(new ClinicConnectSystem(),
+                new JsonClinicConnectSystemStorage(filePath).readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void checkpointClinicConnectSystem_journaledChanges_writesWholeData() throws Exception {
+        JournaledClinicConnectSystemStorage storage = saveWithJournaledChanges();
+        storage.checkpointClinicConnectSystem(clinicConnectSystem);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(clinicConnectSystem, new JsonClinicConnectSystemStorage(filePath).readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void checkpointClinicConnectSystem_noJournal_doesNotWrite() throws Exception {
+        createStorage(JournaledClinicConnectSystemStorage.DEFAULT_CHECKPOINT_THRESHOLD_BYTES)
+                .checkpointClinicConnectSystem(clinicConnectSystem);
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveClinicConnectSystem_journaledChanges_deletesJournal() throws Exception {
+        JournaledClinicConnectSystemStorage storage = saveWithJournaledChanges();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(clinicConnectSystem, new ClinicConnectSystem(storage.readClinicConnectSystem().get()));
+    }
+}
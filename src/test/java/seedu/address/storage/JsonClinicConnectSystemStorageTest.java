@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPatients.IDA;
 import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ClinicConnectSystem;
 import seedu.address.model.ReadOnlyClinicConnectSystem;
 
@@ -91,6 +95,58 @@ public class JsonClinicConnectSystemStorageTest {
 
     }
 
+    @Test
+    public void saveClinicConnectSystem_prettyPrinted_sameAsJsonString() throws Exception {
+        Path filePath = testFolder.resolve("PrettyClinicConnectSystem.json");
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        new JsonClinicConnectSystemStorage(filePath, true).saveClinicConnectSystem(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableClinicConnectSystem(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveClinicConnectSystem_notPrettyPrinted_readBackSuccess() throws Exception {
+        Path filePath = testFolder.resolve("CompactClinicConnectSystem.json");
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        JsonClinicConnectSystemStorage jsonClinicConnectSystemStorage =
+                new JsonClinicConnectSystemStorage(filePath, false);
+        jsonClinicConnectSystemStorage.saveClinicConnectSystem(original);
+
+        assertTrue(FileUtil.readFromFile(filePath).indexOf('\n') < 0);
+        assertEquals(original, new ClinicConnectSystem(jsonClinicConnectSystemStorage.readClinicConnectSystem().get()));
+    }
+
+    @Test
+    public void saveClinicConnectSystem_existingFile_keepsPreviousVersionAsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        JsonClinicConnectSystemStorage jsonClinicConnectSystemStorage = new JsonClinicConnectSystemStorage(filePath);
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        jsonClinicConnectSystemStorage.saveClinicConnectSystem(original);
+        jsonClinicConnectSystemStorage.saveClinicConnectSystem(new ClinicConnectSystem());
+
+        assertEquals(original, new JsonClinicConnectSystemStorage(FileUtil.getBackupFilePath(filePath))
+                .readClinicConnectSystem().get());
+        assertFalse(Files.exists(FileUtil.getTempFilePath(filePath)));
+    }
+
+    @Test
+    public void readClinicConnectSystem_corruptedFile_readsBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempClinicConnectSystem.json");
+        JsonClinicConnectSystemStorage jsonClinicConnectSystemStorage = new JsonClinicConnectSystemStorage(filePath);
+        ClinicConnectSystem original = getTypicalClinicConnectSystem();
+        jsonClinicConnectSystemStorage.saveClinicConnectSystem(original);
+        jsonClinicConnectSystemStorage.saveClinicConnectSystem(new ClinicConnectSystem());
+        String savedJson = FileUtil.readFromFile(filePath);
+        Files.writeString(filePath, savedJson.substring(0, savedJson.length() / 2));
+
+        assertEquals(original, jsonClinicConnectSystemStorage.readClinicConnectSystem().get());
+
+        // missing file -> backup read
+        Files.delete(filePath);
+        assertEquals(original, jsonClinicConnectSystemStorage.readClinicConnectSystem().get());
+    }
+
     @Test
     public void saveClinicConnectSystem_nullClinicConnectSystem_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
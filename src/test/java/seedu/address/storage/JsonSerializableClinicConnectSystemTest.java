@@ -3,14 +3,26 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.patient.Name;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.TypicalPatients;
 
 public class JsonSerializableClinicConnectSystemTest {
@@ -48,4 +60,65 @@ public class JsonSerializableClinicConnectSystemTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPatients_keepsFileOrder() throws Exception {
+        List<Patient> patients = getManyPatients();
+        JsonSerializableClinicConnectSystem data = new JsonSerializableClinicConnectSystem(patients.stream()
+                .map(JsonAdaptedPatient::new)
+                .collect(Collectors.toList()));
+        assertEquals(patients, data.toModelType().getPatientList());
+    }
+
+    @Test
+    public void toModelType_manyPatientsWithErrors_throwsEarliestError() {
+        List<JsonAdaptedPatient> jsonPatients = getManyPatients().stream()
+                .map(JsonAdaptedPatient::new)
+                .collect(Collectors.toList());
+        jsonPatients.set(jsonPatients.size() - 1, jsonPatients.get(0));
+        jsonPatients.set(jsonPatients.size() / 2, new JsonAdaptedPatient("R@chel", "S1234567J", "F", "2000-01-01",
+                null, null, null, null, null, null, null, null, null, null, null));
+        JsonSerializableClinicConnectSystem data = new JsonSerializableClinicConnectSystem(jsonPatients);
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, data::toModelType);
+    }
+
+    @Test
+    public void readModelType_typicalPatientsFile_success() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(TYPICAL_PATIENTS_FILE);
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            assertEquals(TypicalPatients.getTypicalClinicConnectSystem(),
+                    JsonSerializableClinicConnectSystem.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePatients_throwsIllegalValueException() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(DUPLICATE_PATIENT_FILE);
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            assertThrows(IllegalValueException.class, JsonSerializableClinicConnectSystem.MESSAGE_DUPLICATE_PATIENT,
+                    () -> JsonSerializableClinicConnectSystem.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_moreThanOneChunk_keepsFileOrder() throws Exception {
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableClinicConnectSystem.STREAMING_CHUNK_SIZE + 1; i++) {
+            patients.add(new PatientBuilder().withNric(String.format("S%07dA", i)).build());
+        }
+        String json = JsonUtil.toJsonString(new JsonSerializableClinicConnectSystem(patients.stream()
+                .map(JsonAdaptedPatient::new)
+                .collect(Collectors.toList())));
+        try (InputStream inputStream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+                JsonParser parser = JsonUtil.createParser(inputStream)) {
+            assertEquals(patients, JsonSerializableClinicConnectSystem.readModelType(parser).getPatientList());
+        }
+    }
+
+    private static List<Patient> getManyPatients() {
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableClinicConnectSystem.PARALLEL_CONVERSION_THRESHOLD * 2; i++) {
+            patients.add(new PatientBuilder().withNric(String.format("S%07dA", i)).build());
+        }
+        return patients;
+    }
 }
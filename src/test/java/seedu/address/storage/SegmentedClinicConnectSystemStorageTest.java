@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalClinicConnectSystem;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ClinicConnectSystem;
+import seedu.address.model.ReadOnlyClinicConnectSystem;
+import seedu.address.model.patient.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class SegmentedClinicConnectSystemStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path manifestPath;
+    private ClinicConnectSystem clinicConnectSystem;
+
+    @BeforeEach
+    public void setUp() {
+        manifestPath = testFolder.resolve("data.segments")
+                .resolve(SegmentedClinicConnectSystemStorage.MANIFEST_FILE_NAME);
+        clinicConnectSystem = new ClinicConnectSystem(getTypicalClinicConnectSystem());
+    }
+
+    private SegmentedClinicConnectSystemStorage createStorage() {
+        return new SegmentedClinicConnectSystemStorage(manifestPath, SEGMENT_COUNT);
+    }
+
+    /**
+     * Asserts that {@code expected} and {@code actual} have the same patients, in the same order.
+     */
+    private void assertSamePatients(ReadOnlyClinicConnectSystem expected, ReadOnlyClinicConnectSystem actual) {
+        assertEquals(expected.getPatientList(), actual.getPatientList());
+    }
+
+    private int getManifestSegmentCount() throws Exception {
+        return JsonUtil.readJsonFile(manifestPath, JsonSerializableSegmentManifest.class).get().getSegmentCount();
+    }
+
+    /**
+     * Adds {@code count} patients with NRICs from S0000000A onwards to {@code clinicConnectSystem}.
+     */
+    private void addPatients(int count) {
+        for (int i = 0; i < count; i++) {
+            clinicConnectSystem.addPatient(new PatientBuilder().withNric(String.format("S%07dA", i)).build());
+        }
+    }
+
+    private Set<String> getSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(manifestPath.getParent())) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.startsWith("segment-"))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        Path jsonFilePath = Paths.get("data", "clinicconnectsystem.json");
+        assertEquals(Paths.get("data", "clinicconnectsystem.segments", "manifest.json"),
+                SegmentedClinicConnectSystemStorage.getManifestFilePath(jsonFilePath));
+    }
+
+    @Test
+    public void readClinicConnectSystem_missingManifest_emptyResult() throws Exception {
+        assertFalse(createStorage().readClinicConnectSystem().isPresent());
+    }
+
+    @Test
+    public void readAndSaveClinicConnectSystem_allInOrder_success() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        assertSamePatients(clinicConnectSystem, storage.readClinicConnectSystem().get());
+
+        // Read back with a new storage, e.g. after the app restarts
+        assertSamePatients(clinicConnectSystem, createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_oneChangedPatient_rewritesOnlyItsSegment() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        Set<String> filesBefore = getSegmentFiles();
+
+        Patient patient = new PatientBuilder().withNric("S7654321A").build();
+        clinicConnectSystem.addPatient(patient);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        Set<String> rewrittenFiles = getSegmentFiles();
+        rewrittenFiles.removeAll(filesBefore);
+        assertEquals(1, rewrittenFiles.size());
+        int segment = SegmentedClinicConnectSystemStorage.getSegment(patient.getNric(), SEGMENT_COUNT);
+        assertTrue(rewrittenFiles.iterator().next().startsWith(String.format("segment-%03d-", segment)));
+
+        assertSamePatients(clinicConnectSystem, createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_removedPatients_readBackWithoutThem() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        storage.readClinicConnectSystem();
+
+        for (Patient patient : List.copyOf(clinicConnectSystem.getPatientList())) {
+            clinicConnectSystem.removePatient(patient);
+        }
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertEquals(new ClinicConnectSystem(), createStorage().readClinicConnectSystem().get());
+        assertTrue(getSegmentFiles().isEmpty());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_reset_rewritesAllSegments() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        clinicConnectSystem.resetData(new ClinicConnectSystem());
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertEquals(new ClinicConnectSystem(), createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void readClinicConnectSystem_afterRestart_keepsPatientOrder() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+
+        // Move the first patient to the end of the list
+        Patient firstPatient = clinicConnectSystem.getPatientList().get(0);
+        clinicConnectSystem.removePatient(firstPatient);
+        clinicConnectSystem.addPatient(firstPatient);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertSamePatients(clinicConnectSystem, createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_patientReplacedInMiddle_keepsOrderAndRewritesOnlyItsSegments()
+            throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        storage.readClinicConnectSystem();
+        Set<String> filesBefore = getSegmentFiles();
+
+        Patient replaced = clinicConnectSystem.getPatientList().get(1);
+        Patient replacement = new PatientBuilder(replaced).withNric("S7654321A").build();
+        clinicConnectSystem.setPatient(replaced, replacement);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        Set<String> rewrittenFiles = getSegmentFiles();
+        rewrittenFiles.removeAll(filesBefore);
+        assertTrue(rewrittenFiles.size() <= 2);
+        assertSamePatients(clinicConnectSystem, createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_patientRemovedAndAddedBack_keepsOrder() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        Patient firstPatient = clinicConnectSystem.getPatientList().get(0);
+        clinicConnectSystem.removePatient(firstPatient);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+        clinicConnectSystem.addPatient(firstPatient);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertSamePatients(clinicConnectSystem, createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_manifestDoesNotListPatients() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        Patient patient = new PatientBuilder().withNric("S7654321A").build();
+        clinicConnectSystem.addPatient(patient);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertFalse(Files.readString(manifestPath).contains(patient.getNric().value));
+    }
+
+    @Test
+    public void getSegmentCountFor() {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        int patientsPerSegment = SegmentedClinicConnectSystemStorage.PATIENTS_PER_SEGMENT;
+        assertEquals(SEGMENT_COUNT, storage.getSegmentCountFor(0));
+        assertEquals(SEGMENT_COUNT, storage.getSegmentCountFor(SEGMENT_COUNT * patientsPerSegment));
+        assertEquals(SEGMENT_COUNT + 1, storage.getSegmentCountFor(SEGMENT_COUNT * patientsPerSegment + 1));
+    }
+
+    @Test
+    public void saveClinicConnectSystem_manyPatients_moreSegments() throws Exception {
+        addPatients(SEGMENT_COUNT * SegmentedClinicConnectSystemStorage.PATIENTS_PER_SEGMENT + 1);
+        createStorage().saveClinicConnectSystem(clinicConnectSystem);
+
+        assertEquals(SEGMENT_COUNT + 1, getManifestSegmentCount());
+        assertSamePatients(clinicConnectSystem, createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void saveClinicConnectSystemChanges_segmentsOverfilled_resplitsIntoMoreSegments() throws Exception {
+        SegmentedClinicConnectSystemStorage storage = createStorage();
+        storage.saveClinicConnectSystem(clinicConnectSystem);
+        Set<String> filesBefore = getSegmentFiles();
+
+        addPatients(2 * SEGMENT_COUNT * SegmentedClinicConnectSystemStorage.PATIENTS_PER_SEGMENT);
+        storage.saveClinicConnectSystemChanges(clinicConnectSystem, clinicConnectSystem.takeChanges());
+
+        assertTrue(getManifestSegmentCount() >= 2 * SEGMENT_COUNT);
+        filesBefore.retainAll(getSegmentFiles());
+        assertTrue(filesBefore.isEmpty());
+        assertSamePatients(clinicConnectSystem, createStorage().readClinicConnectSystem().get());
+    }
+
+    @Test
+    public void readClinicConnectSystem_missingSegmentFile_throwsDataLoadingException() throws Exception {
+        createStorage().saveClinicConnectSystem(clinicConnectSystem);
+        Files.delete(manifestPath.resolveSibling(getSegmentFiles().iterator().next()));
+
+        assertThrows(DataLoadingException.class, () -> createStorage().readClinicConnectSystem());
+    }
+}
@@ -94,10 +94,7 @@ public class PatientBuilder {
         nokName = patientToCopy.getNokName();
         nokPhone = patientToCopy.getNokPhone();
         allergies = new AllergyList();
-        appts = new ApptList();
-        for (Appt appt: patientToCopy.getImmutableApptList()) {
-            appts.addAppt(new Appt(appt.getDateTime(), appt.getHealthService()));
-        }
+        appts = new ApptList(patientToCopy.getImmutableApptList());
         for (Allergy allergy : patientToCopy.getAllergies()) {
             allergies.addAllergy(allergy);
         }
@@ -226,7 +223,7 @@ public class PatientBuilder {
     public PatientBuilder withAppts(String dateTime, String healthService) {
         try {
             Appt appt = ParserUtil.parseSingleAppt(dateTime, healthService);
-            appts.addAppt(appt);
+            appts = appts.withAppt(appt);
             return this;
         } catch (ParseException e) {
             return this;